@@ -58,6 +58,7 @@ import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.command.CommandSelectionTab;
+import org.jabref.logic.exporter.BibFileLayout;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -126,6 +127,9 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
 
     private BibDatabaseContext bibDatabaseContext;
 
+    // Positions of the unchanged entries in the file last saved, used to save only the changed entries again
+    private final BibFileLayout bibFileLayout = new BibFileLayout();
+
     // All subscribers needing "coarse" change events should use this filter
     // See https://devdocs.jabref.org/code-howtos/eventbus.html for details
     private CoarseChangeFilter coarseChangeFilter;
@@ -775,6 +779,10 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         return loading;
     }
 
+    public BibFileLayout getBibFileLayout() {
+        return bibFileLayout;
+    }
+
     public CountingUndoManager getUndoManager() {
         return undoManager;
     }
@@ -1,15 +1,15 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
-import java.io.Writer;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -22,20 +22,21 @@ import javafx.scene.control.TableColumn;
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
-import org.jabref.logic.exporter.AtomicFileWriter;
-import org.jabref.logic.exporter.BibDatabaseWriter;
-import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BackupJournal;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
@@ -47,6 +48,10 @@ import org.slf4j.LoggerFactory;
 /// An intelligent {@link java.util.concurrent.ExecutorService} with a {@link java.util.concurrent.BlockingQueue} prevents a high load while making backups and
 /// rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
 /// database.
+///
+/// The library is written without copying it as a whole: only the entries changed by the save actions are copied (see {@link BackupJournal}).
+/// Between two complete backups, only the changed and the removed entries are appended to the journal of the latest complete backup.
+/// A complete backup is written if anything else than the entries changed, or if the journal grew too long.
 public class BackupManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BackupManager.class);
@@ -55,6 +60,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    /// Restoring a backup applies all records of its journal, thus a complete backup is written after that many records
+    private static final int MAXIMUM_JOURNAL_RECORD_COUNT = 1000;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -69,6 +77,14 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Changes since the last backup, guarded by "this"
+    private Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+    private Set<String> removedEntryIds = new HashSet<>();
+    private boolean fullBackupRequired = true;
+
+    // Only accessed by the backup task
+    private BackupJournal journal;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, CoarseChangeFilter coarseChangeFilter, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.coarseChangeFilter = coarseChangeFilter;
@@ -143,6 +159,10 @@ public class BackupManager {
             FileTime latestBackupFileLastModifiedTime;
             try {
                 latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
+                if (Files.exists(journalPath) && (Files.getLastModifiedTime(journalPath).compareTo(latestBackupFileLastModifiedTime) > 0)) {
+                    latestBackupFileLastModifiedTime = Files.getLastModifiedTime(journalPath);
+                }
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -162,7 +182,7 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                boolean result = BackupJournal.restoredDiffers(latestBackupPath, originalPath);
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -175,7 +195,7 @@ public class BackupManager {
         }).orElse(false);
     }
 
-    /// Restores the backup file by copying and overwriting the original one.
+    /// Restores the backup file by overwriting the original one with the backup and the changes recorded in its journal.
     ///
     /// @param originalPath Path to the file which should be equalized to the backup file.
     public static void restoreBackup(Path originalPath, Path backupDir) {
@@ -185,7 +205,9 @@ public class BackupManager {
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            try (InputStream restored = BackupJournal.openRestored(backupPath.get())) {
+                Files.copy(restored, originalPath, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
@@ -201,15 +223,49 @@ public class BackupManager {
     ///
     /// @param backupPath the full path to the file where the library should be backed up to
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
+        Map<String, BibEntry> entriesToBackup;
+        Set<String> entryIdsToRemove;
+        boolean writeFullBackup;
+        synchronized (this) {
+            if (!needsBackup) {
+                return;
+            }
+            entriesToBackup = changedEntries;
+            entryIdsToRemove = removedEntryIds;
+            writeFullBackup = fullBackupRequired
+                    || (journal == null)
+                    || (journal.getRecordCount() + entriesToBackup.size() + entryIdsToRemove.size() > MAXIMUM_JOURNAL_RECORD_COUNT)
+                    // The definitions of custom entry types are part of the complete backup only
+                    || entriesToBackup.values().stream().anyMatch(entry -> entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode()));
+            changedEntries = new LinkedHashMap<>();
+            removedEntryIds = new HashSet<>();
+            fullBackupRequired = false;
+            needsBackup = false;
         }
 
+        try {
+            if (writeFullBackup) {
+                writeFullBackup(backupPath);
+            } else {
+                journal.append(entriesToBackup.values(), entryIdsToRemove, bibDatabaseContext);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error while saving to file {}", writeFullBackup ? backupPath : journal.getBackupPath(), e);
+            synchronized (this) {
+                // Write the next backup completely, as the journal might miss the changes
+                fullBackupRequired = true;
+                needsBackup = true;
+            }
+        }
+    }
+
+    private void writeFullBackup(Path backupPath) throws IOException {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -237,42 +293,18 @@ public class BackupManager {
         SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                 .withMakeBackup(false)
                 .withSaveOrder(saveOrder)
-                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
-
-        // "Clone" the database context
-        // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::new)
-                                                .toList();
-        BibDatabase bibDatabaseClone = new BibDatabase(list);
-        bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
-                          .map(BibtexString.class::cast)
-                          .forEach(bibDatabaseClone::addString);
-        BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
-
-        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
-        // We want to have successful backups only
-        // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
-        // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
-        //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
-            BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
-            new BibDatabaseWriter(
-                    bibWriter,
-                    saveConfiguration,
-                    preferences.getFieldPreferences(),
-                    preferences.getCitationKeyPatternPreferences(),
-                    entryTypesManager)
-                    // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .writeDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
-        } catch (IOException e) {
-            LOGGER.error("Error while saving to file {}", backupPath, e);
-        }
+                .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave())
+                // The writer copies the entries it changes, thus the original database (and thus the UI) is not changed
+                .withKeepEntriesUnchanged(true);
+
+        journal = BackupJournal.writeFullBackup(
+                backupPath,
+                bibDatabaseContext,
+                saveConfiguration,
+                preferences.getFieldPreferences(),
+                preferences.getCitationKeyPatternPreferences(),
+                entryTypesManager);
+        backupFilesQueue.add(backupPath);
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -293,7 +325,22 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        switch (event) {
+            case EntriesAddedEvent addedEvent -> addedEvent.getBibEntries().forEach(entry -> {
+                changedEntries.put(entry.getId(), entry);
+                removedEntryIds.remove(entry.getId());
+            });
+            case EntriesRemovedEvent removedEvent -> removedEvent.getBibEntries().forEach(entry -> {
+                changedEntries.remove(entry.getId());
+                removedEntryIds.add(entry.getId());
+            });
+            case FieldChangedEvent fieldChangedEvent when fieldChangedEvent.getField() == InternalField.INTERNAL_ID_FIELD ->
+                    fullBackupRequired = true;
+            case EntryChangedEvent changedEvent -> changedEntries.put(changedEvent.getBibEntry().getId(), changedEvent.getBibEntry());
+            default -> fullBackupRequired = true;
+        }
+        // Filtered events are part of a larger edit: the changed entry is remembered, but the backup is made after the edit
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
@@ -319,8 +366,9 @@ public class BackupManager {
             final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
             try {
                 List<Path> allSavFiles = Files.list(backupDir)
-                                              // just list the .sav belonging to the given targetFile
+                                              // just list the .bak belonging to the given targetFile, but not their journals
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              .filter(p -> p.getFileName().toString().endsWith("." + BackupFileType.BACKUP.getExtensions().getFirst()))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -1,6 +1,7 @@
 package org.jabref.gui.dialogs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -22,9 +23,11 @@ import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.undo.NamedCompoundEdit;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.exporter.BackupJournal;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.io.BackupFileUtil;
@@ -48,6 +51,16 @@ public class BackupUIManager {
                                                                  FileUpdateMonitor fileUpdateMonitor,
                                                                  UndoManager undoManager,
                                                                  StateManager stateManager) {
+        Path backupDir = preferences.getFilePreferences().getBackupDirectory();
+        // The dialogs below read the backup file directly (e.g., to review it or to show it in the file manager).
+        // Thus, the changes recorded in the journal are written into the backup file first.
+        BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, backupDir).ifPresent(backupPath -> {
+            try {
+                BackupJournal.consolidate(backupPath);
+            } catch (IOException e) {
+                LOGGER.error("Could not apply the journal to the backup file {}", backupPath, e);
+            }
+        });
         Optional<ButtonType> actionOpt = showBackupResolverDialog(
                 dialogService,
                 preferences.getExternalApplicationsPreferences(),
@@ -88,7 +101,14 @@ public class BackupUIManager {
             BibDatabaseContext originalDatabase = originalParserResult.getDatabaseContext();
 
             Path backupPath = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, preferences.getFilePreferences().getBackupDirectory()).orElseThrow();
-            BibDatabaseContext backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            // The backup file may be followed by a journal of changed entries. Thus, the backup is read as restored.
+            // The journal does not change the header of the backup file, which holds the encoding.
+            BibDatabaseContext backupDatabase;
+            try (InputStream restoredBackup = BackupJournal.openRestored(backupPath)) {
+                backupDatabase = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor())
+                        .importDatabase(restoredBackup, BibtexImporter.getEncodingResult(backupPath))
+                        .getDatabaseContext();
+            }
 
             DatabaseChangeResolverFactory changeResolverFactory = new DatabaseChangeResolverFactory(dialogService, originalDatabase, preferences, stateManager);
 
@@ -27,6 +27,7 @@ import org.jabref.gui.undo.NamedCompoundEdit;
 import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateFinder;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
@@ -101,24 +102,19 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        new DuplicateCandidateFinder(new DuplicateCheck(entryTypesManager)).findDuplicates(entries, databaseMode, this::addDuplicate);
+        if (Thread.interrupted()) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
 
+    /// Called concurrently by the [DuplicateCandidateFinder]
+    private synchronized void addDuplicate(BibEntry first, BibEntry second) {
+        duplicates.add(Arrays.asList(first, second));
+        duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+    }
+
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
@@ -29,7 +29,9 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibFileLayout;
 import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.IncrementalBibDatabaseWriter;
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.l10n.Localization;
@@ -250,15 +252,31 @@ public class SaveDatabaseAction {
         SelfContainedSaveConfiguration saveConfiguration
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
+        // Only the library file itself is saved incrementally
+        boolean incremental = !selectedOnly && (saveType == BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA);
+        BibFileLayout fileLayout = libraryTab.getBibFileLayout();
         synchronized (bibDatabaseContext) {
+            boolean encodingProblems = false;
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
-                BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
-                BibDatabaseWriter databaseWriter = new BibDatabaseWriter(
-                        bibWriter,
-                        saveConfiguration,
-                        preferences.getFieldPreferences(),
-                        preferences.getCitationKeyPatternPreferences(),
-                        entryTypesManager);
+                String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+                BibDatabaseWriter databaseWriter;
+                if (incremental) {
+                    databaseWriter = new IncrementalBibDatabaseWriter(
+                            fileWriter,
+                            newLineSeparator,
+                            fileLayout,
+                            saveConfiguration,
+                            preferences.getFieldPreferences(),
+                            preferences.getCitationKeyPatternPreferences(),
+                            entryTypesManager);
+                } else {
+                    databaseWriter = new BibDatabaseWriter(
+                            new BibWriter(fileWriter, newLineSeparator),
+                            saveConfiguration,
+                            preferences.getFieldPreferences(),
+                            preferences.getCitationKeyPatternPreferences(),
+                            entryTypesManager);
+                }
 
                 if (selectedOnly) {
                     databaseWriter.writePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
@@ -269,6 +287,8 @@ public class SaveDatabaseAction {
                 libraryTab.registerUndoableChanges(databaseWriter.getSaveActionsFieldChanges());
 
                 if (fileWriter.hasEncodingProblems()) {
+                    // The file may be written again with another encoding before this writer is closed
+                    encodingProblems = true;
                     saveWithDifferentEncoding(file, selectedOnly, encoding, fileWriter.getEncodingProblems(), saveType, saveOrder);
                 }
             } catch (UnsupportedCharsetException ex) {
@@ -276,6 +296,13 @@ public class SaveDatabaseAction {
             } catch (IOException ex) {
                 throw new SaveException("Problems saving: " + ex, ex);
             }
+            if (incremental) {
+                if (encodingProblems) {
+                    fileLayout.invalidate();
+                } else {
+                    fileLayout.confirm();
+                }
+            }
             return true;
         }
     }
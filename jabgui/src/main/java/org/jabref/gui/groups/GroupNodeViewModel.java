@@ -1,5 +1,6 @@
 package org.jabref.gui.groups;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,11 +46,14 @@ import org.jabref.model.groups.DateGroup;
 import org.jabref.model.groups.EntryTypeGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
 import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.SearchGroupMatchDelta;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
@@ -295,6 +299,8 @@ public class GroupNodeViewModel {
     }
 
     private void refreshGroup() {
+        // The entries contained in the group changed without a change of the entries themselves
+        databaseContext.getGroupMembershipIndex().invalidate(groupNode.getGroup());
         UiTaskExecutor.runInJavaFXThread(() -> {
             updateMatchedEntries(); // Update the entries matched by the group
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
@@ -311,9 +317,13 @@ public class GroupNodeViewModel {
         // for example, a previously matched entry gets removed -> hits = hits - 1
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> databaseContext.getDatabase().getEntries().stream()
-                                               .filter(e -> isMatchEffective(this, e))
-                                               .toList())
+                    .wrap(() -> {
+                        GroupMembershipIndex membershipIndex = databaseContext.getGroupMembershipIndex();
+                        // The bitmaps are only valid until the library changes
+                        synchronized (membershipIndex) {
+                            return membershipIndex.getEntries(getEffectiveMatches(membershipIndex, this));
+                        }
+                    })
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         // ADR-0038
@@ -628,6 +638,26 @@ public class GroupNodeViewModel {
         };
     }
 
+    /// Computes [#isMatchEffective(GroupNodeViewModel, BibEntry)] for all entries at once
+    private BitSet getEffectiveMatches(GroupMembershipIndex membershipIndex, GroupNodeViewModel vm) {
+        GroupTreeNode node = vm.groupNode;
+        BitSet matches = membershipIndex.getMatches(node);
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if (context == GroupHierarchyType.INCLUDING) {
+            // recursively include VM-children (including auto-groups)
+            for (GroupNodeViewModel childVm : vm.children) {
+                matches.or(getEffectiveMatches(membershipIndex, childVm));
+            }
+        } else if (context == GroupHierarchyType.REFINING) {
+            Optional<GroupTreeNode> parent = node.getParent();
+            while (parent.isPresent()) {
+                matches.and(membershipIndex.getMatches(parent.get()));
+                parent = parent.get().getParent();
+            }
+        }
+        return matches;
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
@@ -643,22 +673,40 @@ public class GroupNodeViewModel {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
-                stateManager.getIndexManager(databaseContext).ifPresent(indexManager ->
-                        BackgroundTask.wrap(() -> {
-                            for (BibEntry entry : event.entries()) {
-                                searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
-                            }
-                        }).onFinished(() -> {
-                            for (BibEntry entry : event.entries()) {
-                                if (GroupNodeViewModel.this.isMatchEffective(GroupNodeViewModel.this, entry)) {
-                                    matchedEntries.add(entry.getId());
-                                } else {
-                                    matchedEntries.remove(entry.getId());
+                SearchGroupMatchDelta delta = event.searchGroupDeltas().get(searchGroup);
+                if (delta == null) {
+                    // The group was not part of the library when the entries were indexed, or indexing failed
+                    stateManager.getIndexManager(databaseContext).ifPresent(indexManager ->
+                            BackgroundTask.wrap(() -> {
+                                for (BibEntry entry : event.entries()) {
+                                    searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
                                 }
-                            }
-                            databaseContext.getMetaData().groupsBinding().invalidate();
-                        }).executeWith(taskExecutor));
+                                // The membership index evaluated the group for the event before the matches were updated
+                                databaseContext.getGroupMembershipIndex().update(searchGroup, event.entries());
+                            }).onFinished(() -> updateEffectiveMatches(event.entries())).executeWith(taskExecutor));
+                } else if (searchGroup.getHierarchicalContext() == GroupHierarchyType.INDEPENDENT) {
+                    if (!delta.isEmpty()) {
+                        // ADR-0038
+                        matchedEntries.addAll(delta.matched());
+                        matchedEntries.removeAll(delta.unmatched());
+                        databaseContext.getMetaData().groupsBinding().invalidate();
+                    }
+                } else {
+                    // Whether an entry is in an including or refining group also depends on the other groups
+                    updateEffectiveMatches(event.entries());
+                }
+            }
+        }
+
+        private void updateEffectiveMatches(List<BibEntry> entries) {
+            for (BibEntry entry : entries) {
+                if (GroupNodeViewModel.this.isMatchEffective(GroupNodeViewModel.this, entry)) {
+                    matchedEntries.add(entry.getId());
+                } else {
+                    matchedEntries.remove(entry.getId());
+                }
             }
+            databaseContext.getMetaData().groupsBinding().invalidate();
         }
 
         @Subscribe
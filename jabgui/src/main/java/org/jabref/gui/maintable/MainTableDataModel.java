@@ -29,10 +29,9 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
@@ -65,7 +64,7 @@ public class MainTableDataModel {
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
     @Nullable private final IndexManager indexManager;
 
-    private Optional<MatcherSet> groupsMatcher;
+    private Optional<SearchMatcher> groupsMatcher;
 
     public MainTableDataModel(BibDatabaseContext context,
                               GuiPreferences preferences,
@@ -82,7 +81,7 @@ public class MainTableDataModel {
         this.bibDatabaseContext = context;
         this.searchQueryProperty = searchQueryProperty;
         this.indexUpdatedListener = new SearchIndexListener();
-        this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences);
+        this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences, context);
 
         this.bibDatabaseContext.getDatabase().registerListener(indexUpdatedListener);
         resetFieldFormatter();
@@ -164,14 +163,14 @@ public class MainTableDataModel {
 
     private void updateGroupMatches(ObservableList<GroupTreeNode> groups) {
         BackgroundTask.wrap(() -> {
-            groupsMatcher = createGroupMatcher(groups, groupsPreferences);
+            groupsMatcher = createGroupMatcher(groups, groupsPreferences, bibDatabaseContext);
             boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
             entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
-    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
+    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<SearchMatcher> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
         entry.isMatchedByGroup().set(isMatched);
@@ -183,21 +182,15 @@ public class MainTableDataModel {
         }
     }
 
-    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+    private static Optional<SearchMatcher> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences, BibDatabaseContext context) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)
-                ? MatcherSets.MatcherType.AND
-                : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        return Optional.of(context.getGroupMembershipIndex().createMatcher(
+                selectedGroups,
+                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)));
     }
 
     public void unbind() {
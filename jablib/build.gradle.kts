@@ -289,6 +289,13 @@ jmh {
     zip64  = true
 }
 
+tasks.register<JavaExec>("entryFootprint") {
+    group = "benchmark"
+    description = "Measures the heap retained by entries"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.jabref.benchmarks.EntryFootprint"
+}
+
 val testSourceSet = sourceSets.test.get()
 
 tasks.register<Test>("fetcherTest") {
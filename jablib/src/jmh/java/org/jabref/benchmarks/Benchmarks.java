@@ -3,22 +3,36 @@ package org.jabref.benchmarks;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.database.DuplicateCandidateFinder;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibFileLayout;
 import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.IncrementalBibDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.os.OS;
@@ -26,8 +40,18 @@ import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.indexing.PdfExtractionSettings;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.logic.shared.DBMSConnection;
+import org.jabref.logic.shared.DBMSConnectionPool;
+import org.jabref.logic.shared.DBMSConnectionProperties;
+import org.jabref.logic.shared.DBMSConnectionPropertiesBuilder;
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSType;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.NotificationService;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -49,10 +73,14 @@ import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
 import com.airhacks.afterburner.injection.Injector;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
 import org.apache.commons.io.FileUtils;
 import org.mockito.Answers;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -73,6 +101,7 @@ public class Benchmarks {
     private SearchQuery fulltextSearchQuery;
     private Path luceneIndexDir;
     private List<BibEntry> pdfEntries;
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
 
     @Setup
     public void init() throws IOException {
@@ -91,7 +120,7 @@ public class Benchmarks {
             database.insertEntry(entry);
         }
 
-        bibtexString = getOutputWriter().toString();
+        bibtexString = getOutputWriter(database).toString();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
@@ -115,7 +144,7 @@ public class Benchmarks {
         );
         when(linkedFilesContext.getEntries()).thenReturn(pdfEntries);
 
-        linkedFilesIndexer = new DefaultLinkedFilesIndexer(linkedFilesContext, filePreferences);
+        linkedFilesIndexer = new DefaultLinkedFilesIndexer(linkedFilesContext, filePreferences, PdfExtractionSettings.DEFAULT);
         linkedFilesIndexer.addToIndex(pdfEntries, mock(BackgroundTask.class));
 
         linkedFilesSearcher = new LinkedFilesSearcher(linkedFilesContext, linkedFilesIndexer, filePreferences);
@@ -123,7 +152,7 @@ public class Benchmarks {
         fulltextSearchQuery = new SearchQuery("title", EnumSet.of(SearchFlags.FULLTEXT));
     }
 
-    private StringWriter getOutputWriter() throws IOException {
+    private static StringWriter getOutputWriter(BibDatabase databaseToWrite) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(outputWriter, OS.NEWLINE);
         SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
@@ -136,10 +165,31 @@ public class Benchmarks {
                 fieldPreferences,
                 citationKeyPatternPreferences,
                 new BibEntryTypesManager());
-        databaseWriter.writePartOfDatabase(new BibDatabaseContext(database, new MetaData()), database.getEntries());
+        databaseWriter.writePartOfDatabase(new BibDatabaseContext(databaseToWrite, new MetaData()), databaseToWrite.getEntries());
         return outputWriter;
     }
 
+    /// Creates 1000 entries with the same field values.
+    /// Run with the `gc` profiler (`-prof gc`) to get the bytes allocated while creating them, including garbage.
+    /// The heap the entries retain is measured by [EntryFootprint].
+    @Benchmark
+    public List<BibEntry> createEntries() {
+        return createEntries(1000);
+    }
+
+    static List<BibEntry> createEntries(int count) {
+        List<BibEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "A Title")
+                    .withField(StandardField.AUTHOR, "Lastname, Firstname and LastnameA, FirstnameA")
+                    .withField(StandardField.JOURNAL, "Journal Title")
+                    .withField(StandardField.YEAR, "2020")
+                    .withField(StandardField.PAGES, "1--10"));
+        }
+        return entries;
+    }
+
     @Benchmark
     public ParserResult parse() throws IOException {
         CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
@@ -147,9 +197,108 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    /// A library of 100,000 entries and its BibTeX. Only created for the benchmarks using it.
+    @State(Scope.Benchmark)
+    public static class LargeLibrary {
+        private final BibDatabase database = new BibDatabase();
+        private String bibtexString;
+
+        @Setup
+        public void create() throws IOException {
+            for (int i = 0; i < 100_000; i++) {
+                database.insertEntry(new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("large" + i)
+                        .withField(StandardField.TITLE, "A {Title} with some {\\LaTeX} commands and $math$ " + i)
+                        .withField(StandardField.AUTHOR, "Lastname, Firstname and LastnameA, FirstnameA and LastnameB, FirstnameB")
+                        .withField(StandardField.JOURNAL, "Journal Title " + (i % 100))
+                        .withField(StandardField.ABSTRACT, "An abstract of a few sentences. ".repeat(20))
+                        .withField(StandardField.YEAR, String.valueOf(1900 + (i % 125)))
+                        .withChanged(true));
+            }
+            bibtexString = getOutputWriter(database).toString();
+        }
+
+        BibDatabaseContext parse(String bibtex) throws IOException {
+            ParserResult parserResult = new BibtexParser(JabRefCliPreferences.getInstance().getImportFormatPreferences()).parse(new StringReader(bibtex));
+            return new BibDatabaseContext(parserResult.getDatabase(), parserResult.getMetaData());
+        }
+    }
+
+    @Benchmark
+    public ParserResult parseLargeLibrary(LargeLibrary largeLibrary) throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parse(new StringReader(largeLibrary.bibtexString));
+    }
+
     @Benchmark
     public String write() throws IOException {
-        return getOutputWriter().toString();
+        return getOutputWriter(database).toString();
+    }
+
+    @Benchmark
+    public String writeLargeLibrary(LargeLibrary largeLibrary) throws IOException {
+        return getOutputWriter(largeLibrary.database).toString();
+    }
+
+    /// The parsed large library, saved once to a file so that the following saves can copy unchanged entries
+    @State(Scope.Thread)
+    public static class IncrementallySavedLibrary {
+        private final BibFileLayout layout = new BibFileLayout();
+        private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        private BibDatabaseContext context;
+        private Path saveDir;
+
+        @Setup
+        public void saveOnce(LargeLibrary largeLibrary) throws IOException {
+            context = largeLibrary.parse(largeLibrary.bibtexString);
+            saveDir = Files.createTempDirectory("jabref-benchmark-save");
+            // The first save writes the complete library and records the layout for the following ones
+            save();
+        }
+
+        void save() throws IOException {
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(saveDir.resolve("large.bib"), StandardCharsets.UTF_8)) {
+                new IncrementalBibDatabaseWriter(
+                        fileWriter,
+                        OS.NEWLINE,
+                        layout,
+                        new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false),
+                        new FieldPreferences(true, List.of(), List.of()),
+                        mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                        entryTypesManager).writeDatabase(context);
+            }
+            layout.confirm();
+        }
+
+        @TearDown
+        public void delete() throws IOException {
+            FileUtils.deleteDirectory(saveDir.toFile());
+        }
+    }
+
+    @Benchmark
+    public void saveLargeLibraryIncrementally(IncrementallySavedLibrary library) throws IOException {
+        library.context.getDatabase().getEntries().getFirst().setField(StandardField.NOTE, "Edited " + System.nanoTime());
+        library.save();
+    }
+
+    /// The parsed large library and the same library after an external change of one entry
+    @State(Scope.Benchmark)
+    public static class ExternallyChangedLibrary {
+        private BibDatabaseContext context;
+        private BibDatabaseContext changedContext;
+
+        @Setup
+        public void parse(LargeLibrary largeLibrary) throws IOException {
+            context = largeLibrary.parse(largeLibrary.bibtexString);
+            changedContext = largeLibrary.parse(largeLibrary.bibtexString.replace("{large42,", "{large42changed,"));
+        }
+    }
+
+    @Benchmark
+    public int compareLargeLibraryWithExternallyChangedFile(ExternallyChangedLibrary library) {
+        return BibDatabaseDiff.compare(library.context, library.changedContext).getEntryDifferences().size();
     }
 
     @Benchmark
@@ -192,6 +341,188 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public int duplicateSearchExhaustive() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        List<BibEntry> entries = database.getEntries();
+        int duplicates = 0;
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates++;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int duplicateSearchWithBlocking() {
+        AtomicInteger duplicates = new AtomicInteger();
+        new DuplicateCandidateFinder(new DuplicateCheck(entryTypesManager))
+                .findDuplicates(database.getEntries(), BibDatabaseMode.BIBTEX, (_, _) -> duplicates.incrementAndGet());
+        return duplicates.get();
+    }
+
+    /// The built-in journal abbreviations and misspelled journal names to look up
+    @State(Scope.Benchmark)
+    public static class JournalNames {
+        private JournalAbbreviationRepository repository;
+        private List<String> misspelledNames;
+
+        @Setup
+        public void load() {
+            repository = JournalAbbreviationLoader.loadBuiltInRepository();
+            // More names than fit into the lookup cache of the repository
+            misspelledNames = repository.getAllLoaded().stream()
+                                        .map(Abbreviation::getName)
+                                        .filter(name -> name.split(" ").length > 2)
+                                        .limit(4096)
+                                        .map(name -> name.substring(0, name.length() - 2) + "xx")
+                                        .toList();
+        }
+    }
+
+    @Benchmark
+    public long journalAbbreviationFuzzyLookup(JournalNames journalNames) {
+        return journalNames.misspelledNames.stream()
+                                           .map(journalNames.repository::get)
+                                           .filter(Optional::isPresent)
+                                           .count();
+    }
+
+    /// Two embedding stores with the same 10,000 random embeddings, one searched exactly and one using the approximate nearest neighbour index
+    @State(Scope.Benchmark)
+    public static class EmbeddingStores {
+        private Path directory;
+        private MVStoreEmbeddingStore approximateStore;
+        private MVStoreEmbeddingStore exactStore;
+        private EmbeddingSearchRequest searchRequest;
+
+        @Setup
+        public void fill() throws IOException {
+            Random randomizer = new Random();
+            directory = Files.createTempDirectory("jabref-benchmark-embeddings");
+            approximateStore = new MVStoreEmbeddingStore(directory.resolve("approximate.mv"), mock(NotificationService.class), true);
+            exactStore = new MVStoreEmbeddingStore(directory.resolve("exact.mv"), mock(NotificationService.class), false);
+            for (int i = 0; i < 10_000; i++) {
+                Embedding embedding = randomEmbedding(randomizer);
+                approximateStore.add(embedding);
+                exactStore.add(embedding);
+            }
+            searchRequest = EmbeddingSearchRequest.builder()
+                                                  .queryEmbedding(randomEmbedding(randomizer))
+                                                  .maxResults(10)
+                                                  .build();
+            approximateStore.buildIndex();
+        }
+
+        private static Embedding randomEmbedding(Random randomizer) {
+            // Dimension of the default embedding model
+            float[] vector = new float[384];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = (float) randomizer.nextGaussian();
+            }
+            return Embedding.from(vector);
+        }
+
+        @TearDown
+        public void close() throws IOException {
+            approximateStore.close();
+            exactStore.close();
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+    }
+
+    @Benchmark
+    public int embeddingSearchExact(EmbeddingStores stores) {
+        return stores.exactStore.search(stores.searchRequest).matches().size();
+    }
+
+    @Benchmark
+    public int embeddingSearchApproximate(EmbeddingStores stores) {
+        return stores.approximateStore.search(stores.searchRequest).matches().size();
+    }
+
+    /// A shared database on an embedded PostgreSQL server. Only started for the benchmarks using it.
+    @State(Scope.Benchmark)
+    public static class SharedDatabase {
+        private EmbeddedPostgres server;
+        private DBMSConnectionPool connectionPool;
+        private DBMSProcessor processor;
+        private List<BibEntry> entries;
+
+        @Setup
+        public void start() throws IOException, SQLException, InvalidDBMSConnectionPropertiesException {
+            server = EmbeddedPostgres.builder()
+                                     .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                     .start();
+            DBMSConnectionProperties properties = new DBMSConnectionPropertiesBuilder()
+                    .setType(DBMSType.POSTGRESQL)
+                    .setHost("localhost")
+                    .setPort(server.getPort())
+                    .setDatabase("postgres")
+                    .setUser("postgres")
+                    .setPassword("postgres")
+                    .setUseSSL(false)
+                    .createDBMSConnectionProperties();
+            processor = DBMSProcessor.getProcessorInstance(new DBMSConnection(properties));
+            processor.setupSharedDatabase();
+            connectionPool = new DBMSConnectionPool(properties);
+            processor.setConnectionPool(connectionPool);
+            entries = createSharedEntries();
+            processor.insertEntries(entries);
+        }
+
+        static List<BibEntry> createSharedEntries() {
+            List<BibEntry> entries = new ArrayList<>(1000);
+            for (int i = 0; i < 1000; i++) {
+                entries.add(new BibEntry()
+                        .withCitationKey("id" + i)
+                        .withField(StandardField.TITLE, "This is my title " + i)
+                        .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                        .withField(StandardField.JOURNAL, "Journal Title " + i)
+                        .withField(StandardField.KEYWORDS, "testkeyword")
+                        .withField(StandardField.YEAR, "1" + i));
+            }
+            return entries;
+        }
+
+        @TearDown
+        public void stop() throws IOException {
+            connectionPool.close();
+            server.close();
+        }
+    }
+
+    /// The entries inserted by [#insertSharedEntries(SharedDatabase, SharedEntriesToInsert)].
+    /// They are created before and removed after each invocation, so that only inserting them is measured.
+    @State(Scope.Thread)
+    public static class SharedEntriesToInsert {
+        private List<BibEntry> entries;
+
+        @Setup(Level.Invocation)
+        public void create() {
+            entries = SharedDatabase.createSharedEntries();
+        }
+
+        @TearDown(Level.Invocation)
+        public void remove(SharedDatabase sharedDatabase) {
+            sharedDatabase.processor.removeEntries(entries);
+        }
+    }
+
+    @Benchmark
+    public void insertSharedEntries(SharedDatabase sharedDatabase, SharedEntriesToInsert entriesToInsert) {
+        sharedDatabase.processor.insertEntries(entriesToInsert.entries);
+    }
+
+    @Benchmark
+    public List<OfflineLockException> updateSharedEntries(SharedDatabase sharedDatabase) throws SQLException {
+        // The content does not change, so that no update is refused
+        return sharedDatabase.processor.updateEntries(sharedDatabase.entries);
+    }
+
     @TearDown
     public void tearDown() throws IOException {
         linkedFilesIndexer.closeAndWait();
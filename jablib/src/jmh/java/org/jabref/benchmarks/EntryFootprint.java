@@ -0,0 +1,44 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Locale;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/// Measures the heap retained by entries, in contrast to the allocation rate reported for [Benchmarks#createEntries()].
+///
+/// The used heap is compared before and after creating the entries and inserting them into a library, each time after a garbage collection.
+/// The entries are created in the same way as for the benchmark.
+/// As entries are part of a library in practice, the retained heap includes everything the library keeps per entry, such as its indexes and event relays.
+///
+/// Run it using `./gradlew :jablib:entryFootprint`.
+public class EntryFootprint {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+    private static final int NUMBER_OF_RUNS = 5;
+
+    static void main(String[] args) {
+        for (int run = 1; run <= NUMBER_OF_RUNS; run++) {
+            long usedBefore = usedHeapAfterGc();
+            List<BibEntry> entries = Benchmarks.createEntries(NUMBER_OF_ENTRIES);
+            BibDatabase database = new BibDatabase(entries);
+            long retained = usedHeapAfterGc() - usedBefore;
+            Reference.reachabilityFence(database);
+            System.out.printf(Locale.ROOT, "Run %d: %d entries retain %d bytes, %d bytes per entry%n",
+                    run, NUMBER_OF_ENTRIES, retained, retained / NUMBER_OF_ENTRIES);
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // One collection may not free everything, e.g., objects having a finalizer or being in a reference queue
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
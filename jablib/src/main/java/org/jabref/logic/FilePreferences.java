@@ -4,8 +4,10 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -25,6 +27,9 @@ public class FilePreferences {
     private final StringProperty fileDirectoryPattern = new SimpleStringProperty();
     private final BooleanProperty downloadLinkedFiles = new SimpleBooleanProperty();
     private final BooleanProperty fulltextIndexLinkedFiles = new SimpleBooleanProperty();
+    private final IntegerProperty fulltextIndexWorkers = new SimpleIntegerProperty();
+    private final IntegerProperty fulltextIndexTimeoutPerFile = new SimpleIntegerProperty();
+    private final IntegerProperty fulltextIndexMaxMainMemoryPerFile = new SimpleIntegerProperty();
     private final ObjectProperty<Path> workingDirectory = new SimpleObjectProperty<>();
     private final BooleanProperty createBackup = new SimpleBooleanProperty();
     private final ObjectProperty<Path> backupDirectory = new SimpleObjectProperty<>();
@@ -48,6 +53,9 @@ public class FilePreferences {
                            String fileDirectoryPattern,
                            boolean downloadLinkedFiles,
                            boolean fulltextIndexLinkedFiles,
+                           int fulltextIndexWorkers,
+                           int fulltextIndexTimeoutPerFile,
+                           int fulltextIndexMaxMainMemoryPerFile,
                            Path workingDirectory,
                            boolean createBackup,
                            Path backupDirectory,
@@ -68,6 +76,9 @@ public class FilePreferences {
         this.fileDirectoryPattern.setValue(fileDirectoryPattern);
         this.downloadLinkedFiles.setValue(downloadLinkedFiles);
         this.fulltextIndexLinkedFiles.setValue(fulltextIndexLinkedFiles);
+        this.fulltextIndexWorkers.set(fulltextIndexWorkers);
+        this.fulltextIndexTimeoutPerFile.set(fulltextIndexTimeoutPerFile);
+        this.fulltextIndexMaxMainMemoryPerFile.set(fulltextIndexMaxMainMemoryPerFile);
         this.workingDirectory.setValue(workingDirectory);
         this.createBackup.setValue(createBackup);
         this.backupDirectory.setValue(backupDirectory);
@@ -178,6 +189,45 @@ public class FilePreferences {
         this.fulltextIndexLinkedFiles.set(shouldFulltextIndexLinkedFiles);
     }
 
+    /// Number of linked files read in parallel for the fulltext index
+    public int getFulltextIndexWorkers() {
+        return fulltextIndexWorkers.get();
+    }
+
+    public IntegerProperty fulltextIndexWorkersProperty() {
+        return fulltextIndexWorkers;
+    }
+
+    public void setFulltextIndexWorkers(int fulltextIndexWorkers) {
+        this.fulltextIndexWorkers.set(fulltextIndexWorkers);
+    }
+
+    /// Seconds after which reading a single linked file for the fulltext index is given up
+    public int getFulltextIndexTimeoutPerFile() {
+        return fulltextIndexTimeoutPerFile.get();
+    }
+
+    public IntegerProperty fulltextIndexTimeoutPerFileProperty() {
+        return fulltextIndexTimeoutPerFile;
+    }
+
+    public void setFulltextIndexTimeoutPerFile(int fulltextIndexTimeoutPerFile) {
+        this.fulltextIndexTimeoutPerFile.set(fulltextIndexTimeoutPerFile);
+    }
+
+    /// Megabytes of main memory that may be used for reading a single linked file for the fulltext index
+    public int getFulltextIndexMaxMainMemoryPerFile() {
+        return fulltextIndexMaxMainMemoryPerFile.get();
+    }
+
+    public IntegerProperty fulltextIndexMaxMainMemoryPerFileProperty() {
+        return fulltextIndexMaxMainMemoryPerFile;
+    }
+
+    public void setFulltextIndexMaxMainMemoryPerFile(int fulltextIndexMaxMainMemoryPerFile) {
+        this.fulltextIndexMaxMainMemoryPerFile.set(fulltextIndexMaxMainMemoryPerFile);
+    }
+
     public Path getWorkingDirectory() {
         return workingDirectory.get();
     }
@@ -77,6 +77,7 @@ public class AiDefaultPreferences {
     public static final int DOCUMENT_SPLITTER_OVERLAP = 100;
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
+    public static final boolean APPROXIMATE_EMBEDDING_SEARCH = true;
 
     public static final int FALLBACK_CONTEXT_WINDOW_SIZE = 8196;
 
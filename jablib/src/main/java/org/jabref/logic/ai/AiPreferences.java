@@ -59,6 +59,7 @@ public class AiPreferences {
     private final IntegerProperty documentSplitterOverlapSize;
     private final IntegerProperty ragMaxResultsCount;
     private final DoubleProperty ragMinScore;
+    private final BooleanProperty approximateEmbeddingSearch;
 
     private final Map<AiTemplate, StringProperty> templates;
 
@@ -86,6 +87,7 @@ public class AiPreferences {
                          int documentSplitterOverlapSize,
                          int ragMaxResultsCount,
                          double ragMinScore,
+                         boolean approximateEmbeddingSearch,
                          Map<AiTemplate, String> templates
     ) {
         this.enableAi = new SimpleBooleanProperty(enableAi);
@@ -115,6 +117,7 @@ public class AiPreferences {
         this.documentSplitterOverlapSize = new SimpleIntegerProperty(documentSplitterOverlapSize);
         this.ragMaxResultsCount = new SimpleIntegerProperty(ragMaxResultsCount);
         this.ragMinScore = new SimpleDoubleProperty(ragMinScore);
+        this.approximateEmbeddingSearch = new SimpleBooleanProperty(approximateEmbeddingSearch);
 
         this.apiKeyChangeListener = () -> {
         };
@@ -461,6 +464,19 @@ public class AiPreferences {
         this.ragMinScore.set(ragMinScore);
     }
 
+    public BooleanProperty approximateEmbeddingSearchProperty() {
+        return approximateEmbeddingSearch;
+    }
+
+    /// Whether large embedding stores are searched with an approximate nearest neighbour index instead of comparing the question with every embedding
+    public boolean getApproximateEmbeddingSearch() {
+        return approximateEmbeddingSearch.get();
+    }
+
+    public void setApproximateEmbeddingSearch(boolean approximateEmbeddingSearch) {
+        this.approximateEmbeddingSearch.set(approximateEmbeddingSearch);
+    }
+
     /// Listen to changes of preferences that are related to embeddings generation.
     ///
     /// @param runnable The runnable that should be executed when the preferences change.
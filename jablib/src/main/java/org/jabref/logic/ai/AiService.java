@@ -19,12 +19,15 @@ import org.jabref.logic.ai.summarization.SummariesService;
 import org.jabref.logic.ai.summarization.storages.MVStoreSummariesStorage;
 import org.jabref.logic.ai.templates.AiTemplatesService;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.NotificationService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /// The main class for the AI functionality.
 ///
@@ -32,6 +35,8 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 public class AiService implements AutoCloseable {
     public static final String VERSION = "1";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AiService.class);
+
     private static final String EMBEDDINGS_FILE_NAME = "embeddings.mv";
     private static final String FULLY_INGESTED_FILE_NAME = "fully-ingested.mv";
     private static final String SUMMARIES_FILE_NAME = "summaries.mv";
@@ -67,7 +72,7 @@ public class AiService implements AutoCloseable {
     ) {
 
         this.mvStoreChatHistoryStorage = new MVStoreChatHistoryStorage(Directories.getAiFilesDirectory().resolve(CHAT_HISTORY_FILE_NAME), notificationService);
-        this.mvStoreEmbeddingStore = new MVStoreEmbeddingStore(Directories.getAiFilesDirectory().resolve(EMBEDDINGS_FILE_NAME), notificationService);
+        this.mvStoreEmbeddingStore = new MVStoreEmbeddingStore(Directories.getAiFilesDirectory().resolve(EMBEDDINGS_FILE_NAME), notificationService, aiPreferences.getApproximateEmbeddingSearch());
         this.mvStoreFullyIngestedDocumentsTracker = new MVStoreFullyIngestedDocumentsTracker(Directories.getAiFilesDirectory().resolve(FULLY_INGESTED_FILE_NAME), notificationService);
         this.mvStoreSummariesStorage = new MVStoreSummariesStorage(Directories.getAiFilesDirectory().resolve(SUMMARIES_FILE_NAME), notificationService);
 
@@ -97,6 +102,19 @@ public class AiService implements AutoCloseable {
                 filePreferences,
                 taskExecutor
         );
+
+        // Searches are exact until the index is ready
+        buildEmbeddingsIndex(taskExecutor);
+        aiPreferences.approximateEmbeddingSearchProperty().addListener((_, _, newValue) -> {
+            mvStoreEmbeddingStore.setApproximateSearch(newValue);
+            buildEmbeddingsIndex(taskExecutor);
+        });
+    }
+
+    private void buildEmbeddingsIndex(TaskExecutor taskExecutor) {
+        BackgroundTask.wrap(mvStoreEmbeddingStore::buildIndex)
+                      .onFailure(e -> LOGGER.error("Could not build the index of the embeddings", e))
+                      .executeWith(taskExecutor);
     }
 
     public JabRefChatLanguageModel getChatLanguageModel() {
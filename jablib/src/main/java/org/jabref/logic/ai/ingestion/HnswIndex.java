@@ -0,0 +1,390 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/// Hierarchical navigable small world graph (HNSW) for approximate nearest neighbour search by cosine similarity.
+///
+/// The graph is kept in memory and written through to the given persistent maps (usually maps of the same
+/// {@link org.h2.mvstore.MVStore} which stores the embeddings), so that it needs not to be rebuilt on startup.
+///
+/// Removed nodes are only marked as removed and are still used for navigating the graph. Once enough nodes are removed,
+/// all links to them are repaired in one pass over the graph (compaction). Thus, removing a node does not need to scan the graph.
+///
+/// See Malkov and Yashunin: Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs.
+/// <https://arxiv.org/abs/1603.09320>
+class HnswIndex {
+
+    /// Persisted form of a node: its level and its neighbours on each layer `0..level`
+    record HnswNode(int level, String[][] neighbours) implements Serializable {
+    }
+
+    record ScoredId(String id, double cosineSimilarity) {
+    }
+
+    private static final String ENTRY_POINT_KEY = "entryPoint";
+
+    private static final int MAX_NEIGHBOURS = 16;
+    private static final int MAX_NEIGHBOURS_LAYER_ZERO = 2 * MAX_NEIGHBOURS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_NEIGHBOURS);
+    /// The graph is compacted when more than this fraction of its nodes is removed
+    private static final double COMPACTION_THRESHOLD = 0.1;
+
+    private final Map<String, HnswNode> persistentNodes;
+    private final Map<String, String> persistentMetadata;
+
+    private final Map<String, float[]> vectors = new HashMap<>();
+    private final Map<String, List<List<String>>> neighbours = new HashMap<>();
+    // Removed nodes which are still linked in the graph. Their vectors are kept until the next compaction.
+    private final Set<String> removed = new HashSet<>();
+
+    private @Nullable String entryPoint;
+
+    /// @param persistentNodes    map storing the nodes of the graph
+    /// @param persistentMetadata map storing the entry point of the graph
+    /// @param storedVectors      all vectors currently stored. The persisted graph is reconciled against them.
+    HnswIndex(Map<String, HnswNode> persistentNodes, Map<String, String> persistentMetadata, Map<String, float[]> storedVectors) {
+        this.persistentNodes = persistentNodes;
+        this.persistentMetadata = persistentMetadata;
+
+        persistentNodes.forEach((id, node) -> {
+            List<List<String>> layers = new ArrayList<>(node.level() + 1);
+            for (String[] layer : node.neighbours()) {
+                layers.add(new ArrayList<>(List.of(layer)));
+            }
+            neighbours.put(id, layers);
+            // Nodes without vector were removed from the store after the last compaction
+            float[] vector = storedVectors.get(id);
+            if (vector != null) {
+                vectors.put(id, vector);
+            }
+        });
+        entryPoint = persistentMetadata.get(ENTRY_POINT_KEY);
+
+        // Drops the removed nodes and repairs links to unknown nodes, which are left if the store was not closed properly
+        compact();
+        storedVectors.forEach((id, vector) -> {
+            if (!neighbours.containsKey(id)) {
+                add(id, vector);
+            }
+        });
+    }
+
+    synchronized int size() {
+        return vectors.size() - removed.size();
+    }
+
+    synchronized void add(String id, float[] vector) {
+        if (neighbours.containsKey(id)) {
+            // The id has to be unlinked before it can be reused. This only happens if an embedding is replaced.
+            removed.add(id);
+            compact();
+        }
+        int level = randomLevel();
+        vectors.put(id, vector);
+        List<List<String>> layers = new ArrayList<>(level + 1);
+        for (int layer = 0; layer <= level; layer++) {
+            layers.add(new ArrayList<>());
+        }
+        neighbours.put(id, layers);
+
+        if (entryPoint == null) {
+            setEntryPoint(id);
+            persist(id);
+            return;
+        }
+
+        String current = entryPoint;
+        int topLevel = levelOf(entryPoint);
+        for (int layer = topLevel; layer > level; layer--) {
+            current = greedyClosest(vector, current, layer);
+        }
+
+        Set<String> touched = new LinkedHashSet<>();
+        List<String> entryPoints = List.of(current);
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            List<ScoredId> candidates = searchLayer(vector, entryPoints, EF_CONSTRUCTION, layer, this::isLive);
+            List<String> selected = selectNeighbours(candidates, maxNeighbours(layer));
+            layers.get(layer).addAll(selected);
+            for (String neighbour : selected) {
+                List<String> neighbourLinks = neighbours.get(neighbour).get(layer);
+                neighbourLinks.add(id);
+                if (neighbourLinks.size() > maxNeighbours(layer)) {
+                    shrink(neighbour, layer);
+                }
+                touched.add(neighbour);
+            }
+            entryPoints = candidates.stream().map(ScoredId::id).toList();
+        }
+
+        if (level > topLevel) {
+            setEntryPoint(id);
+        }
+        persist(id);
+        touched.forEach(this::persist);
+    }
+
+    /// Marks the node as removed. The links to it are repaired on the next compaction.
+    synchronized void remove(String id) {
+        if (!isLive(id)) {
+            return;
+        }
+        removed.add(id);
+        if (removed.size() > COMPACTION_THRESHOLD * vectors.size()) {
+            compact();
+        }
+    }
+
+    synchronized void clear() {
+        vectors.clear();
+        neighbours.clear();
+        removed.clear();
+        persistentNodes.clear();
+        setEntryPoint(null);
+    }
+
+    /// Finds the (approximately) `k` most similar vectors among the vectors accepted by the filter
+    ///
+    /// @param ef     size of the dynamic candidate list, higher values improve the recall
+    /// @param filter if not null, only ids accepted by the filter are returned. Rejected nodes are still used for navigating the graph.
+    synchronized List<ScoredId> search(float[] query, int k, int ef, @Nullable Predicate<String> filter) {
+        if (entryPoint == null) {
+            return List.of();
+        }
+        String current = entryPoint;
+        for (int layer = levelOf(entryPoint); layer > 0; layer--) {
+            current = greedyClosest(query, current, layer);
+        }
+        Predicate<String> accepted = filter == null ? this::isLive : id -> isLive(id) && filter.test(id);
+        List<ScoredId> result = searchLayer(query, List.of(current), Math.max(ef, k), 0, accepted);
+        return result.size() > k ? result.subList(0, k) : result;
+    }
+
+    /// Unlinks all removed and unknown nodes. Nodes linking to such a node are linked to its live neighbours instead.
+    private void compact() {
+        Set<String> touched = new HashSet<>();
+        for (Map.Entry<String, List<List<String>>> entry : neighbours.entrySet()) {
+            String id = entry.getKey();
+            if (!isLive(id)) {
+                continue;
+            }
+            List<List<String>> layers = entry.getValue();
+            for (int layer = 0; layer < layers.size(); layer++) {
+                List<String> links = layers.get(layer);
+                if (links.stream().allMatch(this::isLive)) {
+                    continue;
+                }
+                Set<String> repaired = new LinkedHashSet<>();
+                for (String link : links) {
+                    if (isLive(link)) {
+                        repaired.add(link);
+                        continue;
+                    }
+                    List<List<String>> removedLayers = neighbours.get(link);
+                    if (removedLayers != null && layer < removedLayers.size()) {
+                        for (String candidate : removedLayers.get(layer)) {
+                            if (!candidate.equals(id) && isLive(candidate)) {
+                                repaired.add(candidate);
+                            }
+                        }
+                    }
+                }
+                links.clear();
+                links.addAll(repaired);
+                if (links.size() > maxNeighbours(layer)) {
+                    shrink(id, layer);
+                }
+                touched.add(id);
+            }
+        }
+
+        List<String> removedIds = neighbours.keySet().stream().filter(id -> !isLive(id)).toList();
+        for (String id : removedIds) {
+            neighbours.remove(id);
+            vectors.remove(id);
+            persistentNodes.remove(id);
+        }
+        removed.clear();
+
+        if (entryPoint == null || !isLive(entryPoint)) {
+            setEntryPoint(neighbours.entrySet().stream()
+                                    .max(Comparator.comparingInt(entry -> entry.getValue().size()))
+                                    .map(Map.Entry::getKey)
+                                    .orElse(null));
+        }
+        touched.forEach(this::persist);
+    }
+
+    private boolean isLive(String id) {
+        return vectors.containsKey(id) && !removed.contains(id);
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return (int) Math.floor(-Math.log(uniform) * LEVEL_MULTIPLIER);
+    }
+
+    private int levelOf(String id) {
+        return neighbours.get(id).size() - 1;
+    }
+
+    private static int maxNeighbours(int layer) {
+        return layer == 0 ? MAX_NEIGHBOURS_LAYER_ZERO : MAX_NEIGHBOURS;
+    }
+
+    private String greedyClosest(float[] query, String start, int layer) {
+        String current = start;
+        double currentDistance = distance(query, vectors.get(current));
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (String neighbour : neighbours.get(current).get(layer)) {
+                double neighbourDistance = distance(query, vectors.get(neighbour));
+                if (neighbourDistance < currentDistance) {
+                    current = neighbour;
+                    currentDistance = neighbourDistance;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /// Beam search on one layer. Returns the best matches sorted by descending similarity.
+    private List<ScoredId> searchLayer(float[] query, List<String> entryPoints, int ef, int layer, @Nullable Predicate<String> filter) {
+        Set<String> visited = new HashSet<>(entryPoints);
+        PriorityQueue<ScoredId> candidates = new PriorityQueue<>(Comparator.comparingDouble(scored -> -scored.cosineSimilarity()));
+        PriorityQueue<ScoredId> results = new PriorityQueue<>(Comparator.comparingDouble(ScoredId::cosineSimilarity));
+
+        for (String entry : entryPoints) {
+            ScoredId scored = new ScoredId(entry, similarity(query, vectors.get(entry)));
+            candidates.add(scored);
+            if (filter == null || filter.test(entry)) {
+                results.add(scored);
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            ScoredId closest = candidates.poll();
+            if (results.size() >= ef && closest.cosineSimilarity() < results.peek().cosineSimilarity()) {
+                break;
+            }
+            for (String neighbour : neighbours.get(closest.id()).get(layer)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                ScoredId scored = new ScoredId(neighbour, similarity(query, vectors.get(neighbour)));
+                if (results.size() < ef || scored.cosineSimilarity() > results.peek().cosineSimilarity()) {
+                    candidates.add(scored);
+                    if (filter == null || filter.test(neighbour)) {
+                        results.add(scored);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<ScoredId> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(ScoredId::cosineSimilarity).reversed());
+        return sorted;
+    }
+
+    /// Neighbour selection heuristic: prefers candidates which are closer to the node than to already selected neighbours,
+    /// which keeps the graph navigable in clustered data.
+    private List<String> selectNeighbours(List<ScoredId> candidatesBySimilarity, int maxCount) {
+        List<String> selected = new ArrayList<>(maxCount);
+        for (ScoredId candidate : candidatesBySimilarity) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            float[] candidateVector = vectors.get(candidate.id());
+            boolean isDiverse = selected.stream()
+                                        .noneMatch(chosen -> similarity(candidateVector, vectors.get(chosen)) > candidate.cosineSimilarity());
+            if (isDiverse) {
+                selected.add(candidate.id());
+            }
+        }
+        // Fill up with the closest remaining candidates to keep enough links
+        for (ScoredId candidate : candidatesBySimilarity) {
+            if (selected.size() >= maxCount) {
+                break;
+            }
+            if (!selected.contains(candidate.id())) {
+                selected.add(candidate.id());
+            }
+        }
+        return selected;
+    }
+
+    private void shrink(String id, int layer) {
+        float[] vector = vectors.get(id);
+        List<ScoredId> scored = new ArrayList<>();
+        for (String neighbour : neighbours.get(id).get(layer)) {
+            scored.add(new ScoredId(neighbour, similarity(vector, vectors.get(neighbour))));
+        }
+        // Keeping the closest links is much cheaper than the selection heuristic and sufficient for existing nodes
+        scored.sort(Comparator.comparingDouble(ScoredId::cosineSimilarity).reversed());
+        List<String> links = neighbours.get(id).get(layer);
+        links.clear();
+        scored.stream().limit(maxNeighbours(layer)).map(ScoredId::id).forEach(links::add);
+    }
+
+    private void setEntryPoint(@Nullable String id) {
+        entryPoint = id;
+        if (id == null) {
+            persistentMetadata.remove(ENTRY_POINT_KEY);
+        } else {
+            persistentMetadata.put(ENTRY_POINT_KEY, id);
+        }
+    }
+
+    private void persist(String id) {
+        List<List<String>> layers = neighbours.get(id);
+        if (layers == null) {
+            return;
+        }
+        String[][] links = new String[layers.size()][];
+        for (int layer = 0; layer < layers.size(); layer++) {
+            links[layer] = layers.get(layer).toArray(String[]::new);
+        }
+        persistentNodes.put(id, new HnswNode(layers.size() - 1, links));
+    }
+
+    private static double distance(float[] first, float[] second) {
+        return 1 - similarity(first, second);
+    }
+
+    static double similarity(float[] first, float[] second) {
+        if (first.length != second.length) {
+            // Vectors of different embedding models are not comparable
+            return -1;
+        }
+        double dot = 0;
+        double firstNorm = 0;
+        double secondNorm = 0;
+        for (int i = 0; i < first.length; i++) {
+            dot += first[i] * second[i];
+            firstNorm += first[i] * first[i];
+            secondNorm += second[i] * second[i];
+        }
+        if (firstNorm == 0 || secondNorm == 0) {
+            return 0;
+        }
+        return dot / (Math.sqrt(firstNorm) * Math.sqrt(secondNorm));
+    }
+}
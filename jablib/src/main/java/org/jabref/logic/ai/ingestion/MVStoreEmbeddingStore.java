@@ -5,11 +5,16 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -40,6 +45,10 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
 /// Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
 /// string (the content).
 ///
+/// If enabled, searches use an approximate nearest neighbour index ({@link HnswIndex}), which is stored in the same file.
+/// The index is loaded (or built) by {@link #buildIndex()} without blocking other operations on the store. Until the index is ready, searches are exact.
+/// Small stores and filters matching only few embeddings
+/// (e.g., chatting with a single entry) are searched exactly.
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
 
     private static final EmbeddingRecord EMPTY_EMBEDDING_RECORD = new EmbeddingRecord(null, "", new float[0]);
@@ -49,13 +58,32 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     }
 
     private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String HNSW_NODES_MAP_NAME = "embeddings-hnsw-nodes";
+    private static final String HNSW_METADATA_MAP_NAME = "embeddings-hnsw-metadata";
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    /// Up to this number of embeddings to consider, an exact search is faster than an approximate one
+    private static final int EXACT_SEARCH_LIMIT = 2000;
+    private static final int EF_SEARCH = 100;
 
-    public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final Map<String, HnswIndex.HnswNode> hnswNodesMap;
+    private final Map<String, String> hnswMetadataMap;
+    private volatile boolean approximateSearch;
+
+    // Created by buildIndex, afterwards kept in sync on add and remove
+    private @Nullable HnswIndex hnswIndex;
+    private final Map<String, Set<String>> idsByFile = new HashMap<>();
+    // Not null while the index is built. Changes of the store made meanwhile are applied to the index once it is built.
+    private @Nullable List<Consumer<HnswIndex>> changesDuringBuild;
+
+    /// @param approximateSearch if false, all searches compare the query with every stored embedding
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, boolean approximateSearch) {
         super(path, dialogService);
 
         this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.hnswNodesMap = this.mvStore.openMap(HNSW_NODES_MAP_NAME);
+        this.hnswMetadataMap = this.mvStore.openMap(HNSW_METADATA_MAP_NAME);
+        this.approximateSearch = approximateSearch;
     }
 
     @Override
@@ -77,14 +105,14 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, new EmbeddingRecord(null, "", embedding.vector()));
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
         return id;
     }
 
@@ -93,9 +121,26 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
     }
 
+    private synchronized void put(String id, EmbeddingRecord embeddingRecord) {
+        embeddingsMap.put(id, embeddingRecord);
+        applyToIndex(index -> {
+            index.add(id, embeddingRecord.embeddingVector);
+            idsByFile.computeIfAbsent(embeddingRecord.file, _ -> new HashSet<>()).add(id);
+        });
+    }
+
     @Override
-    public void remove(String id) {
-        embeddingsMap.remove(id);
+    public synchronized void remove(String id) {
+        EmbeddingRecord removed = embeddingsMap.remove(id);
+        if (removed != null) {
+            applyToIndex(index -> {
+                index.remove(id);
+                Set<String> idsOfFile = idsByFile.get(removed.file);
+                if (idsOfFile != null) {
+                    idsOfFile.remove(id);
+                }
+            });
+        }
     }
 
     @Override
@@ -105,8 +150,71 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     }
 
     @Override
-    public void removeAll() {
+    public synchronized void removeAll() {
         embeddingsMap.clear();
+        if (hnswIndex == null && changesDuringBuild == null) {
+            hnswNodesMap.clear();
+            hnswMetadataMap.clear();
+            return;
+        }
+        applyToIndex(index -> {
+            index.clear();
+            idsByFile.clear();
+        });
+    }
+
+    /// Applies the change to the index, or defers it until the index is built. Nothing is done if there is no index yet.
+    private void applyToIndex(Consumer<HnswIndex> change) {
+        if (hnswIndex != null) {
+            change.accept(hnswIndex);
+        } else if (changesDuringBuild != null) {
+            changesDuringBuild.add(change);
+        }
+    }
+
+    /// @param approximateSearch if false, all searches compare the query with every stored embedding. If true, the index has to be built by [#buildIndex()].
+    public void setApproximateSearch(boolean approximateSearch) {
+        this.approximateSearch = approximateSearch;
+    }
+
+    /// Loads or builds the index used for approximate searches. Building happens outside the monitor of the store, so that adding and removing embeddings
+    /// is not blocked meanwhile. Thus, this should be called in the background.
+    ///
+    /// Nothing is done if approximate searches are disabled, or if the index is already built or being built.
+    public void buildIndex() {
+        if (!approximateSearch) {
+            return;
+        }
+
+        Map<String, float[]> vectors = new HashMap<>();
+        Map<String, Set<String>> builtIdsByFile = new HashMap<>();
+        synchronized (this) {
+            if (hnswIndex != null || changesDuringBuild != null) {
+                return;
+            }
+            changesDuringBuild = new ArrayList<>();
+            embeddingsMap.forEach((id, embeddingRecord) -> {
+                vectors.put(id, embeddingRecord.embeddingVector);
+                builtIdsByFile.computeIfAbsent(embeddingRecord.file, _ -> new HashSet<>()).add(id);
+            });
+        }
+
+        HnswIndex index;
+        try {
+            index = new HnswIndex(hnswNodesMap, hnswMetadataMap, vectors);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringBuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            hnswIndex = index;
+            idsByFile.putAll(builtIdsByFile);
+            changesDuringBuild.forEach(change -> change.accept(index));
+            changesDuringBuild = null;
+        }
     }
 
     /// The main function of finding most relevant text segments.
@@ -119,6 +227,57 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     /// @return an [EmbeddingSearchResult], which contains most relevant text segments
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        if (approximateSearch && embeddingsMap.size() > EXACT_SEARCH_LIMIT) {
+            Optional<EmbeddingSearchResult<TextSegment>> result = searchApproximately(request);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return searchExactly(request);
+    }
+
+    /// @return the result, or empty if the index is not built yet or an exact search is faster
+    private synchronized Optional<EmbeddingSearchResult<TextSegment>> searchApproximately(EmbeddingSearchRequest request) {
+        HnswIndex index = hnswIndex;
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        Predicate<String> filter = null;
+        if (request.filter() != null) {
+            Set<String> acceptedIds = getIdsOfFiles(request.filter());
+            if (acceptedIds.size() <= EXACT_SEARCH_LIMIT) {
+                return Optional.empty();
+            }
+            filter = acceptedIds::contains;
+        }
+
+        float[] query = request.queryEmbedding().vector();
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (HnswIndex.ScoredId scoredId : index.search(query, request.maxResults(), EF_SEARCH, filter)) {
+            double score = RelevanceScore.fromCosineSimilarity(scoredId.cosineSimilarity());
+            if (score >= request.minScore()) {
+                result.add(toMatch(scoredId.id(), embeddingsMap.getOrDefault(scoredId.id(), EMPTY_EMBEDDING_RECORD), score));
+            }
+        }
+        return Optional.of(new EmbeddingSearchResult<>(result));
+    }
+
+    private Set<String> getIdsOfFiles(Filter filter) {
+        Collection<?> files = switch (filter) {
+            case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
+                    isInFilter.comparisonValues();
+            case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
+                    List.of(isEqualToFilter.comparisonValue());
+            default ->
+                    throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
+        };
+        Set<String> ids = new HashSet<>();
+        files.forEach(file -> ids.addAll(idsByFile.getOrDefault(file, Set.of())));
+        return ids;
+    }
+
+    private EmbeddingSearchResult<TextSegment> searchExactly(EmbeddingSearchRequest request) {
         // Source: {@link InMemoryEmbeddingStore}.
 
         Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
@@ -131,15 +290,7 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+                matches.add(toMatch(id, eRecord, score));
 
                 if (matches.size() > request.maxResults()) {
                     matches.poll();
@@ -153,9 +304,21 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
         return new EmbeddingSearchResult<>(result);
     }
 
+    private static EmbeddingMatch<TextSegment> toMatch(String id, EmbeddingRecord eRecord, double score) {
+        return new EmbeddingMatch<>(
+                score,
+                id,
+                Embedding.from(eRecord.embeddingVector),
+                new TextSegment(
+                        eRecord.content,
+                        new Metadata(
+                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file))));
+    }
+
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        List<String> idsToRemove = embeddingsMap.keySet().stream().filter(ids::contains).toList();
+        idsToRemove.forEach(this::remove);
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
@@ -1,8 +1,12 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -79,12 +83,34 @@ public class BibDatabaseDiff {
         Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
         Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
+        // Entries with the same content are matched using their hash codes (see BibEntry#hashCode).
+        // Thus, the unchanged entries of large databases are matched in linear time and only the remaining ones are compared pairwise.
+        Map<BibEntry, Deque<Integer>> newEntryIndicesByContent = new HashMap<>(newEntries.size());
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntryIndicesByContent.computeIfAbsent(newEntries.get(i), _ -> new ArrayDeque<>()).add(i);
+        }
+        List<BibEntry> remainingOriginalEntries = new ArrayList<>();
+        for (BibEntry originalEntry : originalEntries) {
+            Deque<Integer> sameContent = newEntryIndicesByContent.get(originalEntry);
+            if ((sameContent != null) && !sameContent.isEmpty()) {
+                matchedEntries.add(sameContent.poll());
+            } else {
+                remainingOriginalEntries.add(originalEntry);
+            }
+        }
+        List<Integer> remainingNewEntries = new ArrayList<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries.contains(i)) {
+                remainingNewEntries.add(i);
+            }
+        }
+
+        // Loop through the remaining entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
         mainLoop:
-        for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
+        for (BibEntry originalEntry : remainingOriginalEntries) {
+            for (int i : remainingNewEntries) {
                 if (!matchedEntries.contains(i)) {
                     double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
                     if (score > 1) {
@@ -105,7 +131,7 @@ public class BibDatabaseDiff {
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
             int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
+            for (int i : remainingNewEntries) {
                 if (!matchedEntries.contains(i)) {
                     double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
                     if (score > bestMatch) {
@@ -0,0 +1,233 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.ISBN;
+
+import org.jspecify.annotations.NonNull;
+
+/// Finds duplicates in a list of entries without comparing every pair of entries.
+///
+/// Each entry is assigned a set of blocking keys:
+///
+/// - the values of all identifier fields (DOI case-insensitive, ISBN normalized)
+/// - locality sensitive hashes (MinHash with banding) of the character trigrams of the title
+/// - the family name of the first author (or editor) together with the year
+///
+/// Only pairs of entries sharing at least one key are handed to [DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)].
+/// Entries without title, author, and editor are compared to all other entries, as the exhaustive search did.
+/// The comparisons are run in parallel on copies of the entries, whose cached LaTeX-free field values are filled beforehand.
+/// Thus, the comparing threads neither write to the caches of the entries nor see changes of the entries made meanwhile.
+public class DuplicateCandidateFinder {
+
+    private static final int BANDS = 20;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int SHINGLE_LENGTH = 3;
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /// Seeds of the MinHash functions. Fixed to make candidate generation reproducible.
+    private static final long[] SEEDS = new Random(0x5EEDL).longs(BANDS * ROWS_PER_BAND).toArray();
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateCandidateFinder(@NonNull DuplicateCheck duplicateCheck) {
+        this.duplicateCheck = duplicateCheck;
+    }
+
+    /// Searches all duplicate pairs within the given entries.
+    ///
+    /// The search stops as soon as the calling thread is interrupted.
+    ///
+    /// @param onDuplicate called for each pair considered a duplicate by [DuplicateCheck]. The first entry always precedes the second one in `entries`. May be called concurrently from multiple threads.
+    public void findDuplicates(@NonNull List<BibEntry> entries, BibDatabaseMode databaseMode, @NonNull BiConsumer<BibEntry, BibEntry> onDuplicate) {
+        Thread callingThread = Thread.currentThread();
+        List<BibEntry> snapshots = entries.stream().map(DuplicateCandidateFinder::createSnapshot).toList();
+        CandidateIndex index = buildIndex(snapshots);
+
+        IntStream.range(0, entries.size() - 1).parallel().forEach(i -> {
+            if (callingThread.isInterrupted()) {
+                return;
+            }
+            for (int j : index.getCandidates(i)) {
+                if (callingThread.isInterrupted()) {
+                    return;
+                }
+                if (duplicateCheck.isDuplicate(snapshots.get(i), snapshots.get(j), databaseMode)) {
+                    onDuplicate.accept(entries.get(i), entries.get(j));
+                }
+            }
+        });
+    }
+
+    /// Copies the entry and computes the LaTeX-free values of all its fields, which are read by [DuplicateCheck]
+    private static BibEntry createSnapshot(BibEntry entry) {
+        BibEntry snapshot = new BibEntry(entry);
+        snapshot.getFields().forEach(snapshot::getFieldLatexFree);
+        return snapshot;
+    }
+
+    /// Builds the blocking index for the given entries.
+    CandidateIndex buildIndex(List<BibEntry> entries) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        List<Set<String>> keysOfEntries = new ArrayList<>(entries.size());
+        Set<Integer> entriesWithoutKeys = new HashSet<>();
+
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            Set<String> keys = getBlockingKeys(entry);
+            keysOfEntries.add(keys);
+            if (getNormalizedTitle(entry).isEmpty() && getFirstFamilyName(entry).isEmpty()) {
+                entriesWithoutKeys.add(i);
+            }
+            for (String key : keys) {
+                blocks.computeIfAbsent(key, _ -> new ArrayList<>()).add(i);
+            }
+        }
+        return new CandidateIndex(entries.size(), blocks, keysOfEntries, entriesWithoutKeys);
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        // Identifiers are compared regardless of the entry type, see DuplicateCheck#haveSameIdentifier
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                String value = entry.getField(field).orElseThrow();
+                if (field == StandardField.DOI) {
+                    value = value.toLowerCase(Locale.ROOT);
+                }
+                keys.add(field.getName() + ':' + value);
+            }
+        }
+        entry.getISBN().map(ISBN::asString).ifPresent(isbn -> keys.add("isbn:" + isbn.toLowerCase(Locale.ROOT)));
+
+        // All other checks of DuplicateCheck require an equal entry type
+        String typePrefix = entry.getType().getName() + '|';
+
+        getNormalizedTitle(entry).ifPresent(title -> {
+            long[] signature = minHashSignature(title);
+            for (int band = 0; band < BANDS; band++) {
+                long bandHash = band;
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    bandHash = (bandHash * 31) + signature[(band * ROWS_PER_BAND) + row];
+                }
+                keys.add(typePrefix + "title" + band + ':' + Long.toHexString(bandHash));
+            }
+        });
+
+        getFirstFamilyName(entry).ifPresent(familyName -> {
+            String year = entry.getFieldLatexFree(StandardField.YEAR).map(String::trim).orElse("");
+            keys.add(typePrefix + "person:" + familyName + '|' + year);
+        });
+
+        return keys;
+    }
+
+    private static Optional<String> getNormalizedTitle(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.TITLE)
+                    .map(DuplicateCandidateFinder::normalize)
+                    .filter(title -> !title.isEmpty());
+    }
+
+    private static Optional<String> getFirstFamilyName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authorList -> !authorList.isEmpty())
+                    .flatMap(authorList -> authorList.getAuthors().getFirst().getFamilyName()
+                                                     .or(() -> authorList.getAuthors().getFirst().getGivenName()))
+                    .map(DuplicateCandidateFinder::normalize)
+                    .filter(name -> !name.isEmpty());
+    }
+
+    private static String normalize(String value) {
+        return NON_ALPHANUMERIC.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static long[] minHashSignature(String text) {
+        long[] signature = new long[SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        if (text.length() <= SHINGLE_LENGTH) {
+            updateSignature(signature, text.hashCode());
+            return signature;
+        }
+        for (int start = 0; start + SHINGLE_LENGTH <= text.length(); start++) {
+            updateSignature(signature, text.substring(start, start + SHINGLE_LENGTH).hashCode());
+        }
+        return signature;
+    }
+
+    private static void updateSignature(long[] signature, int shingleHash) {
+        for (int i = 0; i < SEEDS.length; i++) {
+            long hash = mix(shingleHash ^ SEEDS[i]);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    /// Finalizer of MurmurHash3 to spread the bits of the seeded shingle hash
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /// Blocks of entry indices sharing a key.
+    static class CandidateIndex {
+        private final int numberOfEntries;
+        private final Map<String, List<Integer>> blocks;
+        private final List<Set<String>> keysOfEntries;
+        private final Set<Integer> entriesWithoutKeys;
+
+        CandidateIndex(int numberOfEntries, Map<String, List<Integer>> blocks, List<Set<String>> keysOfEntries, Set<Integer> entriesWithoutKeys) {
+            this.numberOfEntries = numberOfEntries;
+            this.blocks = blocks;
+            this.keysOfEntries = keysOfEntries;
+            this.entriesWithoutKeys = entriesWithoutKeys;
+        }
+
+        /// Returns the indices of all entries after entry `i` which have to be compared with `i`, in ascending order.
+        int[] getCandidates(int i) {
+            if (entriesWithoutKeys.contains(i)) {
+                return IntStream.range(i + 1, numberOfEntries).toArray();
+            }
+            Set<Integer> candidates = new HashSet<>();
+            for (String key : keysOfEntries.get(i)) {
+                for (int j : blocks.get(key)) {
+                    if (j > i) {
+                        candidates.add(j);
+                    }
+                }
+            }
+            for (int j : entriesWithoutKeys) {
+                if (j > i) {
+                    candidates.add(j);
+                }
+            }
+            return candidates.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+    }
+}
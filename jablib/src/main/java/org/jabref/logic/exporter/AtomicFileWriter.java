@@ -1,7 +1,12 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
@@ -9,14 +14,24 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.jspecify.annotations.Nullable;
+
 /// Writer that similar to the built-in {@link java.io.FileWriter} but uses the {@link AtomicFileOutputStream} as the
 /// underlying output stream. In this way, we make sure that the errors during the write process do not destroy the
 /// contents of the target file.
 /// Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
 /// was problematic can be retrieved by {@link #getEncodingProblems()}.
+///
+/// Besides text, byte ranges of another file can be copied unchanged using [#copyFrom(FileChannel, long, long)].
+/// This is used by [IncrementalBibDatabaseWriter] to take over unchanged entries from the previous version of a file.
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Charset encoding;
     private final CharsetEncoder encoder;
+    private final PositionTrackingOutputStream outputStream;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
@@ -24,7 +39,14 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        this(new PositionTrackingOutputStream(new AtomicFileOutputStream(file, keepBackup)), file, encoding);
+    }
+
+    private AtomicFileWriter(PositionTrackingOutputStream outputStream, Path file, Charset encoding) {
+        super(outputStream, encoding);
+        this.outputStream = outputStream;
+        this.file = file;
+        this.encoding = encoding;
         encoder = encoding.newEncoder();
     }
 
@@ -41,6 +63,37 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    /// Returns the number of bytes written so far, including the copied ones.
+    /// Characters still buffered by the encoder are passed on to the file first.
+    public long getBytePosition() throws IOException {
+        outputStream.passFlush = false;
+        try {
+            super.flush();
+        } finally {
+            outputStream.passFlush = true;
+        }
+        return outputStream.getPosition();
+    }
+
+    /// Copies the given byte range of the source to the current position.
+    /// The bytes are not checked for encoding problems, thus they have to be in the encoding of this writer.
+    ///
+    /// Consecutive ranges of the same source are copied at once. The copy takes place at the latest when this writer is flushed or closed,
+    /// thus the source has to stay open until then.
+    public void copyFrom(FileChannel source, long position, long count) throws IOException {
+        // Keep the order of text written before and the copied bytes
+        getBytePosition();
+        outputStream.copyFrom(source, position, count);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Charset getCharset() {
+        return encoding;
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
@@ -48,4 +101,84 @@ public class AtomicFileWriter extends OutputStreamWriter {
     public Set<Character> getEncodingProblems() {
         return Collections.unmodifiableSet(problemCharacters);
     }
+
+    /// Counts the written bytes and performs the copies requested by [#copyFrom(FileChannel, long, long)]
+    private static class PositionTrackingOutputStream extends FilterOutputStream {
+
+        private final AtomicFileOutputStream atomicFileOutputStream;
+
+        /// Set to `false` to only push the bytes buffered by the encoder to this stream
+        private boolean passFlush = true;
+        private long position;
+
+        private @Nullable FileChannel copySource;
+        private long copyPosition;
+        private long copyCount;
+
+        PositionTrackingOutputStream(AtomicFileOutputStream atomicFileOutputStream) {
+            super(new BufferedOutputStream(atomicFileOutputStream, BUFFER_SIZE));
+            this.atomicFileOutputStream = atomicFileOutputStream;
+        }
+
+        long getPosition() {
+            return position + copyCount;
+        }
+
+        void copyFrom(FileChannel source, long sourcePosition, long count) throws IOException {
+            if ((source == copySource) && (copyPosition + copyCount == sourcePosition)) {
+                copyCount += count;
+                return;
+            }
+            writePendingCopy();
+            copySource = source;
+            copyPosition = sourcePosition;
+            copyCount = count;
+        }
+
+        private void writePendingCopy() throws IOException {
+            if (copySource == null) {
+                return;
+            }
+            try {
+                WritableByteChannel target = Channels.newChannel(out);
+                long transferred = 0;
+                while (transferred < copyCount) {
+                    long count = copySource.transferTo(copyPosition + transferred, copyCount - transferred, target);
+                    if (count <= 0) {
+                        throw new IOException("Could not copy %d bytes at position %d. The source is too short.".formatted(copyCount, copyPosition));
+                    }
+                    transferred += count;
+                }
+            } catch (IOException e) {
+                // Do not replace the target file by an incomplete one
+                atomicFileOutputStream.abort();
+                throw e;
+            }
+            position += copyCount;
+            copySource = null;
+            copyCount = 0;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writePendingCopy();
+            out.write(b);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writePendingCopy();
+            out.write(b, off, len);
+            position += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (passFlush) {
+                writePendingCopy();
+                out.flush();
+            }
+        }
+    }
 }
@@ -0,0 +1,388 @@
+package org.jabref.logic.exporter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibFileLayout.EntryBlock;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.util.strings.StringUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A backup consisting of a complete .bib file and a journal of the entries changed since then.
+///
+/// The complete file is written by [#writeFullBackup] like any other library, but the byte positions of all entries are remembered.
+/// Afterwards, [#append] only writes the changed and the removed entries to a journal next to the file (see [#getJournalPath(Path)]).
+/// Each record of the journal replaces the bytes of one entry of the complete file, or adds an entry after the last one.
+/// Thus, the backed up library is obtained by [#restore(Path)] without parsing it.
+///
+/// Records are appended to the journal only. If writing a record is interrupted, the incomplete record is ignored by [#restore(Path)].
+/// The journal is only valid for the complete file it was started for, as it refers to the ids of the entries in memory.
+public class BackupJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String PUT = "put";
+    private static final String REMOVE = "remove";
+
+    private final Path backupPath;
+    private final Charset encoding;
+    private final String newLineSeparator;
+    private final SelfContainedSaveConfiguration saveConfiguration;
+    private final FieldPreferences fieldPreferences;
+    private final CitationKeyPatternPreferences keyPatternPreferences;
+    private final BibEntryTypesManager entryTypesManager;
+
+    /// The positions of the entries in the complete file by their ids
+    private final Map<String, EntryBlock> entryBlocks;
+
+    /// The position after the last entry of the complete file, where new entries are added
+    private final long entriesEnd;
+
+    private int recordCount;
+
+    private BackupJournal(Path backupPath,
+                          Charset encoding,
+                          String newLineSeparator,
+                          SelfContainedSaveConfiguration saveConfiguration,
+                          FieldPreferences fieldPreferences,
+                          CitationKeyPatternPreferences keyPatternPreferences,
+                          BibEntryTypesManager entryTypesManager,
+                          Map<String, EntryBlock> entryBlocks,
+                          long entriesEnd) {
+        this.backupPath = backupPath;
+        this.encoding = encoding;
+        this.newLineSeparator = newLineSeparator;
+        this.saveConfiguration = saveConfiguration;
+        this.fieldPreferences = fieldPreferences;
+        this.keyPatternPreferences = keyPatternPreferences;
+        this.entryTypesManager = entryTypesManager;
+        this.entryBlocks = entryBlocks;
+        this.entriesEnd = entriesEnd;
+    }
+
+    /// Writes the complete library to the given backup file and starts an empty journal for it.
+    ///
+    /// The save configuration has to keep the entries of the library unchanged (see [SaveConfiguration#withKeepEntriesUnchanged(boolean)]),
+    /// as the library is written while it is in use.
+    public static BackupJournal writeFullBackup(Path backupPath,
+                                               BibDatabaseContext bibDatabaseContext,
+                                               SelfContainedSaveConfiguration saveConfiguration,
+                                               FieldPreferences fieldPreferences,
+                                               CitationKeyPatternPreferences keyPatternPreferences,
+                                               BibEntryTypesManager entryTypesManager) throws IOException {
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+        Files.deleteIfExists(getJournalPath(backupPath));
+
+        // We want to have successful backups only
+        // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
+        PositionRecordingWriter databaseWriter;
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(backupPath, encoding, false)) {
+            databaseWriter = new PositionRecordingWriter(fileWriter, newLineSeparator, saveConfiguration, fieldPreferences, keyPatternPreferences, entryTypesManager);
+            databaseWriter.writeDatabase(bibDatabaseContext);
+        }
+        return new BackupJournal(backupPath, encoding, newLineSeparator, saveConfiguration, fieldPreferences, keyPatternPreferences, entryTypesManager,
+                databaseWriter.entryBlocks, databaseWriter.entriesEnd);
+    }
+
+    public static Path getJournalPath(Path backupPath) {
+        return FileUtil.addExtension(backupPath, JOURNAL_EXTENSION);
+    }
+
+    public Path getBackupPath() {
+        return backupPath;
+    }
+
+    /// Returns the number of records appended to the journal so far
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /// Appends the current state of the given entries and the removal of the entries with the given ids to the journal.
+    /// The entries themselves are not changed: the save actions and the generation of citation keys are applied to copies.
+    public void append(Collection<BibEntry> changedEntries, Collection<String> removedEntryIds, BibDatabaseContext bibDatabaseContext) throws IOException {
+        if (changedEntries.isEmpty() && removedEntryIds.isEmpty()) {
+            return;
+        }
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(bibDatabaseContext, keyPatternPreferences);
+        BibEntryWriter bibEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
+
+        try (OutputStream journal = new BufferedOutputStream(Files.newOutputStream(getJournalPath(backupPath), StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            for (String id : removedEntryIds) {
+                EntryBlock block = entryBlocks.get(id);
+                if (block == null) {
+                    writeRecord(journal, REMOVE, id, -1, -1, new byte[0]);
+                } else {
+                    writeRecord(journal, REMOVE, id, block.start(), block.end(), new byte[0]);
+                }
+            }
+            for (BibEntry entry : changedEntries) {
+                StringWriter entryText = new StringWriter();
+                bibEntryWriter.write(prepareCopy(entry, bibDatabaseContext, keyGenerator), new BibWriter(entryText, newLineSeparator), bibDatabaseContext.getMode(), saveConfiguration.shouldReformatFile());
+                EntryBlock block = entryBlocks.get(entry.getId());
+                if (block == null) {
+                    writeRecord(journal, PUT, entry.getId(), entriesEnd, entriesEnd, (newLineSeparator + entryText).getBytes(encoding));
+                } else {
+                    writeRecord(journal, PUT, entry.getId(), block.blockStart(), block.end(), entryText.toString().getBytes(encoding));
+                }
+            }
+        }
+    }
+
+    private BibEntry prepareCopy(BibEntry entry, BibDatabaseContext bibDatabaseContext, CitationKeyGenerator keyGenerator) {
+        BibEntry copy = new BibEntry(entry);
+        copy.setChanged(entry.hasChanged());
+        BibDatabaseWriter.applySaveActions(copy, bibDatabaseContext.getMetaData(), fieldPreferences);
+        if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving() && StringUtil.isBlank(copy.getCitationKey())) {
+            keyGenerator.generateAndSetKey(copy);
+        }
+        return copy;
+    }
+
+    private void writeRecord(OutputStream journal, String operation, String id, long start, long end, byte[] payload) throws IOException {
+        journal.write("%s %s %d %d %d\n".formatted(operation, id, start, end, payload.length).getBytes(StandardCharsets.US_ASCII));
+        journal.write(payload);
+        journal.write('\n');
+        recordCount++;
+    }
+
+    /// Returns the content of the backed up library: the given backup file with the records of its journal applied.
+    public static byte[] restore(Path backupPath) throws IOException {
+        try (InputStream restored = openRestored(backupPath)) {
+            return restored.readAllBytes();
+        }
+    }
+
+    /// Opens the content of the backed up library like [#restore(Path)], but without reading the complete file into memory.
+    /// Only the records of the journal are kept in memory.
+    public static InputStream openRestored(Path backupPath) throws IOException {
+        Path journalPath = getJournalPath(backupPath);
+        if (!Files.exists(journalPath)) {
+            return new BufferedInputStream(Files.newInputStream(backupPath));
+        }
+
+        // The last record of an entry wins. New entries keep the order in which they were added.
+        Map<String, Record> records = new LinkedHashMap<>();
+        try (InputStream journal = new BufferedInputStream(Files.newInputStream(journalPath))) {
+            Optional<Record> record = readRecord(journal);
+            while (record.isPresent()) {
+                records.put(record.get().id(), record.get());
+                record = readRecord(journal);
+            }
+        }
+
+        long baseLength = Files.size(backupPath);
+        List<Record> replacements = new ArrayList<>(records.values().stream()
+                                                           .filter(record -> (record.start() >= 0) && (record.end() <= baseLength))
+                                                           .toList());
+        replacements.sort(Comparator.comparingLong(Record::start));
+        return new SplicingInputStream(new BufferedInputStream(Files.newInputStream(backupPath)), replacements);
+    }
+
+    /// Checks whether the backed up library differs from the given file. Both are compared while reading them.
+    public static boolean restoredDiffers(Path backupPath, Path file) throws IOException {
+        if (!Files.exists(getJournalPath(backupPath))) {
+            return Files.mismatch(backupPath, file) != -1;
+        }
+        try (InputStream restored = openRestored(backupPath);
+             InputStream other = new BufferedInputStream(Files.newInputStream(file))) {
+            byte[] restoredBuffer = new byte[8192];
+            byte[] otherBuffer = new byte[8192];
+            while (true) {
+                int restoredRead = restored.readNBytes(restoredBuffer, 0, restoredBuffer.length);
+                int otherRead = other.readNBytes(otherBuffer, 0, otherBuffer.length);
+                if (Arrays.mismatch(restoredBuffer, 0, restoredRead, otherBuffer, 0, otherRead) != -1) {
+                    return true;
+                }
+                if (restoredRead < restoredBuffer.length) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /// Applies the journal to the given backup file and removes the journal afterwards.
+    /// Thus, the backup file alone contains the backed up library again, e.g., to be opened by the user.
+    ///
+    /// The journal must not be in use by a running [BackupJournal].
+    public static void consolidate(Path backupPath) throws IOException {
+        Path journalPath = getJournalPath(backupPath);
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (InputStream restored = openRestored(backupPath);
+             OutputStream output = new AtomicFileOutputStream(backupPath, false)) {
+            restored.transferTo(output);
+        }
+        Files.delete(journalPath);
+    }
+
+    private static Optional<Record> readRecord(InputStream journal) throws IOException {
+        StringBuilder header = new StringBuilder();
+        int character = journal.read();
+        while ((character != -1) && (character != '\n')) {
+            header.append((char) character);
+            character = journal.read();
+        }
+        if (character == -1) {
+            if (!header.isEmpty()) {
+                LOGGER.warn("Ignoring incomplete record at the end of the backup journal");
+            }
+            return Optional.empty();
+        }
+
+        String[] parts = header.toString().split(" ");
+        if ((parts.length != 5) || !(PUT.equals(parts[0]) || REMOVE.equals(parts[0]))) {
+            LOGGER.warn("Ignoring the backup journal from the invalid record \"{}\" on", header);
+            return Optional.empty();
+        }
+        try {
+            int length = Integer.parseInt(parts[4]);
+            byte[] payload = journal.readNBytes(length);
+            if ((payload.length != length) || (journal.read() != '\n')) {
+                LOGGER.warn("Ignoring incomplete record at the end of the backup journal");
+                return Optional.empty();
+            }
+            return Optional.of(new Record(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]), payload));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring the backup journal from the invalid record \"{}\" on", header, e);
+            return Optional.empty();
+        }
+    }
+
+    /// A record of the journal
+    ///
+    /// @param start   the start of the bytes in the complete file to replace, or -1 if the entry is not contained in the complete file
+    /// @param end     the end of the bytes in the complete file to replace
+    /// @param payload the bytes to put in place
+    private record Record(String id, long start, long end, byte[] payload) {
+    }
+
+    /// Reads the complete file and replaces the byte ranges of the records while reading
+    private static class SplicingInputStream extends InputStream {
+
+        private final InputStream base;
+        private final Iterator<Record> replacements;
+
+        /// The position in the complete file
+        private long position;
+        private Record nextReplacement;
+        private InputStream payload;
+        private long payloadEnd;
+
+        SplicingInputStream(InputStream base, List<Record> sortedReplacements) {
+            this.base = base;
+            this.replacements = sortedReplacements.iterator();
+            this.nextReplacement = replacements.hasNext() ? replacements.next() : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (true) {
+                if (payload != null) {
+                    int read = payload.read(buffer, offset, length);
+                    if (read != -1) {
+                        return read;
+                    }
+                    payload = null;
+                    // Skip the replaced bytes of the complete file
+                    base.skipNBytes(payloadEnd - position);
+                    position = payloadEnd;
+                }
+                if ((nextReplacement != null) && (nextReplacement.start() <= position)) {
+                    payload = new ByteArrayInputStream(nextReplacement.payload());
+                    payloadEnd = Math.max(position, nextReplacement.end());
+                    nextReplacement = replacements.hasNext() ? replacements.next() : null;
+                    continue;
+                }
+                long untilReplacement = nextReplacement == null ? Long.MAX_VALUE : nextReplacement.start() - position;
+                int read = base.read(buffer, offset, (int) Math.min(length, untilReplacement));
+                if (read != -1) {
+                    position += read;
+                }
+                return read;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            base.close();
+        }
+    }
+
+    /// Writes the library and remembers the positions of the entries
+    private static class PositionRecordingWriter extends BibDatabaseWriter {
+
+        private final AtomicFileWriter fileWriter;
+        private final Map<String, EntryBlock> entryBlocks = new HashMap<>();
+        private long entriesEnd;
+
+        PositionRecordingWriter(AtomicFileWriter fileWriter,
+                                String newLineSeparator,
+                                SelfContainedSaveConfiguration saveConfiguration,
+                                FieldPreferences fieldPreferences,
+                                CitationKeyPatternPreferences keyPatternPreferences,
+                                BibEntryTypesManager entryTypesManager) {
+            super(new BibWriter(fileWriter, newLineSeparator), saveConfiguration, fieldPreferences, keyPatternPreferences, entryTypesManager);
+            this.fileWriter = fileWriter;
+        }
+
+        @Override
+        protected void writeEntries(List<BibEntry> sortedEntries, BibDatabaseMode mode) throws IOException {
+            super.writeEntries(sortedEntries, mode);
+            entriesEnd = fileWriter.getBytePosition();
+        }
+
+        @Override
+        protected void writeFormattedEntry(BibEntry entry, @Nullable String formattedEntry) throws IOException {
+            long start = fileWriter.getBytePosition();
+            bibWriter.writeBlockSeparator();
+            long blockStart = fileWriter.getBytePosition();
+            super.writeFormattedEntry(entry, formattedEntry);
+            entryBlocks.put(entry.getId(), new EntryBlock(start, blockStart, fileWriter.getBytePosition()));
+        }
+    }
+}
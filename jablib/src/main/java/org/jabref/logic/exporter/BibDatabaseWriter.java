@@ -1,18 +1,26 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,6 +40,7 @@ import org.jabref.logic.cleanup.FieldFormatterCleanupActions;
 import org.jabref.logic.cleanup.NormalizeWhitespacesCleanup;
 import org.jabref.logic.formatter.bibtexfields.TrimWhitespaceFormatter;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.strings.StringUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
@@ -48,6 +57,7 @@ import org.jabref.model.metadata.SelfContainedSaveOrder;
 
 import org.jooq.lambda.Unchecked;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +75,9 @@ public class BibDatabaseWriter {
 
     private static final String STRING_PREFIX = "@String";
 
+    /// Number of entries formatted by one task when the entries are formatted in parallel
+    private static final int ENTRIES_PER_CHUNK = 256;
+
     protected final BibWriter bibWriter;
     protected final SelfContainedSaveConfiguration saveConfiguration;
     protected final CitationKeyPatternPreferences keyPatternPreferences;
@@ -200,10 +213,13 @@ public class BibDatabaseWriter {
 
         // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+        if (saveConfiguration.shouldKeepEntriesUnchanged()) {
+            sortedEntries = copyEntriesToBeChanged(sortedEntries, bibDatabaseContext.getMetaData());
+        }
 
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
+        List<FieldChange> saveActionChanges = applySaveActions(getEntriesToApplySaveActions(sortedEntries, bibDatabaseContext.getMetaData()), bibDatabaseContext.getMetaData(), fieldPreferences);
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
@@ -222,10 +238,10 @@ public class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
 
+        writeEntries(sortedEntries, bibDatabaseContext.getMode());
+
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
@@ -238,6 +254,31 @@ public class BibDatabaseWriter {
         writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
     }
 
+    /// Replaces the entries which might be changed by the save actions or by the generation of citation keys by copies.
+    /// All other entries are written as they are, thus the library is not copied as a whole.
+    /// The copies keep the id of the original entry.
+    private List<BibEntry> copyEntriesToBeChanged(List<BibEntry> sortedEntries, MetaData metaData) {
+        boolean saveActionsDefined = metaData.getSaveActions().isPresent();
+        boolean generateKeys = keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving();
+        return sortedEntries.stream()
+                            .map(entry -> {
+                                // Whitespace is trimmed for changed entries only
+                                if (saveActionsDefined || entry.hasChanged() || (generateKeys && StringUtil.isBlank(entry.getCitationKey()))) {
+                                    BibEntry copy = new BibEntry(entry);
+                                    copy.setId(entry.getId());
+                                    copy.setChanged(entry.hasChanged());
+                                    return copy;
+                                }
+                                return entry;
+                            })
+                            .toList();
+    }
+
+    /// Returns the entries the save actions are applied to before writing. By default, these are all entries to write.
+    protected List<BibEntry> getEntriesToApplySaveActions(List<BibEntry> sortedEntries, MetaData metaData) {
+        return sortedEntries;
+    }
+
     protected void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException {
         // We write the encoding if
         //   - it is provided (!= null)
@@ -252,7 +293,104 @@ public class BibDatabaseWriter {
         bibWriter.writeLine(SaveConfiguration.ENCODING_PREFIX + encoding);
     }
 
-    protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+    /// Writes the entries in the given order.
+    ///
+    /// The entries are formatted in chunks. For many entries, the chunks are formatted concurrently into separate buffers.
+    /// Only a limited number of chunks is kept in memory at once. The background tasks format copies of the entries,
+    /// so that they never access entries shared with other threads.
+    /// The formatted entries are handed to [#writeFormattedEntry(BibEntry, String)] in order on the calling thread.
+    protected void writeEntries(List<BibEntry> sortedEntries, BibDatabaseMode mode) throws IOException {
+        boolean inParallel = sortedEntries.size() >= 2 * ENTRIES_PER_CHUNK;
+        int maximumChunksInProgress = inParallel ? 2 * Runtime.getRuntime().availableProcessors() : 1;
+        Deque<FormattingChunk> chunksInProgress = new ArrayDeque<>();
+        try {
+            for (int start = 0; start < sortedEntries.size(); start += ENTRIES_PER_CHUNK) {
+                List<BibEntry> chunk = sortedEntries.subList(start, Math.min(start + ENTRIES_PER_CHUNK, sortedEntries.size()));
+                chunksInProgress.add(new FormattingChunk(chunk, formatEntries(chunk, mode, inParallel)));
+                if (chunksInProgress.size() >= maximumChunksInProgress) {
+                    writeFormattedChunk(chunksInProgress.poll());
+                }
+            }
+            while (!chunksInProgress.isEmpty()) {
+                writeFormattedChunk(chunksInProgress.poll());
+            }
+        } finally {
+            chunksInProgress.forEach(chunk -> chunk.formattedEntries().cancel(true));
+        }
+    }
+
+    /// Returns whether the entry has to be formatted. Otherwise, [#writeFormattedEntry(BibEntry, String)] receives `null` for the entry.
+    protected boolean shouldFormat(BibEntry entry) {
+        return true;
+    }
+
+    /// Writes an entry formatted by [BibEntryWriter]
+    ///
+    /// @param formattedEntry the complete block of the entry, or `null` if the entry should not be formatted (see [#shouldFormat(BibEntry)])
+    protected void writeFormattedEntry(BibEntry entry, @Nullable String formattedEntry) throws IOException {
+        if (formattedEntry != null) {
+            bibWriter.writeFormattedBlocks(formattedEntry);
+        }
+    }
+
+    private record FormattingChunk(List<BibEntry> entries, Future<List<@Nullable String>> formattedEntries) {
+    }
+
+    private Future<List<@Nullable String>> formatEntries(List<BibEntry> chunk, BibDatabaseMode mode, boolean inBackground) throws IOException {
+        if (!inBackground) {
+            return CompletableFuture.completedFuture(formatEntries(chunk.stream().map(entry -> shouldFormat(entry) ? entry : null).toList(), mode));
+        }
+        // The copies are taken on this thread
+        List<@Nullable BibEntry> copies = chunk.stream().map(entry -> shouldFormat(entry) ? new BibEntry(entry) : null).toList();
+        try {
+            return HeadlessExecutorService.INSTANCE.execute(() -> formatEntries(copies, mode));
+        } catch (RejectedExecutionException e) {
+            // The executor is already shut down, e.g., when saving while JabRef is closed
+            return CompletableFuture.completedFuture(formatEntries(copies, mode));
+        }
+    }
+
+    private List<@Nullable String> formatEntries(List<@Nullable BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
+        List<@Nullable String> formattedEntries = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            if (entry == null) {
+                formattedEntries.add(null);
+                continue;
+            }
+            StringWriter stringWriter = new StringWriter();
+            bibtexEntryWriter.write(entry, new BibWriter(stringWriter, bibWriter.getNewLineSeparator()), mode, saveConfiguration.shouldReformatFile());
+            formattedEntries.add(stringWriter.toString());
+        }
+        return formattedEntries;
+    }
+
+    private void writeFormattedChunk(FormattingChunk chunk) throws IOException {
+        List<@Nullable String> formattedEntries = getFormattedEntries(chunk.formattedEntries());
+        for (int i = 0; i < formattedEntries.size(); i++) {
+            writeFormattedEntry(chunk.entries().get(i), formattedEntries.get(i));
+        }
+    }
+
+    private static List<@Nullable String> getFormattedEntries(Future<List<@Nullable String>> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while formatting entries");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Could not format entries", e.getCause());
+        }
+    }
+
+    /// Writes a single entry directly. Final, as [#writeEntries(List, BibDatabaseMode)] formats the entries without this method.
+    protected final void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
         bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
     }
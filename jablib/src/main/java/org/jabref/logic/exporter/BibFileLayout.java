@@ -0,0 +1,111 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.cleanup.FieldFormatterCleanupActions;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Remembers where the entries written unchanged are located in a .bib file last written by [IncrementalBibDatabaseWriter].
+///
+/// The layout is recorded while writing and becomes usable after the caller has [#confirm()]ed that the file was written completely.
+/// It is only handed out again as long as the file on disk still has the size and modification time observed after writing.
+/// Thus, a file changed by another program is written completely again.
+public class BibFileLayout {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibFileLayout.class);
+
+    /// Byte positions of an entry in the file
+    ///
+    /// @param start      the start of the line break separating the entry from the previous block, if any
+    /// @param blockStart the start of the entry itself
+    /// @param end        the end of the entry, including its final line break
+    record EntryBlock(long start, long blockStart, long end) {
+        boolean hasSeparator() {
+            return start < blockStart;
+        }
+    }
+
+    /// The layout of a written file
+    ///
+    /// @param entryBlocks  the positions of the entries written unchanged by their ids
+    /// @param size         the number of bytes written
+    /// @param lastModified the modification time of the file after writing, unknown until the layout is confirmed
+    record WrittenFile(Path file,
+                       Charset encoding,
+                       String newLineSeparator,
+                       Optional<FieldFormatterCleanupActions> saveActions,
+                       Map<String, EntryBlock> entryBlocks,
+                       long size,
+                       @Nullable FileTime lastModified) {
+    }
+
+    private @Nullable WrittenFile confirmed;
+    private @Nullable WrittenFile pending;
+
+    /// Returns the layout of the given file if it was written with the given encoding and line separator and if it was not changed since then.
+    /// The layout is removed, as the file is about to be written again.
+    synchronized Optional<WrittenFile> takeLayout(Path file, Charset encoding, String newLineSeparator) {
+        WrittenFile writtenFile = confirmed;
+        confirmed = null;
+        if ((writtenFile == null)
+                || !writtenFile.file().equals(file)
+                || !writtenFile.encoding().equals(encoding)
+                || !writtenFile.newLineSeparator().equals(newLineSeparator)) {
+            return Optional.empty();
+        }
+        try {
+            if ((Files.size(file) != writtenFile.size()) || !Files.getLastModifiedTime(file).equals(writtenFile.lastModified())) {
+                LOGGER.debug("File {} was changed since it was last written", file);
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not check file {}", file, e);
+            return Optional.empty();
+        }
+        return Optional.of(writtenFile);
+    }
+
+    synchronized void record(WrittenFile writtenFile) {
+        pending = writtenFile;
+    }
+
+    /// Confirms that the file of the layout recorded last was written completely
+    public synchronized void confirm() {
+        if (pending == null) {
+            return;
+        }
+        try {
+            if (Files.size(pending.file()) == pending.size()) {
+                confirmed = new WrittenFile(pending.file(),
+                        pending.encoding(),
+                        pending.newLineSeparator(),
+                        pending.saveActions(),
+                        pending.entryBlocks(),
+                        pending.size(),
+                        Files.getLastModifiedTime(pending.file()));
+            } else {
+                LOGGER.debug("File {} does not have the size recorded while writing", pending.file());
+                confirmed = null;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not check file {}", pending.file(), e);
+            confirmed = null;
+        }
+        pending = null;
+    }
+
+    /// Forgets the layout, so that the file is written completely the next time
+    public synchronized void invalidate() {
+        confirmed = null;
+        pending = null;
+    }
+}
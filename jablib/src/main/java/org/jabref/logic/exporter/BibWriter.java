@@ -60,6 +60,43 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    /// Returns whether the line break separating the next block from the previous one is still to be written
+    public boolean isBlockSeparatorPending() {
+        return precedingNewLineRequired;
+    }
+
+    /// Writes the line break separating the next block from the previous one, if it is still to be written
+    public void writeBlockSeparator() throws IOException {
+        if (precedingNewLineRequired) {
+            writer.write(newLineSeparator);
+            precedingNewLineRequired = false;
+        }
+    }
+
+    /// Notes that a complete block, finished by a line break, was written to the underlying writer without using this class.
+    /// A pending block separator is assumed to be part of that block.
+    public void finishExternallyWrittenBlock() {
+        lastWriteWasNewline = true;
+        somethingWasWritten = false;
+        precedingNewLineRequired = true;
+    }
+
+    /// Writes blocks formatted by another instance of this class using the same line separator.
+    /// The given text has to end with a finished block.
+    public void writeFormattedBlocks(String blocks) throws IOException {
+        if (blocks.isEmpty()) {
+            return;
+        }
+        writeBlockSeparator();
+        writer.write(blocks);
+        currentPosition += blocks.length();
+        finishExternallyWrittenBlock();
+    }
+
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
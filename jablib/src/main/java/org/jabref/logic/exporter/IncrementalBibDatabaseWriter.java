@@ -0,0 +1,142 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibFileLayout.EntryBlock;
+import org.jabref.logic.exporter.BibFileLayout.WrittenFile;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.MetaData;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/// Writes a .bib file like [BibDatabaseWriter], but copies the bytes of unchanged entries from the previous version of the file.
+///
+/// Entries not marked as changed (see [BibEntry#hasChanged()]) are written as their parsed serialization.
+/// Thus, their bytes are the same as in the last file written by this class.
+/// The positions of these entries are recorded in a [BibFileLayout], which has to be kept between the writes of the same file.
+/// On the next write, such an entry is copied from the previous version of the file instead of being written again.
+/// Entries following each other in both versions are copied at once.
+/// The save actions are not applied to these entries again, as long as they did not change.
+///
+/// The file is written completely if there is no usable layout: on the first write, if the file was changed by another program,
+/// if the encoding or the line separator changed, or if the file should be reformatted.
+public class IncrementalBibDatabaseWriter extends BibDatabaseWriter {
+
+    private final AtomicFileWriter fileWriter;
+    private final String newLineSeparator;
+    private final BibFileLayout fileLayout;
+    private final Map<String, EntryBlock> entryBlocks = new HashMap<>();
+
+    private @Nullable WrittenFile previousFile;
+    private @Nullable FileChannel previousContent;
+
+    public IncrementalBibDatabaseWriter(@NonNull AtomicFileWriter fileWriter,
+                                        @NonNull String newLineSeparator,
+                                        @NonNull BibFileLayout fileLayout,
+                                        SelfContainedSaveConfiguration saveConfiguration,
+                                        FieldPreferences fieldPreferences,
+                                        CitationKeyPatternPreferences keyPatternPreferences,
+                                        BibEntryTypesManager entryTypesManager) {
+        super(new BibWriter(fileWriter, newLineSeparator), saveConfiguration, fieldPreferences, keyPatternPreferences, entryTypesManager);
+        this.fileWriter = fileWriter;
+        this.newLineSeparator = newLineSeparator;
+        this.fileLayout = fileLayout;
+    }
+
+    @Override
+    public void writePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        if (saveConfiguration.shouldReformatFile()) {
+            fileLayout.invalidate();
+            previousFile = null;
+        } else {
+            previousFile = fileLayout.takeLayout(fileWriter.getFile(), fileWriter.getCharset(), newLineSeparator).orElse(null);
+        }
+        try (FileChannel channel = (previousFile == null) ? null : FileChannel.open(previousFile.file(), StandardOpenOption.READ)) {
+            previousContent = channel;
+            super.writePartOfDatabase(bibDatabaseContext, entries);
+            // Perform the outstanding copies before the previous version of the file is closed and replaced
+            fileWriter.flush();
+        } finally {
+            previousContent = null;
+        }
+
+        if (!saveConfiguration.shouldReformatFile()) {
+            fileLayout.record(new WrittenFile(
+                    fileWriter.getFile(),
+                    fileWriter.getCharset(),
+                    newLineSeparator,
+                    bibDatabaseContext.getMetaData().getSaveActions(),
+                    Map.copyOf(entryBlocks),
+                    fileWriter.getBytePosition(),
+                    null));
+        }
+    }
+
+    @Override
+    protected List<BibEntry> getEntriesToApplySaveActions(List<BibEntry> sortedEntries, MetaData metaData) {
+        WrittenFile writtenFile = previousFile;
+        if ((writtenFile == null) || !writtenFile.saveActions().equals(metaData.getSaveActions())) {
+            return sortedEntries;
+        }
+        // The save actions did not change entries copied from the previous version, otherwise these would have been marked as changed
+        return sortedEntries.stream()
+                            .filter(entry -> entry.hasChanged() || !writtenFile.entryBlocks().containsKey(entry.getId()))
+                            .toList();
+    }
+
+    /// Unchanged entries contained in the previous version of the file are copied instead of formatted
+    @Override
+    protected boolean shouldFormat(BibEntry entry) {
+        return saveConfiguration.shouldReformatFile()
+                || entry.hasChanged()
+                || (previousContent == null)
+                || (previousFile == null)
+                || !previousFile.entryBlocks().containsKey(entry.getId());
+    }
+
+    /// Records the positions of the unchanged entries, as these are copied on the next write
+    @Override
+    protected void writeFormattedEntry(BibEntry entry, @Nullable String formattedEntry) throws IOException {
+        if (formattedEntry != null) {
+            if (saveConfiguration.shouldReformatFile() || entry.hasChanged()) {
+                super.writeFormattedEntry(entry, formattedEntry);
+                return;
+            }
+            long start = fileWriter.getBytePosition();
+            bibWriter.writeBlockSeparator();
+            long blockStart = fileWriter.getBytePosition();
+            super.writeFormattedEntry(entry, formattedEntry);
+            entryBlocks.put(entry.getId(), new EntryBlock(start, blockStart, fileWriter.getBytePosition()));
+            return;
+        }
+
+        FileChannel content = Objects.requireNonNull(previousContent);
+        EntryBlock previousBlock = Objects.requireNonNull(previousFile).entryBlocks().get(entry.getId());
+        long start = fileWriter.getBytePosition();
+        if (bibWriter.isBlockSeparatorPending() && previousBlock.hasSeparator()) {
+            // Copy the separator as well, so that the copy can be merged with the one of the previous entry
+            fileWriter.copyFrom(content, previousBlock.start(), previousBlock.end() - previousBlock.start());
+            entryBlocks.put(entry.getId(), new EntryBlock(
+                    start,
+                    start + (previousBlock.blockStart() - previousBlock.start()),
+                    start + (previousBlock.end() - previousBlock.start())));
+        } else {
+            bibWriter.writeBlockSeparator();
+            long blockStart = fileWriter.getBytePosition();
+            fileWriter.copyFrom(content, previousBlock.blockStart(), previousBlock.end() - previousBlock.blockStart());
+            entryBlocks.put(entry.getId(), new EntryBlock(start, blockStart, blockStart + (previousBlock.end() - previousBlock.blockStart())));
+        }
+        bibWriter.finishExternallyWrittenBlock();
+    }
+}
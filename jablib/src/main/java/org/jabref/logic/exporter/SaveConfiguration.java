@@ -11,6 +11,7 @@ public class SaveConfiguration {
     private SaveOrder saveOrder;
     private boolean makeBackup;
     private BibDatabaseWriter.SaveType saveType;
+    private boolean keepEntriesUnchanged;
 
     public SaveConfiguration(SaveOrder saveOrder,
                              Boolean makeBackup,
@@ -59,6 +60,18 @@ public class SaveConfiguration {
         return this;
     }
 
+    public boolean shouldKeepEntriesUnchanged() {
+        return keepEntriesUnchanged;
+    }
+
+    /// Required by the BackupManager, which writes the library while it is in use.
+    ///
+    /// @param newKeepEntriesUnchanged whether the save actions and the generation of citation keys should be applied to copies of the affected entries only
+    public SaveConfiguration withKeepEntriesUnchanged(boolean newKeepEntriesUnchanged) {
+        this.keepEntriesUnchanged = newKeepEntriesUnchanged;
+        return this;
+    }
+
     public boolean shouldReformatFile() {
         return reformatFile;
     }
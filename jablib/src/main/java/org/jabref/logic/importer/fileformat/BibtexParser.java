@@ -3,17 +3,16 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -91,15 +90,52 @@ import static org.jabref.logic.util.MetadataSerializationConfiguration.GROUP_TYP
 ///
 /// FIXME: This class relies on `char`, but should use [java.lang.Character] to be fully Unicode compliant.
 public class BibtexParser implements Parser {
+
+    /// Receives the parts of a library as soon as they are parsed.
+    /// This way, the first entries of a large file can be processed while the rest of the file is still read.
+    ///
+    /// All methods are called on the thread calling [BibtexParser#parse(Reader, ParseListener)].
+    /// The parser may still change an entry after it was passed to the listener: entries contained in BibDesk groups get their `groups` field set when the end of the file is reached.
+    public interface ParseListener {
+        default void entryParsed(BibEntry entry) {
+        }
+
+        default void stringParsed(BibtexString string) {
+        }
+
+        /// Called after all entries and strings are parsed, if the metadata could be parsed
+        default void metaDataParsed(MetaData metaData) {
+        }
+    }
+
+    private static final ParseListener NO_OP_LISTENER = new ParseListener() {
+    };
+
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
     private static final int LOOKAHEAD = 1024;
+    private static final int INPUT_BUFFER_SIZE = 64 * 1024;
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final Pattern EPILOG_PATTERN = Pattern.compile("\\w+\\s*=.*,");
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    // The input is read in windows of INPUT_BUFFER_SIZE characters. Unread characters are put back into the window if possible.
+    // Otherwise, they are pushed to a stack (just as PushbackReader does, but without synchronizing on every character).
+    private Reader reader;
+    private final char[] inputBuffer = new char[INPUT_BUFFER_SIZE];
+    private int inputPosition;
+    private int inputLength;
+    private final char[] pushbackBuffer = new char[LOOKAHEAD];
+    private int pushbackLength;
+
+    // All characters read since the last call of getPureTextFromFile()
+    private char[] pureTextFromFile = new char[INPUT_BUFFER_SIZE];
+    private int pureTextLength;
+
+    // Field names repeat in every entry, thus each name is converted to a Field only once
+    private final Map<String, Field> parsedFields = new HashMap<>();
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -112,6 +148,7 @@ public class BibtexParser implements Parser {
     private final Deque<Integer> highestColumns = new ArrayDeque<>();
 
     private ParserResult parserResult;
+    private ParseListener parseListener = NO_OP_LISTENER;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibDeskGroups;
 
@@ -167,7 +204,17 @@ public class BibtexParser implements Parser {
     ///
     /// Handling of encoding is done at {@link BibtexImporter}
     public ParserResult parse(@NonNull Reader in) throws IOException {
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        return parse(in, NO_OP_LISTENER);
+    }
+
+    /// Parses like [#parse(Reader)], but additionally passes each part of the library to the given listener as soon as it is parsed
+    public ParserResult parse(@NonNull Reader in, @NonNull ParseListener listener) throws IOException {
+        parseListener = listener;
+        reader = in;
+        inputPosition = 0;
+        inputLength = 0;
+        pushbackLength = 0;
+        pureTextLength = 0;
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -189,7 +236,7 @@ public class BibtexParser implements Parser {
         // @formatter:off
         do {
             // @formatter:on
-            currentChar = pushbackReader.read();
+            currentChar = readFromInput();
             stringWriter.append((char) currentChar);
             i++;
         } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
@@ -200,7 +247,10 @@ public class BibtexParser implements Parser {
         }
 
         // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        String sneakedCharacters = stringWriter.toString();
+        for (int j = sneakedCharacters.length() - 1; j >= 0; j--) {
+            unreadToInput(sneakedCharacters.charAt(j));
+        }
 
         return newLineSeparator;
     }
@@ -295,6 +345,7 @@ public class BibtexParser implements Parser {
                 );
             }
             parserResult.setMetaData(metaData);
+            parseListener.metaDataParsed(metaData);
         } catch (ParseException exception) {
             parserResult.addException(new ParserResult.Range(startLine, startColumn, line, column), exception);
         }
@@ -345,6 +396,7 @@ public class BibtexParser implements Parser {
             entry.setParsedSerialization(parsedSerialization);
 
             database.insertEntry(entry);
+            parseListener.entryParsed(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -467,6 +519,7 @@ public class BibtexParser implements Parser {
         BibtexString bibtexString = parseString();
         try {
             database.addString(bibtexString);
+            parseListener.stringParsed(bibtexString);
         } catch (KeyCollisionException ex) {
             parserResult.addWarning(new ParserResult.Range(startLine, startColumn, line, column), Localization.lang("Duplicate string name: '%0'", bibtexString.getName()));
         }
@@ -519,12 +572,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String entry = new String(pureTextFromFile, 0, pureTextLength);
+        pureTextLength = 0;
+        return entry;
     }
 
     /// Removes all eof characters from a StringBuilder and returns a new String with the resulting content
@@ -532,7 +582,7 @@ public class BibtexParser implements Parser {
     /// @return a String without eof characters
     private String purgeEOFCharacters(String input) {
         StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        for (char character : input.toCharArray()) {
             if (!isEOFCharacter(character)) {
                 remainingText.append(character);
             }
@@ -634,10 +684,13 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = readFromInput();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            if (pureTextLength == pureTextFromFile.length) {
+                pureTextFromFile = Arrays.copyOf(pureTextFromFile, pureTextFromFile.length * 2);
+            }
+            pureTextFromFile[pureTextLength++] = (char) character;
         }
         if (character == '\n') {
             line++;
@@ -656,10 +709,36 @@ public class BibtexParser implements Parser {
         } else {
             column--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        unreadToInput(character);
+        if ((pureTextLength > 0) && (pureTextFromFile[pureTextLength - 1] == character)) {
+            pureTextLength--;
+        }
+    }
+
+    private int readFromInput() throws IOException {
+        if (pushbackLength > 0) {
+            return pushbackBuffer[--pushbackLength];
+        }
+        if (inputPosition == inputLength) {
+            inputPosition = 0;
+            inputLength = Math.max(reader.read(inputBuffer, 0, INPUT_BUFFER_SIZE), 0);
+            if (inputLength == 0) {
+                return -1;
+            }
+        }
+        return inputBuffer[inputPosition++];
+    }
+
+    /// Behaves like [java.io.PushbackReader#unread(int)] with a pushback buffer of size [#LOOKAHEAD]
+    private void unreadToInput(int character) throws IOException {
+        if ((pushbackLength == 0) && (inputPosition > 0) && (inputBuffer[inputPosition - 1] == (char) character)) {
+            inputPosition--;
+            return;
+        }
+        if (pushbackLength == LOOKAHEAD) {
+            throw new IOException("Pushback buffer overflow");
         }
+        pushbackBuffer[pushbackLength++] = (char) character;
     }
 
     private BibtexString parseString() throws IOException {
@@ -744,7 +823,7 @@ public class BibtexParser implements Parser {
     private void parseField(BibEntry entry) throws IOException {
         int startLine = line;
         int startColumn = column;
-        Field field = FieldFactory.parseField(parseTextToken());
+        Field field = parsedFields.computeIfAbsent(parseTextToken(), FieldFactory::parseField);
 
         skipWhitespace();
         consume(field, '=');
@@ -9,12 +9,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 import org.jabref.logic.util.strings.StringSimilarity;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.base.Suppliers;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.jspecify.annotations.NonNull;
@@ -23,6 +27,12 @@ import org.jspecify.annotations.NonNull;
 public class JournalAbbreviationRepository {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
+    // edit distance threshold for fuzzy matching, see StringSimilarity#isSimilar
+    private static final int FUZZY_MAX_DISTANCE = 4;
+    // threshold for edit distance similarity comparison
+    private static final double SIMILARITY_THRESHOLD = 1.0;
+    private static final int FUZZY_CACHE_SIZE = 1024;
+
     private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
     private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
     private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
@@ -31,6 +41,12 @@ public class JournalAbbreviationRepository {
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
 
+    /// Built on the first fuzzy lookup, because the built-in list does not change after loading
+    private final Supplier<JournalNameFuzzyIndex> fuzzyIndex = Suppliers.memoize(() -> new JournalNameFuzzyIndex(fullToAbbreviationObject.values()));
+    private final LoadingCache<String, Optional<Abbreviation>> fuzzyMatchCache = Caffeine.newBuilder()
+                                                                                         .maximumSize(FUZZY_CACHE_SIZE)
+                                                                                         .build(this::findBestFuzzyMatchedInLoaded);
+
     /// Initializes the internal data based on the abbreviations found in the given MV file
     ///
     /// @param journalList    The path to the MV file containing the journal abbreviations.
@@ -151,24 +167,46 @@ public class JournalAbbreviationRepository {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        if (isTooShortForFuzzyMatching(input)) {
+            return Optional.empty();
+        }
+        return fuzzyMatchCache.get(input);
+    }
+
+    private Optional<Abbreviation> findBestFuzzyMatchedInLoaded(String input) {
+        List<JournalNameFuzzyIndex.Match> candidates = fuzzyIndex.get().findWithinDistance(input, FUZZY_MAX_DISTANCE);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (candidates.size() > 1) {
+            // If there is a very close match of two abbreviations, do not use any of them, because they are too close.
+            if (Math.abs(candidates.getFirst().distance() - candidates.get(1).distance()) < SIMILARITY_THRESHOLD) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(candidates.getFirst().abbreviation());
     }
 
-    /// Fuzzy searches abbreviations
-    ///
     /// To prevent wrong matches, such as Nutrients converted to Nutrition we do fuzzy matching if the title is three words or more (or contains non-ASCII characters)
-    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+    private static boolean isTooShortForFuzzyMatching(String input) {
         // Only one or two words - do not do fuzzy matching
         if (input.trim().split("\\s+").length <= 1) {
             // Some Chinese titles do not contain spaces
             boolean isAscii = input.chars().allMatch(c -> c <= 0x7F);
-            if (isAscii) {
-                return Optional.empty();
-            }
+            return isAscii;
         }
+        return false;
+    }
 
-        // threshold for edit distance similarity comparison
-        final double SIMILARITY_THRESHOLD = 1.0;
+    /// Fuzzy searches abbreviations by comparing the input with each of the given abbreviations
+    ///
+    /// Used for the (small and changing) list of custom abbreviations. The built-in list is searched using {@link JournalNameFuzzyIndex}.
+    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+        if (isTooShortForFuzzyMatching(input)) {
+            return Optional.empty();
+        }
 
         List<Abbreviation> candidates = abbreviations.stream()
                                                      .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
@@ -0,0 +1,133 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/// Approximate-match index over the full names of journal abbreviations.
+///
+/// Returns all abbreviations whose full name is within a given Levenshtein distance of the query (ignoring case).
+/// Instead of computing the edit distance to every name, candidates are pre-selected by
+///
+/// - their length (the length difference is a lower bound of the edit distance) and
+/// - the number of shared bigrams (q-gram lemma: each edit operation destroys at most two bigrams).
+///
+/// Only the remaining candidates are verified using an edit distance computation, which stops as soon as the threshold is exceeded.
+///
+/// The index is immutable and thus safe to be queried from multiple threads.
+class JournalNameFuzzyIndex {
+
+    private static final int Q = 2;
+
+    private final Abbreviation[] abbreviations;
+    private final String[] lowerCaseNames;
+
+    /// Bigram to pairs of (name index, number of occurrences in that name)
+    private final Map<String, int[]> postings;
+
+    JournalNameFuzzyIndex(Collection<Abbreviation> abbreviationsToIndex) {
+        this.abbreviations = abbreviationsToIndex.toArray(Abbreviation[]::new);
+        this.lowerCaseNames = new String[abbreviations.length];
+
+        Map<String, List<int[]>> postingLists = new HashMap<>();
+        for (int i = 0; i < abbreviations.length; i++) {
+            lowerCaseNames[i] = toLowerCase(abbreviations[i].getName());
+            int nameIndex = i;
+            countQGrams(lowerCaseNames[i]).forEach((qGram, count) ->
+                    postingLists.computeIfAbsent(qGram, _ -> new ArrayList<>()).add(new int[] {nameIndex, count}));
+        }
+
+        this.postings = new HashMap<>(postingLists.size());
+        postingLists.forEach((qGram, list) -> {
+            int[] flat = new int[list.size() * 2];
+            for (int i = 0; i < list.size(); i++) {
+                flat[2 * i] = list.get(i)[0];
+                flat[(2 * i) + 1] = list.get(i)[1];
+            }
+            postings.put(qGram, flat);
+        });
+    }
+
+    /// Uses the same case folding as {@link org.jabref.logic.util.strings.StringSimilarity#editDistanceIgnoreCase(String, String)}
+    private static String toLowerCase(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+    /// Returns all abbreviations whose full name has an edit distance of at most `maxDistance` to the given name,
+    /// sorted by ascending distance.
+    List<Match> findWithinDistance(String name, int maxDistance) {
+        String query = toLowerCase(name);
+        int[] sharedQGrams = new int[abbreviations.length];
+        countQGrams(query).forEach((qGram, countInQuery) -> {
+            int[] posting = postings.get(qGram);
+            if (posting == null) {
+                return;
+            }
+            for (int i = 0; i < posting.length; i += 2) {
+                sharedQGrams[posting[i]] += Math.min(countInQuery, posting[i + 1]);
+            }
+        });
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < abbreviations.length; i++) {
+            String candidate = lowerCaseNames[i];
+            if (Math.abs(candidate.length() - query.length()) > maxDistance) {
+                continue;
+            }
+            int requiredSharedQGrams = (Math.max(candidate.length(), query.length()) - Q + 1) - (maxDistance * Q);
+            if (sharedQGrams[i] < requiredSharedQGrams) {
+                continue;
+            }
+            int distance = boundedEditDistance(query, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new Match(abbreviations[i], distance));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance));
+        return matches;
+    }
+
+    private static Map<String, Integer> countQGrams(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int start = 0; (start + Q) <= text.length(); start++) {
+            counts.merge(text.substring(start, start + Q), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /// Levenshtein distance of the two strings, or `limit + 1` if the distance exceeds `limit`
+    static int boundedEditDistance(String first, String second, int limit) {
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (firstChar == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], limit + 1);
+    }
+
+    record Match(Abbreviation abbreviation, int distance) {
+    }
+}
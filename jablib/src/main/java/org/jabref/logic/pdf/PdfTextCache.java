@@ -0,0 +1,242 @@
+package org.jabref.logic.pdf;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jabref.logic.util.Directories;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Cache of the text of PDF files, shared by all libraries and all features reading the text of PDF files.
+///
+/// The text is stored per page, compressed, in a file named by the SHA-256 hash of the PDF file.
+/// Thus, a file linked from several libraries, or copied to another location, is read by PDFBox only once.
+/// If the cache grows larger than its maximum size, the least recently used files are removed.
+public class PdfTextCache {
+
+    /// Increase if the way the text is extracted changes
+    public static final String VERSION = "1";
+
+    /// Text of a single page of a PDF file
+    ///
+    /// @param text        the text of the page, lines separated by `\n`
+    /// @param annotations the contents of the annotations on the page
+    public record Page(String text, List<String> annotations) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfTextCache.class);
+
+    private static final String FILE_EXTENSION = ".txt.gz";
+    private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024;
+
+    private static PdfTextCache defaultCache;
+
+    private final Path directory;
+    private final long maxSizeBytes;
+
+    /// Size of all cached files, determined on first use
+    private long size = -1;
+
+    public PdfTextCache(Path directory, long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /// Returns the cache stored in the user data directory
+    public static synchronized PdfTextCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new PdfTextCache(Directories.getPdfTextCacheDirectory(), DEFAULT_MAX_SIZE_BYTES);
+        }
+        return defaultCache;
+    }
+
+    public Optional<List<Page>> getPages(Path pdfFile, BooleanSupplier shouldStop) throws IOException {
+        return getPages(pdfFile, IOUtils.createMemoryOnlyStreamCache(), shouldStop);
+    }
+
+    /// Returns the text of all pages of the given file. The file is read using PDFBox only if it is not contained in the cache.
+    ///
+    /// @param streamCache used by PDFBox for buffering when reading the file
+    /// @param shouldStop  checked before each page is read
+    /// @return empty if reading was stopped. In that case, nothing is cached.
+    public Optional<List<Page>> getPages(Path pdfFile, StreamCacheCreateFunction streamCache, BooleanSupplier shouldStop) throws IOException {
+        Path cacheFile = directory.resolve(MoreFiles.asByteSource(pdfFile).hash(Hashing.sha256()) + FILE_EXTENSION);
+        Optional<List<Page>> cachedPages = readCacheFile(cacheFile);
+        if (cachedPages.isPresent()) {
+            LOGGER.debug("Using cached text of {}", pdfFile);
+            return cachedPages;
+        }
+
+        Optional<List<Page>> pages = readPdf(pdfFile, streamCache, shouldStop);
+        if (pages.isPresent()) {
+            writeCacheFile(cacheFile, pages.get());
+        }
+        return pages;
+    }
+
+    private static Optional<List<Page>> readPdf(Path pdfFile, StreamCacheCreateFunction streamCache, BooleanSupplier shouldStop) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdfFile.toFile(), streamCache)) {
+            int numberOfPages = document.getNumberOfPages();
+            List<Page> pages = new ArrayList<>(numberOfPages);
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setLineSeparator("\n");
+            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
+                if (shouldStop.getAsBoolean()) {
+                    return Optional.empty();
+                }
+                pages.add(readPage(document, stripper, pdfFile, pageNumber));
+            }
+            return Optional.of(pages);
+        }
+    }
+
+    private static Page readPage(PDDocument document, PDFTextStripper stripper, Path pdfFile, int pageNumber) {
+        // PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
+        stripper.setStartPage(pageNumber);
+        stripper.setEndPage(pageNumber);
+        try {
+            String text = stripper.getText(document);
+            List<String> annotations = document.getPage(pageNumber - 1)
+                                               .getAnnotations()
+                                               .stream()
+                                               .map(PDAnnotation::getContents)
+                                               .filter(Objects::nonNull)
+                                               .toList();
+            return new Page(text, annotations);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read page {} of {}", pageNumber, pdfFile.toAbsolutePath(), e);
+            return new Page("", List.of());
+        }
+    }
+
+    private Optional<List<Page>> readCacheFile(Path cacheFile) {
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(Files.newInputStream(cacheFile)))) {
+            int numberOfPages = input.readInt();
+            List<Page> pages = new ArrayList<>(numberOfPages);
+            for (int i = 0; i < numberOfPages; i++) {
+                String text = readString(input);
+                int numberOfAnnotations = input.readInt();
+                List<String> annotations = new ArrayList<>(numberOfAnnotations);
+                for (int j = 0; j < numberOfAnnotations; j++) {
+                    annotations.add(readString(input));
+                }
+                pages.add(new Page(text, annotations));
+            }
+            // Marks the file as recently used
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(pages);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read cached text {}", cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeCacheFile(Path cacheFile, List<Page> pages) {
+        try {
+            Files.createDirectories(directory);
+            // Another thread or JabRef instance might read the same file, thus it is written atomically
+            Path temporaryFile = Files.createTempFile(directory, "pdf-text", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(pages.size());
+                for (Page page : pages) {
+                    writeString(output, page.text());
+                    output.writeInt(page.annotations().size());
+                    for (String annotation : page.annotations()) {
+                        writeString(output, annotation);
+                    }
+                }
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            addToSize(Files.size(cacheFile));
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache text in {}", cacheFile, e);
+        }
+    }
+
+    private synchronized void addToSize(long bytes) throws IOException {
+        if (size < 0) {
+            size = getCacheFiles().stream().mapToLong(PdfTextCache::sizeOf).sum();
+        } else {
+            size += bytes;
+        }
+        if (size > maxSizeBytes) {
+            evict();
+        }
+    }
+
+    /// Removes the least recently used files until the cache is considerably smaller than the maximum size
+    private void evict() throws IOException {
+        List<Path> cacheFiles = new ArrayList<>(getCacheFiles());
+        cacheFiles.sort(Comparator.comparing(PdfTextCache::lastModifiedTime));
+        long targetSize = maxSizeBytes * 3 / 4;
+        for (Path cacheFile : cacheFiles) {
+            if (size <= targetSize) {
+                break;
+            }
+            long fileSize = sizeOf(cacheFile);
+            Files.deleteIfExists(cacheFile);
+            size -= fileSize;
+        }
+        LOGGER.debug("Evicted cached PDF texts, {} bytes remaining", size);
+    }
+
+    private List<Path> getCacheFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION)).toList();
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -90,6 +90,7 @@ import org.jabref.logic.push.PushApplications;
 import org.jabref.logic.push.PushToApplicationPreferences;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.search.SearchPreferences;
+import org.jabref.logic.search.indexing.PdfExtractionSettings;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
 import org.jabref.logic.shared.security.Password;
 import org.jabref.logic.util.BuildInfo;
@@ -361,6 +362,9 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String PREFS_EXPORT_PATH = "prefsExportPath";
     private static final String DOWNLOAD_LINKED_FILES = "downloadLinkedFiles";
     private static final String FULLTEXT_INDEX_LINKED_FILES = "fulltextIndexLinkedFiles";
+    private static final String FULLTEXT_INDEX_WORKERS = "fulltextIndexWorkers";
+    private static final String FULLTEXT_INDEX_TIMEOUT_PER_FILE = "fulltextIndexTimeoutPerFile";
+    private static final String FULLTEXT_INDEX_MAX_MAIN_MEMORY_PER_FILE = "fulltextIndexMaxMainMemoryPerFile";
     private static final String KEEP_DOWNLOAD_URL = "keepDownloadUrl";
 
     // Indexes for Strings within stored custom export entries
@@ -403,6 +407,7 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String AI_DOCUMENT_SPLITTER_OVERLAP_SIZE = "aiDocumentSplitterOverlapSize";
     private static final String AI_RAG_MAX_RESULTS_COUNT = "aiRagMaxResultsCount";
     private static final String AI_RAG_MIN_SCORE = "aiRagMinScore";
+    private static final String AI_APPROXIMATE_EMBEDDING_SEARCH = "aiApproximateEmbeddingSearch";
 
     private static final String AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE = "aiChattingSystemMessageTemplate";
     private static final String AI_CHATTING_USER_MESSAGE_TEMPLATE = "aiChattingUserMessageTemplate";
@@ -637,6 +642,9 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(DOWNLOAD_LINKED_FILES, true);
         // Create Fulltext-Index by default
         defaults.put(FULLTEXT_INDEX_LINKED_FILES, true);
+        defaults.put(FULLTEXT_INDEX_WORKERS, PdfExtractionSettings.DEFAULT.workers());
+        defaults.put(FULLTEXT_INDEX_TIMEOUT_PER_FILE, (int) PdfExtractionSettings.DEFAULT.timeoutPerFile().toSeconds());
+        defaults.put(FULLTEXT_INDEX_MAX_MAIN_MEMORY_PER_FILE, (int) (PdfExtractionSettings.DEFAULT.maxMainMemoryPerFile() / (1024 * 1024)));
 
         String defaultExpression = "**/.*[citationkey].*\\\\.[extension]";
         defaults.put(AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY, defaultExpression);
@@ -683,6 +691,7 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
         defaults.put(AI_RAG_MAX_RESULTS_COUNT, AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         defaults.put(AI_RAG_MIN_SCORE, AiDefaultPreferences.RAG_MIN_SCORE);
+        defaults.put(AI_APPROXIMATE_EMBEDDING_SEARCH, AiDefaultPreferences.APPROXIMATE_EMBEDDING_SEARCH);
         // endregion
 
         // region AI templates
@@ -1650,6 +1659,9 @@ public class JabRefCliPreferences implements CliPreferences {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(FULLTEXT_INDEX_LINKED_FILES),
+                getInt(FULLTEXT_INDEX_WORKERS),
+                getInt(FULLTEXT_INDEX_TIMEOUT_PER_FILE),
+                getInt(FULLTEXT_INDEX_MAX_MAIN_MEMORY_PER_FILE),
                 Path.of(get(WORKING_DIRECTORY)),
                 getBoolean(CREATE_BACKUP),
                 // We choose the data directory, because a ".bak" file should survive cache cleanups
@@ -1673,6 +1685,9 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(filePreferences.fileDirectoryPatternProperty(), (_, _, newValue) -> put(IMPORT_FILEDIRPATTERN, newValue));
         EasyBind.listen(filePreferences.downloadLinkedFilesProperty(), (_, _, newValue) -> putBoolean(DOWNLOAD_LINKED_FILES, newValue));
         EasyBind.listen(filePreferences.fulltextIndexLinkedFilesProperty(), (_, _, newValue) -> putBoolean(FULLTEXT_INDEX_LINKED_FILES, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexWorkersProperty(), (_, _, newValue) -> putInt(FULLTEXT_INDEX_WORKERS, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexTimeoutPerFileProperty(), (_, _, newValue) -> putInt(FULLTEXT_INDEX_TIMEOUT_PER_FILE, newValue));
+        EasyBind.listen(filePreferences.fulltextIndexMaxMainMemoryPerFileProperty(), (_, _, newValue) -> putInt(FULLTEXT_INDEX_MAX_MAIN_MEMORY_PER_FILE, newValue));
         EasyBind.listen(filePreferences.workingDirectoryProperty(), (_, _, newValue) -> put(WORKING_DIRECTORY, newValue.toString()));
         EasyBind.listen(filePreferences.createBackupProperty(), (_, _, newValue) -> putBoolean(CREATE_BACKUP, newValue));
         EasyBind.listen(filePreferences.backupDirectoryProperty(), (_, _, newValue) -> put(BACKUP_DIRECTORY, newValue.toString()));
@@ -1992,6 +2007,7 @@ public class JabRefCliPreferences implements CliPreferences {
                 getInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE),
                 getInt(AI_RAG_MAX_RESULTS_COUNT),
                 getDouble(AI_RAG_MIN_SCORE),
+                getBoolean(AI_APPROXIMATE_EMBEDDING_SEARCH),
                 Map.of(
                         AiTemplate.CHATTING_SYSTEM_MESSAGE, get(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE),
                         AiTemplate.CHATTING_USER_MESSAGE, get(AI_CHATTING_USER_MESSAGE_TEMPLATE),
@@ -2031,6 +2047,7 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(aiPreferences.documentSplitterOverlapSizeProperty(), (_, _, newValue) -> putInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, newValue));
         EasyBind.listen(aiPreferences.ragMaxResultsCountProperty(), (_, _, newValue) -> putInt(AI_RAG_MAX_RESULTS_COUNT, newValue));
         EasyBind.listen(aiPreferences.ragMinScoreProperty(), (_, _, newValue) -> putDouble(AI_RAG_MIN_SCORE, newValue.doubleValue()));
+        EasyBind.listen(aiPreferences.approximateEmbeddingSearchProperty(), (_, _, newValue) -> putBoolean(AI_APPROXIMATE_EMBEDDING_SEARCH, newValue));
 
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_SYSTEM_MESSAGE), (_, _, newValue) -> put(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE, newValue));
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_USER_MESSAGE), (_, _, newValue) -> put(AI_CHATTING_USER_MESSAGE_TEMPLATE, newValue));
@@ -0,0 +1,51 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.logic.search.query.SearchableEntry;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Searches a library like [DatabaseSearcher], but without building an index.
+///
+/// Each entry is matched in memory against the query (see [org.jabref.logic.search.query.SearchToPredicateVisitor]).
+/// The matches are the same, but neither a database server nor the time to index the library is required.
+/// Thus, this is used where a library is searched only a few times, e.g., by the HTTP server.
+/// Linked files are not searched.
+public class InMemoryDatabaseSearcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryDatabaseSearcher.class);
+
+    private final BibDatabase database;
+    private final Character keywordSeparator;
+
+    public InMemoryDatabaseSearcher(BibDatabase database, BibEntryPreferences bibEntryPreferences) {
+        this.database = database;
+        this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
+    }
+
+    /// Like [DatabaseSearcher], entries without fields are never matched.
+    ///
+    /// @return a predicate matching the entries of the library matched by the query. An invalid query matches no entry.
+    public Predicate<BibEntry> getMatcher(SearchQuery query) {
+        if (!query.isValid()) {
+            LOGGER.warn("Search failed: invalid search expression");
+            return _ -> false;
+        }
+        Predicate<SearchableEntry> predicate = SearchQueryConversion.searchToPredicate(query);
+        return entry -> !entry.getFieldMap().isEmpty() && predicate.test(BibFieldsIndexer.getSearchableEntry(entry, database, keywordSeparator));
+    }
+
+    /// @return The matches in the order they appear in the library.
+    public List<BibEntry> getMatches(SearchQuery query) {
+        LOGGER.debug("Search term: {}", query);
+        return database.getEntries().stream().filter(getMatcher(query)).toList();
+    }
+}
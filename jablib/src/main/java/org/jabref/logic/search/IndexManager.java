@@ -6,13 +6,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javafx.beans.property.BooleanProperty;
@@ -21,7 +25,9 @@ import javafx.beans.value.ChangeListener;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.indexing.PdfExtractionSettings;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
+import org.jabref.logic.search.query.SearchableEntry;
 import org.jabref.logic.search.retrieval.BibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
 import org.jabref.logic.util.BackgroundTask;
@@ -34,6 +40,9 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.SearchGroupMatchDelta;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
@@ -48,6 +57,9 @@ import org.slf4j.LoggerFactory;
 public class IndexManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(IndexManager.class);
 
+    /// Up to this number of changed entries, search groups are updated in memory instead of querying the index
+    private static final int IN_MEMORY_MATCHING_LIMIT = 50;
+
     private final TaskExecutor taskExecutor;
     private final BibDatabaseContext databaseContext;
     private final BooleanProperty shouldIndexLinkedFiles;
@@ -74,11 +86,11 @@ public class IndexManager {
         this.preferencesListener = (_, _, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer);
 
         LuceneIndexer indexer;
         try {
-            indexer = new DefaultLinkedFilesIndexer(databaseContext, preferences.getFilePreferences());
+            indexer = new DefaultLinkedFilesIndexer(databaseContext, preferences.getFilePreferences(), PdfExtractionSettings.from(preferences.getFilePreferences()));
         } catch (IOException e) {
             LOGGER.debug("Error initializing linked files index - using read only index");
             indexer = new ReadOnlyLinkedFilesIndexer(databaseContext);
@@ -128,13 +140,14 @@ public class IndexManager {
     }
 
     public void addToIndex(List<BibEntry> entries) {
-        new BackgroundTask<>() {
+        new BackgroundTask<Map<SearchGroup, SearchGroupMatchDelta>>() {
             @Override
-            public Object call() {
+            public Map<SearchGroup, SearchGroupMatchDelta> call() {
                 bibFieldsIndexer.addToIndex(entries, this);
-                return null;
+                return updateSearchGroups(entries);
             }
-        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
+        }.onSuccess(searchGroupDeltas -> postIndexAddedOrUpdatedEvent(entries, searchGroupDeltas))
+         .onFailure(exception -> postIndexAddedOrUpdatedEvent(entries, exception))
          .executeWith(taskExecutor);
 
         if (shouldIndexLinkedFiles.get()) {
@@ -209,16 +222,16 @@ public class IndexManager {
                 if (pendingFieldsByEntry.remove(pendingEntry, fields)) {
                     Set<Field> fieldsSnapshot = Set.copyOf(fields);
 
-                    new BackgroundTask<>() {
+                    new BackgroundTask<Map<SearchGroup, SearchGroupMatchDelta>>() {
                         @Override
-                        public Object call() {
+                        public Map<SearchGroup, SearchGroupMatchDelta> call() {
                             for (Field snapshot : fieldsSnapshot) {
                                 bibFieldsIndexer.updateEntry(pendingEntry, snapshot);
                             }
-                            return null;
+                            return updateSearchGroups(List.of(pendingEntry));
                         }
-                    }.onFinished(() -> this.databaseContext.getDatabase()
-                                                           .postEvent(new IndexAddedOrUpdatedEvent(List.of(pendingEntry))))
+                    }.onSuccess(searchGroupDeltas -> postIndexAddedOrUpdatedEvent(List.of(pendingEntry), searchGroupDeltas))
+                     .onFailure(exception -> postIndexAddedOrUpdatedEvent(List.of(pendingEntry), exception))
                      .executeWith(taskExecutor);
 
                     if (shouldIndexLinkedFiles.get() && fieldsSnapshot.contains(StandardField.FILE)) {
@@ -238,6 +251,17 @@ public class IndexManager {
         });
     }
 
+    private void postIndexAddedOrUpdatedEvent(List<BibEntry> entries, Map<SearchGroup, SearchGroupMatchDelta> searchGroupDeltas) {
+        databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries, searchGroupDeltas));
+    }
+
+    /// The event is posted even if indexing failed, so that listeners do not keep outdated matches.
+    /// Without deltas, listeners determine the matches of the entries themselves.
+    private void postIndexAddedOrUpdatedEvent(List<BibEntry> entries, Exception exception) {
+        LOGGER.error("Could not index {} entries", entries.size(), exception);
+        postIndexAddedOrUpdatedEvent(entries, Map.of());
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
@@ -314,7 +338,50 @@ public class IndexManager {
 
     /// @implNote No need to check for full-text searches as this method only used by the search groups
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
+        return bibFieldsSearcher.isMatched(bibFieldsIndexer.getSearchableEntry(entry), query);
+    }
+
+    /// Updates the matches of all search groups of the library for the given added or updated entries.
+    /// All search groups are evaluated in one pass: few entries, e.g., a single edited entry, are matched in memory,
+    /// many entries, e.g., after an import, are matched by a single query against the index.
+    ///
+    /// @return the change of each search group, keyed by identity of the group
+    /// @implNote No need to check for full-text searches as search groups do not use them
+    public Map<SearchGroup, SearchGroupMatchDelta> updateSearchGroups(List<BibEntry> entries) {
+        List<SearchGroup> searchGroups = databaseContext.getMetaData().getGroups()
+                                                        .map(root -> root.iterateOverTree()
+                                                                         .map(GroupTreeNode::getGroup)
+                                                                         .filter(SearchGroup.class::isInstance)
+                                                                         .map(SearchGroup.class::cast)
+                                                                         .toList())
+                                                        .orElse(List.of());
+        if (searchGroups.isEmpty() || entries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> entryIds = entries.stream().map(BibEntry::getId).toList();
+        Set<SearchQuery> searchQueries = searchGroups.stream().map(SearchGroup::getSearchQuery).collect(Collectors.toSet());
+        Map<SearchQuery, Set<String>> matchedEntryIds = entries.size() <= IN_MEMORY_MATCHING_LIMIT
+                                                        ? getMatchedEntryIdsInMemory(searchQueries, entries)
+                                                        : bibFieldsSearcher.getMatchedEntryIds(searchQueries, entryIds);
+
+        Map<SearchGroup, SearchGroupMatchDelta> searchGroupDeltas = new IdentityHashMap<>();
+        for (SearchGroup searchGroup : searchGroups) {
+            searchGroupDeltas.put(searchGroup, searchGroup.updateMatches(entryIds, matchedEntryIds.get(searchGroup.getSearchQuery())));
+        }
+        return searchGroupDeltas;
+    }
+
+    private Map<SearchQuery, Set<String>> getMatchedEntryIdsInMemory(Set<SearchQuery> searchQueries, List<BibEntry> entries) {
+        List<SearchableEntry> searchableEntries = entries.stream().map(bibFieldsIndexer::getSearchableEntry).toList();
+        Map<SearchQuery, Set<String>> matchedEntryIds = new HashMap<>();
+        for (SearchQuery searchQuery : searchQueries) {
+            matchedEntryIds.put(searchQuery, searchableEntries.stream()
+                                                              .filter(entry -> bibFieldsSearcher.isMatched(entry, searchQuery))
+                                                              .map(SearchableEntry::entryId)
+                                                              .collect(Collectors.toSet()));
+        }
+        return matchedEntryIds;
     }
 
     public static void clearOldSearchIndices() {
@@ -0,0 +1,136 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Persists the rows of the bib fields index of a library between sessions.
+///
+/// Computing the rows of an entry requires resolving and converting all of its fields, which dominates the time for indexing a library.
+/// As the ids of the entries change on each run of JabRef, the rows are stored by a fingerprint of the entry content.
+/// When the library is opened again, only entries whose fingerprint is not found need to be converted.
+///
+/// The rows also depend on the string constants of the library and the keyword separator.
+/// If they change, the whole cache is discarded.
+class BibFieldsIndexCache implements AutoCloseable {
+
+    /// Rows of an entry without the entry id. Each list consists of triples of field name, literal value, and transformed value.
+    record CachedRows(List<String> mainTableRows, List<String> splitTableRows) implements Serializable {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexCache.class);
+
+    private static final String ROWS_MAP_NAME = "rows";
+    private static final String METADATA_MAP_NAME = "metadata";
+    private static final String CONTEXT_KEY = "context";
+
+    private final MVStore mvStore;
+    private final MVMap<String, CachedRows> rowsMap;
+    private final BibDatabase database;
+    private final Set<String> usedFingerprints = new HashSet<>();
+
+    private BibFieldsIndexCache(MVStore mvStore, BibDatabase database, Character keywordSeparator) {
+        this.mvStore = mvStore;
+        this.rowsMap = mvStore.openMap(ROWS_MAP_NAME);
+        this.database = database;
+
+        Map<String, String> metadataMap = mvStore.openMap(METADATA_MAP_NAME);
+        String context = getContextFingerprint(database, keywordSeparator);
+        if (!context.equals(metadataMap.get(CONTEXT_KEY))) {
+            LOGGER.debug("String constants or keyword separator changed, discarding cached index rows");
+            rowsMap.clear();
+            metadataMap.put(CONTEXT_KEY, context);
+        }
+    }
+
+    /// @return the cache stored at the given path, or an empty optional if it cannot be opened (e.g., because the library is opened twice)
+    static Optional<BibFieldsIndexCache> open(Path path, BibDatabase database, Character keywordSeparator) {
+        try {
+            Files.createDirectories(path.getParent());
+            MVStore mvStore = new MVStore.Builder()
+                    .autoCommitDisabled()
+                    .fileName(path.toString())
+                    .open();
+            return Optional.of(new BibFieldsIndexCache(mvStore, database, keywordSeparator));
+        } catch (IOException | MVStoreException e) {
+            LOGGER.warn("Could not open cache of the search index at {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    Optional<CachedRows> get(String fingerprint) {
+        usedFingerprints.add(fingerprint);
+        return Optional.ofNullable(rowsMap.get(fingerprint));
+    }
+
+    void put(String fingerprint, CachedRows rows) {
+        usedFingerprints.add(fingerprint);
+        rowsMap.put(fingerprint, rows);
+    }
+
+    /// Removes the rows of all entries which were not requested since opening the cache, i.e., which are not part of the library anymore
+    void removeUnused() {
+        List<String> unusedFingerprints = rowsMap.keySet().stream()
+                                                 .filter(fingerprint -> !usedFingerprints.contains(fingerprint))
+                                                 .toList();
+        unusedFingerprints.forEach(rowsMap::remove);
+    }
+
+    /// Computes a fingerprint of everything the rows of the entry are generated from: its type and fields,
+    /// and the fields of the entry referenced by `crossref`.
+    String getFingerprint(BibEntry entry) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putEntry(hasher, entry);
+        database.getReferencedEntry(entry).ifPresent(referencedEntry -> putEntry(hasher, referencedEntry));
+        return hasher.hash().toString();
+    }
+
+    private static void putEntry(Hasher hasher, BibEntry entry) {
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8).putChar('\0');
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Comparator.comparing(fieldAndValue -> fieldAndValue.getKey().getName()))
+             .forEach(fieldAndValue -> hasher.putString(fieldAndValue.getKey().getName(), StandardCharsets.UTF_8).putChar('\0')
+                                             .putString(fieldAndValue.getValue(), StandardCharsets.UTF_8).putChar('\0'));
+        hasher.putChar('\1');
+    }
+
+    private static String getContextFingerprint(BibDatabase database, Character keywordSeparator) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putChar(keywordSeparator);
+        database.getStringValues().stream()
+                .sorted(Comparator.comparing(BibtexString::getName))
+                .forEach(string -> hasher.putString(string.getName(), StandardCharsets.UTF_8).putChar('\0')
+                                         .putString(string.getContent(), StandardCharsets.UTF_8).putChar('\0'));
+        return hasher.hash().toString();
+    }
+
+    @Override
+    public void close() {
+        try {
+            mvStore.commit();
+            mvStore.close();
+        } catch (MVStoreException e) {
+            LOGGER.warn("Could not store cache of the search index", e);
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,8 +20,13 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.query.SearchableEntry;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
@@ -26,6 +39,10 @@ import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 
 import io.github.thibaultmeyer.cuid.CUID;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,7 +59,12 @@ public class BibFieldsIndexer {
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
     private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
 
+    /// Number of characters collected before they are sent to the server during a bulk load
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int PROGRESS_UPDATE_INTERVAL = 100;
+
     private final BibDatabaseContext databaseContext;
+    private final PostgreServer postgreServer;
     private final Connection connection;
     private final String libraryName;
     private final String mainTable;
@@ -50,12 +72,21 @@ public class BibFieldsIndexer {
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
     private final Character keywordSeparator;
+    private final Optional<Path> cachePath;
+
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, PostgreServer postgreServer) {
+        this(bibEntryPreferences, databaseContext, postgreServer, databaseContext.getDatabasePath().map(BibFieldsIndexer::getCachePath));
+    }
 
-    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+    /// @param postgreServer provides the connection of the indexer and a separate one for the bulk load on start
+    /// @param cachePath     the file to persist the rows of the index in between sessions. Empty for no persistence.
+    BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, PostgreServer postgreServer, Optional<Path> cachePath) {
         this.databaseContext = databaseContext;
-        this.connection = connection;
+        this.postgreServer = postgreServer;
+        this.connection = postgreServer.getConnection();
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+        this.cachePath = cachePath;
 
         this.mainTable = CUID.randomCUID2(12).toString();
         this.splitValuesTable = mainTable + SPLIT_TABLE_SUFFIX;
@@ -63,11 +94,18 @@ public class BibFieldsIndexer {
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
-        setup();
+        createTables();
+    }
+
+    private static Path getCachePath(Path databasePath) {
+        // Same naming scheme as used for the index of linked files
+        String fileName = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName() + ".mv";
+        return Directories.getBibFieldsIndexDirectory().resolve(fileName);
     }
 
-    /// Creates a table for the library in the database, and sets up indexes on the columns.
-    private void setup() {
+    /// Creates the tables for the library in the database.
+    /// The secondary indexes are created by [#createIndexes()] after the initial load.
+    private void createTables() {
         try {
             connection.createStatement().executeUpdate("""
                     CREATE TABLE IF NOT EXISTS %s (
@@ -103,6 +141,12 @@ public class BibFieldsIndexer {
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /// Sets up indexes on the columns and updates the statistics of the query planner.
+    ///
+    /// Building an index on filled tables is considerably faster than updating it on each inserted row.
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -153,14 +197,212 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
             // endregion
 
+            connection.createStatement().executeUpdate("ANALYZE " + schemaMainTableReference);
+            connection.createStatement().executeUpdate("ANALYZE " + schemaSplitValuesTableReference);
+
             LOGGER.debug("Created indexes for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create indexes for library: {}", libraryName, e);
         }
     }
 
+    /// Adds all entries of the library to the (still empty) index.
+    ///
+    /// The rows are streamed to the server using `COPY FROM STDIN`. If that fails, the entries are inserted one by one.
+    /// The rows of entries which did not change since the library was indexed the last time are taken from the [BibFieldsIndexCache].
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        Optional<BibFieldsIndexCache> cache = cachePath.flatMap(path -> BibFieldsIndexCache.open(path, databaseContext.getDatabase(), keywordSeparator));
+        try {
+            if (bulkAddToIndex(entries, task, cache)) {
+                cache.ifPresent(BibFieldsIndexCache::removeUnused);
+            } else if (!task.isCancelled()) {
+                addToIndex(entries, task);
+            }
+        } finally {
+            cache.ifPresent(BibFieldsIndexCache::close);
+        }
+        createIndexes();
+    }
+
+    /// @return true if all entries were added. If false, none of the entries was added.
+    private boolean bulkAddToIndex(List<BibEntry> entries, BackgroundTask<?> task, Optional<BibFieldsIndexCache> cache) {
+        // The bulk load runs in a transaction. A separate connection keeps changes made meanwhile using the connection of the indexer out of it.
+        Connection bulkLoadConnection = postgreServer.getConnection();
+        if (bulkLoadConnection == null) {
+            return false;
+        }
+        try {
+            return bulkAddToIndex(entries, task, cache, bulkLoadConnection);
+        } finally {
+            try {
+                bulkLoadConnection.close();
+            } catch (SQLException e) {
+                LOGGER.debug("Could not close the bulk load connection for library {}", libraryName, e);
+            }
+        }
+    }
+
+    private boolean bulkAddToIndex(List<BibEntry> entries, BackgroundTask<?> task, Optional<BibFieldsIndexCache> cache, Connection bulkLoadConnection) {
+        int count = entries.size();
+        if (count > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        CopyManager copyManager;
+        try {
+            copyManager = bulkLoadConnection.unwrap(PGConnection.class).getCopyAPI();
+        } catch (SQLException e) {
+            LOGGER.debug("Connection does not support bulk loading", e);
+            return false;
+        }
+
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk loading {} entries into index", count);
+        CopyRows mainRows = new CopyRows();
+        // The split values are sent after the main table is loaded, because a connection handles only one copy operation at a time.
+        // Until then, they are kept in a temporary file, because they may be many more than the rows of the main table.
+        CopyRows splitRows = new CopyRows();
+        Set<String> entryIds = new HashSet<>();
+        CopyIn copyIn = null;
+        Path splitRowsFile = null;
+        boolean added = false;
+        try {
+            // Both tables are loaded in one transaction. Thus, if loading the split values fails, the main table stays empty for adding the entries one by one.
+            bulkLoadConnection.setAutoCommit(false);
+            splitRowsFile = Files.createTempFile("jabref-index-", ".copy");
+            try (OutputStream splitRowsOutput = Files.newOutputStream(splitRowsFile)) {
+                copyIn = copyManager.copyIn(getCopyStatement(schemaMainTableReference));
+                for (int i = 0; i < count; i++) {
+                    if (task.isCancelled()) {
+                        LOGGER.debug("Indexing canceled");
+                        return false;
+                    }
+                    BibEntry entry = entries.get(i);
+                    if (!entryIds.add(entry.getId())) {
+                        // The rows of the second entry would violate the primary key
+                        LOGGER.debug("Entry id {} is not unique, cannot bulk load", entry.getId());
+                        return false;
+                    }
+                    if (cache.isPresent()) {
+                        addRows(entry, mainRows, splitRows, cache.get());
+                    } else {
+                        addRows(entry, mainRows, splitRows);
+                    }
+                    if (mainRows.length() >= COPY_BUFFER_SIZE) {
+                        mainRows.flushTo(copyIn);
+                    }
+                    if (splitRows.length() >= COPY_BUFFER_SIZE) {
+                        splitRows.flushTo(splitRowsOutput);
+                    }
+                    if (((i + 1) % PROGRESS_UPDATE_INTERVAL == 0) || (i + 1 == count)) {
+                        long entriesPerSecond = (i + 1) * 1000L / Math.max(1, System.currentTimeMillis() - startTime);
+                        task.updateProgress(i + 1, count);
+                        task.updateMessage(Localization.lang("%0 of %1 entries added to the index (%2 entries per second).", i + 1, count, entriesPerSecond));
+                    }
+                }
+                mainRows.flushTo(copyIn);
+                copyIn.endCopy();
+                splitRows.flushTo(splitRowsOutput);
+            }
+
+            try (InputStream splitRowsInput = Files.newInputStream(splitRowsFile)) {
+                copyManager.copyIn(getCopyStatement(schemaSplitValuesTableReference), splitRowsInput, COPY_BUFFER_SIZE);
+            }
+            bulkLoadConnection.commit();
+            added = true;
+        } catch (SQLException | IOException e) {
+            LOGGER.warn("Could not bulk load the index for library {}, adding the entries one by one", libraryName, e);
+            return false;
+        } finally {
+            cancelIfActive(copyIn);
+            if (!added) {
+                rollback(bulkLoadConnection);
+            }
+            deleteIfExists(splitRowsFile);
+        }
+        LOGGER.debug("Bulk loaded {} entries into index in {} ms", count, System.currentTimeMillis() - startTime);
+        return true;
+    }
+
+    /// Rolls back the rows of a failed or canceled bulk load
+    private void rollback(Connection bulkLoadConnection) {
+        try {
+            bulkLoadConnection.rollback();
+        } catch (SQLException e) {
+            LOGGER.error("Could not roll back the bulk load for library {}", libraryName, e);
+        }
+    }
+
+    private static void deleteIfExists(@Nullable Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete temporary file {}", file, e);
+        }
+    }
+
+    private void addRows(BibEntry entry, CopyRows mainRows, CopyRows splitRows, BibFieldsIndexCache cache) {
+        String fingerprint = cache.getFingerprint(entry);
+        BibFieldsIndexCache.CachedRows rows = cache.get(fingerprint).orElseGet(() -> {
+            List<String> mainTableRows = new ArrayList<>();
+            List<String> splitTableRows = new ArrayList<>();
+            addRows(entry, collectInto(mainTableRows), collectInto(splitTableRows));
+            BibFieldsIndexCache.CachedRows computedRows = new BibFieldsIndexCache.CachedRows(mainTableRows, splitTableRows);
+            cache.put(fingerprint, computedRows);
+            return computedRows;
+        });
+        mainRows.addAll(entry.getId(), rows.mainTableRows());
+        splitRows.addAll(entry.getId(), rows.splitTableRows());
+    }
+
+    /// Computes the rows the entry has in the index, without accessing the database
+    public SearchableEntry getSearchableEntry(BibEntry entry) {
+        return getSearchableEntry(entry, databaseContext.getDatabase(), keywordSeparator);
+    }
+
+    /// Computes the rows the entry would have in the index of the given library. Thus, no index is required.
+    public static SearchableEntry getSearchableEntry(BibEntry entry, BibDatabase database, Character keywordSeparator) {
+        List<SearchableEntry.Row> mainTableRows = new ArrayList<>();
+        List<SearchableEntry.Row> splitTableRows = new ArrayList<>();
+        addRows(entry,
+                database,
+                keywordSeparator,
+                (_, field, value, normalized) -> mainTableRows.add(new SearchableEntry.Row(field.getName(), value, normalized)),
+                (_, field, value, normalized) -> splitTableRows.add(new SearchableEntry.Row(field.getName(), value, normalized)));
+        return new SearchableEntry(entry.getId(), mainTableRows, splitTableRows);
+    }
+
+    private static RowWriter collectInto(List<String> rows) {
+        return (_, field, value, normalized) -> {
+            rows.add(field.getName());
+            rows.add(value);
+            rows.add(normalized);
+        };
+    }
+
+    private static String getCopyStatement(String tableReference) {
+        return """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                tableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+    }
+
+    private static void cancelIfActive(@Nullable CopyIn copyIn) {
+        if ((copyIn != null) && copyIn.isActive()) {
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException e) {
+                LOGGER.debug("Could not cancel copy operation", e);
+            }
+        }
     }
 
     public void addToIndex(List<BibEntry> entries, BackgroundTask<?> task) {
@@ -212,49 +454,8 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
              PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
             LOGGER.atTrace().setMessage("Adding entry {}").addArgument(bibEntry::getKeyAuthorTitleYear).log();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    // If a field exists, there also exists a resolved field latex free.
-                    // Only exception: If the content of the field is empty, then the resolved field is also empty. Example: `series = {{}}`.
-                    String resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase()).orElse("");
-
-                    // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree);
-                }
-
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
+            addRows(bibEntry, batchOf(preparedStatement), batchOf(preparedStatementSplitValues));
 
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
@@ -263,6 +464,55 @@ public class BibFieldsIndexer {
         }
     }
 
+    private void addRows(BibEntry bibEntry, RowWriter mainRows, RowWriter splitValueRows) {
+        addRows(bibEntry, databaseContext.getDatabase(), keywordSeparator, mainRows, splitValueRows);
+    }
+
+    private static void addRows(BibEntry bibEntry, BibDatabase database, Character keywordSeparator, RowWriter mainRows, RowWriter splitValueRows) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                // If a field exists, there also exists a resolved field latex free.
+                // Only exception: If the content of the field is empty, then the resolved field is also empty. Example: `series = {{}}`.
+                String resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, database).orElse("");
+
+                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+                mainRows.add(entryId, field, value, resolvedFieldLatexFree);
+            }
+
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitValueRows, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitValueRows, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitValueRows, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, database, field, splitValueRows, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+        // ensure all date-related fields are indexed.
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, database);
+            resolvedDateValue.ifPresent(dateValue -> mainRows.add(entryId, dateField, dateValue));
+        }
+        // add entry type
+        mainRows.add(entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -380,14 +630,15 @@ public class BibFieldsIndexer {
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
 
+            RowWriter splitValueRows = batchOf(preparedStatement);
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitValueRows, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitValueRows, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitValueRows, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitValueRows, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -440,37 +691,41 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
-        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
+    private static void addEntryLinks(BibEntry bibEntry, BibDatabase database, Field field, RowWriter splitValueRows, String entryId) {
+        bibEntry.getEntryLinkList(field, database).stream()
                 .distinct()
-                .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
+                .forEach(link -> splitValueRows.add(entryId, field, link.getKey()));
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, RowWriter splitValueRows, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
+              .forEach(group -> splitValueRows.add(entryId, field, group));
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, RowWriter splitValueRows, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            splitValueRows.add(entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, RowWriter splitValueRows, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitValueRows.add(entryId, field, literal, transformed);
         });
     }
 
+    private static RowWriter batchOf(PreparedStatement preparedStatement) {
+        return (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized);
+    }
+
     private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
         addBatch(preparedStatement, entryId, field, value, LatexToUnicodeAdapter.format(value));
     }
@@ -487,4 +742,81 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /// Receives the rows for one of the tables
+    @FunctionalInterface
+    interface RowWriter {
+        /// The values are passed as they should be inserted into the database table
+        void add(String entryId, Field field, String value, String normalized);
+
+        default void add(String entryId, Field field, String value) {
+            add(entryId, field, value, LatexToUnicodeAdapter.format(value));
+        }
+    }
+
+    /// Collects rows in the text format of PostgreSQL's `COPY` command: one line per row, columns separated by tabs
+    static class CopyRows implements RowWriter {
+        private final StringBuilder rows = new StringBuilder();
+
+        @Override
+        public void add(String entryId, Field field, String value, String normalized) {
+            add(entryId, field.getName(), value, normalized);
+        }
+
+        /// Adds the rows of an entry given as triples of field name, literal value, and transformed value
+        void addAll(String entryId, List<String> fieldRows) {
+            for (int i = 0; i < fieldRows.size(); i += 3) {
+                add(entryId, fieldRows.get(i), fieldRows.get(i + 1), fieldRows.get(i + 2));
+            }
+        }
+
+        private void add(String entryId, String fieldName, String value, String normalized) {
+            appendEscaped(entryId);
+            rows.append('\t');
+            appendEscaped(fieldName);
+            rows.append('\t');
+            appendEscaped(value);
+            rows.append('\t');
+            appendEscaped(normalized);
+            rows.append('\n');
+        }
+
+        private void appendEscaped(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' ->
+                            rows.append("\\\\");
+                    case '\t' ->
+                            rows.append("\\t");
+                    case '\n' ->
+                            rows.append("\\n");
+                    case '\r' ->
+                            rows.append("\\r");
+                    default ->
+                            rows.append(c);
+                }
+            }
+        }
+
+        int length() {
+            return rows.length();
+        }
+
+        void flushTo(CopyIn copyIn) throws SQLException {
+            byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            rows.setLength(0);
+        }
+
+        void flushTo(OutputStream outputStream) throws IOException {
+            outputStream.write(rows.toString().getBytes(StandardCharsets.UTF_8));
+            rows.setLength(0);
+        }
+
+        @Override
+        public String toString() {
+            return rows.toString();
+        }
+    }
 }
@@ -6,12 +6,24 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javafx.util.Pair;
@@ -48,21 +60,30 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
-    private static final DocumentReader DOCUMENT_READER = new DocumentReader();
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
+    private static final long POLL_INTERVAL_MILLIS = 500;
 
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final PdfExtractionSettings extractionSettings;
+    private final DocumentReader documentReader;
     private final String libraryName;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
     private Path indexDirectoryPath;
     private Map<String, Long> indexedFiles;
+    private ExecutorService readExecutor;
 
-    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, PdfExtractionSettings extractionSettings) throws IOException {
+        this(databaseContext, filePreferences, extractionSettings, new DocumentReader());
+    }
+
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, PdfExtractionSettings extractionSettings, DocumentReader documentReader) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.extractionSettings = extractionSettings;
+        this.documentReader = documentReader;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("untitled");
         this.indexedFiles = new ConcurrentHashMap<>();
 
@@ -135,34 +156,139 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
             return;
         }
 
-        LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        long startTime = System.currentTimeMillis();
+        int numberOfFiles = linkedFiles.size();
+        if (numberOfFiles == 1) {
+            // E.g., a file was linked to an entry. No need to hand the file over to another thread.
+            Map.Entry<String, Pair<Long, Path>> entry = linkedFiles.entrySet().iterator().next();
+            ReadTask readTask = new ReadTask(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
+            FutureTask<List<Document>> readFile = new FutureTask<>(readTask);
+            readFile.run();
+            try {
+                addToIndex(readTask, readFile, task);
+            } catch (InterruptedException e) {
+                LOGGER.debug("Adding file to index interrupted");
+                Thread.currentThread().interrupt();
+            }
+            LOGGER.debug("Added file to index in {} ms", System.currentTimeMillis() - startTime);
+            return;
+        }
+
+        LOGGER.debug("Adding {} files to index using {} workers", numberOfFiles, extractionSettings.workers());
+        // The files are read in parallel, but added to the index by this thread only.
+        // To bound the memory used by read, but not yet indexed pages, only a limited number of files is read ahead.
+        int maxPendingFiles = 2 * extractionSettings.workers();
+        Iterator<Map.Entry<String, Pair<Long, Path>>> filesToRead = linkedFiles.entrySet().iterator();
+        Map<Future<List<Document>>, ReadTask> pendingFiles = new HashMap<>();
+        CompletionService<List<Document>> completionService = new ExecutorCompletionService<>(getReadExecutor());
+        try {
+            int i = 1;
+            while (i <= numberOfFiles) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    return;
+                }
+                while (filesToRead.hasNext() && (pendingFiles.size() < maxPendingFiles)) {
+                    Map.Entry<String, Pair<Long, Path>> entry = filesToRead.next();
+                    ReadTask readTask = new ReadTask(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
+                    pendingFiles.put(completionService.submit(readTask), readTask);
+                }
+
+                Future<List<Document>> readFile = completionService.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (readFile == null) {
+                    // Canceled files are reported by the completion service as well
+                    cancelOverdue(pendingFiles);
+                    continue;
+                }
+                ReadTask readTask = pendingFiles.remove(readFile);
+                addToIndex(readTask, readFile, task);
+                task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", numberOfFiles, libraryName, i));
+                task.updateProgress(i, numberOfFiles);
+                task.showToUser(true);
+                i++;
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Adding files to index stopped, because the index is closed");
+        } finally {
+            // The executor is shared by all calls. Thus, only the files of this call are canceled.
+            pendingFiles.keySet().forEach(pendingFile -> pendingFile.cancel(true));
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
+        LOGGER.debug("Added {} files to index in {} ms", numberOfFiles, System.currentTimeMillis() - startTime);
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
-        LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+    /// The readers are created when files are added for the first time, and stopped when the index is closed
+    private synchronized ExecutorService getReadExecutor() {
+        if (readExecutor == null) {
+            readExecutor = Executors.newFixedThreadPool(extractionSettings.workers(), Thread.ofPlatform().name("linked-files-reader-", 1).daemon().factory());
+        }
+        return readExecutor;
+    }
+
+    private synchronized void shutdownReadExecutor() {
+        if (readExecutor != null) {
+            readExecutor.shutdownNow();
+        }
+    }
+
+    private void addToIndex(ReadTask readTask, Future<List<Document>> readFile, BackgroundTask<?> task) throws InterruptedException {
+        String fileLink = readTask.fileLink;
         try {
+            List<Document> pages = readFile.get();
             indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            indexedFiles.put(fileLink, readTask.modifiedTime);
+            long readMillis = TimeUnit.NANOSECONDS.toMillis(readTask.finishTime - readTask.startTime);
+            LOGGER.debug("Read file {} with {} pages in {} ms", fileLink, pages.size(), readMillis);
+            task.updateMessage(Localization.lang("%0 indexed in %1 ms", FileUtil.shortenFileName(readTask.resolvedPath.getFileName().toString(), 68), readMillis));
+        } catch (CancellationException e) {
+            LOGGER.warn("Reading file {} took longer than {}. The file will not be indexed.", fileLink, extractionSettings.timeoutPerFile());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                LOGGER.warn("Reading file {} took longer than {}. The file will not be indexed.", fileLink, extractionSettings.timeoutPerFile(), e.getCause());
+            } else {
+                LOGGER.warn("Could not read the document {}.", fileLink, e.getCause());
+            }
         } catch (IOException e) {
             LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
         }
     }
 
+    /// Cancels reading files which exceeded the timeout without reaching the next page, e.g., because of a very complex page
+    private void cancelOverdue(Map<Future<List<Document>>, ReadTask> pendingFiles) {
+        long timeoutNanos = extractionSettings.timeoutPerFile().toNanos();
+        long now = System.nanoTime();
+        pendingFiles.forEach((future, readTask) -> {
+            if (readTask.startTime != 0 && (now - readTask.startTime > timeoutNanos)) {
+                future.cancel(true);
+            }
+        });
+    }
+
+    private class ReadTask implements Callable<List<Document>> {
+        private final String fileLink;
+        private final long modifiedTime;
+        private final Path resolvedPath;
+        private volatile long startTime;
+        private volatile long finishTime;
+
+        ReadTask(String fileLink, long modifiedTime, Path resolvedPath) {
+            this.fileLink = fileLink;
+            this.modifiedTime = modifiedTime;
+            this.resolvedPath = resolvedPath;
+        }
+
+        @Override
+        public List<Document> call() throws TimeoutException {
+            startTime = System.nanoTime();
+            LOGGER.debug("Adding file {} to the index.", fileLink);
+            List<Document> pages = documentReader.readPdfContents(fileLink, resolvedPath, extractionSettings);
+            finishTime = System.nanoTime();
+            return pages;
+        }
+    }
+
     @Override
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         Map<String, Pair<Long, Path>> linkedFiles = getLinkedFilesFromEntries(entries);
@@ -326,6 +452,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private void closeIndex() {
         try {
             LOGGER.debug("Closing linked files index");
+            shutdownReadExecutor();
             searcherManager.close();
             optimizeIndex();
             indexWriter.close();
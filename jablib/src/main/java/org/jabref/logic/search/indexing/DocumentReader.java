@@ -5,21 +5,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.util.strings.StringUtil;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
-import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,22 +35,52 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
+    private final PdfTextCache pdfTextCache;
+
+    public DocumentReader() {
+        this(PdfTextCache.getDefault());
+    }
+
+    public DocumentReader(PdfTextCache pdfTextCache) {
+        this.pdfTextCache = pdfTextCache;
+    }
+
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
-        List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            int numberOfPages = pdfDocument.getNumberOfPages();
-            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
-            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, fileLink);
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
-
-                pages.add(newDocument);
-            }
+        try {
+            return readPdfContents(fileLink, resolvedPdfPath, IOUtils.createMemoryOnlyStreamCache(), Long.MAX_VALUE);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Reading {} was interrupted", resolvedPdfPath.toAbsolutePath(), e);
+            return List.of();
+        }
+    }
+
+    /// Reads the pages like [#readPdfContents(String, Path)], but limits the resources used for a single file
+    ///
+    /// @throws TimeoutException if reading takes longer than the timeout of the settings or the thread is interrupted.
+    ///                          Both are checked after each page, because PDFBox does not react to interrupts.
+    List<Document> readPdfContents(String fileLink, Path resolvedPdfPath, PdfExtractionSettings settings) throws TimeoutException {
+        return readPdfContents(fileLink, resolvedPdfPath, MemoryUsageSetting.setupMixed(settings.maxMainMemoryPerFile()).streamCache, settings.timeoutPerFile().toNanos());
+    }
+
+    private List<Document> readPdfContents(String fileLink, Path resolvedPdfPath, StreamCacheCreateFunction streamCache, long timeoutNanos) throws TimeoutException {
+        long startTime = System.nanoTime();
+        List<PdfTextCache.Page> pdfPages;
+        try {
+            pdfPages = pdfTextCache.getPages(resolvedPdfPath, streamCache, () -> (System.nanoTime() - startTime > timeoutNanos) || Thread.currentThread().isInterrupted())
+                                   .orElseThrow(() -> new TimeoutException("Reading %s stopped".formatted(resolvedPdfPath.toAbsolutePath())));
         } catch (IOException e) {
             LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
-            return pages;
+            return List.of();
+        }
+        LOGGER.debug("Read file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), pdfPages.size());
+
+        List<Document> pages = new ArrayList<>(pdfPages.size());
+        for (int pageNumber = 1; pageNumber <= pdfPages.size(); pageNumber++) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, fileLink);
+            addMetaData(newDocument, resolvedPdfPath, pageNumber);
+            addContentIfNotEmpty(pdfPages.get(pageNumber - 1), newDocument);
+            pages.add(newDocument);
         }
         if (pages.isEmpty()) {
             Document newDocument = new Document();
@@ -88,31 +117,12 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
-        pdfTextStripper.setStartPage(pageNumber);
-        pdfTextStripper.setEndPage(pageNumber);
-
-        try {
-            String pdfContent = pdfTextStripper.getText(pdfDocument);
-            if (StringUtil.isNotBlank(pdfContent)) {
-                newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
-            }
-
-            // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
-            PDPage page = pdfDocument.getPage(pageNumber - 1);
-            List<String> annotations = page.getAnnotations()
-                                           .stream()
-                                           .map(PDAnnotation::getContents)
-                                           .filter(Objects::nonNull)
-                                           .toList();
-
-            if (!annotations.isEmpty()) {
-                newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", annotations), Field.Store.YES));
-            }
-        } catch (IOException e) {
-            LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
+    private void addContentIfNotEmpty(PdfTextCache.Page page, Document newDocument) {
+        if (StringUtil.isNotBlank(page.text())) {
+            newDocument.add(new TextField(CONTENT.toString(), mergeLines(page.text()), Field.Store.YES));
+        }
+        if (!page.annotations().isEmpty()) {
+            newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", page.annotations()), Field.Store.YES));
         }
     }
 
@@ -0,0 +1,32 @@
+package org.jabref.logic.search.indexing;
+
+import java.time.Duration;
+
+import org.jabref.logic.FilePreferences;
+
+/// Limits for extracting the text of linked PDF files for the fulltext index
+///
+/// @param workers              number of files read in parallel
+/// @param timeoutPerFile       time after which reading a single file is given up. The file is then not indexed.
+/// @param maxMainMemoryPerFile number of bytes PDFBox may buffer in main memory when reading a single file. Larger buffers are stored in temporary files.
+public record PdfExtractionSettings(int workers, Duration timeoutPerFile, long maxMainMemoryPerFile) {
+
+    public static final PdfExtractionSettings DEFAULT = new PdfExtractionSettings(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            Duration.ofMinutes(2),
+            64L * 1024 * 1024);
+
+    public PdfExtractionSettings {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+    }
+
+    /// Returns the limits set in the preferences. The timeout is stored in seconds, the memory in megabytes.
+    public static PdfExtractionSettings from(FilePreferences filePreferences) {
+        return new PdfExtractionSettings(
+                filePreferences.getFulltextIndexWorkers(),
+                Duration.ofSeconds(filePreferences.getFulltextIndexTimeoutPerFile()),
+                filePreferences.getFulltextIndexMaxMainMemoryPerFile() * 1024L * 1024);
+    }
+}
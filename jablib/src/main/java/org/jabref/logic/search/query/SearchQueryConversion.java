@@ -1,6 +1,8 @@
 package org.jabref.logic.search.query;
 
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
@@ -18,6 +20,18 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    /// @return a predicate matching the same entries as the query returned by [#searchToSql(String, SearchQuery)]
+    public static Predicate<SearchableEntry> searchToPredicate(SearchQuery searchQuery) {
+        LOGGER.debug("Converting search expression to predicate: {}", searchQuery.getSearchExpression());
+        try {
+            return new SearchToPredicateVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
+        } catch (PatternSyntaxException e) {
+            // The SQL query fails in that case, thus no entry is found
+            LOGGER.debug("Invalid regular expression in {}", searchQuery.getSearchExpression(), e);
+            return _ -> false;
+        }
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
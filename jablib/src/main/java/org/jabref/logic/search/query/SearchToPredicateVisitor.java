@@ -0,0 +1,140 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/// Converts a search query to a predicate matching single entries in memory.
+/// The predicate matches exactly the entries the SQL query created by [SearchToSqlVisitor] returns, but needs no round trip to the database.
+/// Thus, it is used to update search groups when single entries change.
+///
+/// For each query built by [SearchToSqlVisitor], there is a corresponding predicate here.
+/// Differences between PostgreSQL and Java regular expressions are not accounted for.
+///
+/// Tests are located in `org.jabref.logic.search.query.SearchQueryPredicateConversionTest`
+public class SearchToPredicateVisitor extends SearchBaseVisitor<Predicate<SearchableEntry>> {
+
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final EnumSet<SearchFlags> searchBarFlags;
+
+    public SearchToPredicateVisitor(EnumSet<SearchFlags> searchBarFlags) {
+        this.searchBarFlags = searchBarFlags;
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitStart(SearchParser.StartContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+        List<Predicate<SearchableEntry>> children = ctx.expression().stream().map(this::visit).toList();
+        if (children.size() == 1) {
+            return children.getFirst();
+        }
+        return entry -> children.stream().allMatch(child -> child.test(entry));
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+        return visit(ctx.expression()).negate();
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        Predicate<SearchableEntry> left = visit(ctx.left);
+        Predicate<SearchableEntry> right = visit(ctx.right);
+        return ctx.bin_op.getType() == SearchParser.AND ? left.and(right) : left.or(right);
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+        return visit(ctx.comparison());
+    }
+
+    @Override
+    public Predicate<SearchableEntry> visitComparison(SearchParser.ComparisonContext ctx) {
+        FieldComparison comparison = FieldComparison.of(ctx, searchBarFlags);
+        String field = comparison.field();
+        String term = comparison.term();
+        EnumSet<SearchFlags> searchFlags = comparison.searchFlags();
+
+        if (ENTRY_ID.toString().equals(field)) {
+            return entry -> entry.entryId().equals(term);
+        }
+
+        Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+        Predicate<SearchableEntry> fieldMatcher;
+        if (FieldComparison.ANY_FIELD.equals(field)) {
+            fieldMatcher = searchFlags.contains(EXACT_MATCH)
+                           ? entry -> matchesExactly(entry, fieldName -> !GROUPS_FIELD.equals(fieldName), valueMatcher)
+                           : entry -> matchesMainRow(entry, fieldName -> !GROUPS_FIELD.equals(fieldName), valueMatcher);
+        } else {
+            fieldMatcher = searchFlags.contains(EXACT_MATCH)
+                           ? entry -> matchesExactly(entry, field::equals, valueMatcher)
+                           : entry -> matchesMainRow(entry, field::equals, valueMatcher);
+        }
+        return searchFlags.contains(NEGATION) ? fieldMatcher.negate() : fieldMatcher;
+    }
+
+    /// Corresponds to the queries on the main table only
+    private static boolean matchesMainRow(SearchableEntry entry, Predicate<String> fieldFilter, Predicate<String> valueMatcher) {
+        return entry.mainTableRows().stream()
+                    .anyMatch(row -> fieldFilter.test(row.fieldName()) && matches(row, valueMatcher));
+    }
+
+    /// Corresponds to the queries joining the split values table to the rows of the main table having the same field name
+    private static boolean matchesExactly(SearchableEntry entry, Predicate<String> fieldFilter, Predicate<String> valueMatcher) {
+        return entry.mainTableRows().stream()
+                    .filter(mainRow -> fieldFilter.test(mainRow.fieldName()))
+                    .anyMatch(mainRow -> matches(mainRow, valueMatcher)
+                            || entry.splitTableRows().stream()
+                                    .anyMatch(splitRow -> splitRow.fieldName().equals(mainRow.fieldName()) && matches(splitRow, valueMatcher)));
+    }
+
+    private static boolean matches(SearchableEntry.Row row, Predicate<String> valueMatcher) {
+        return valueMatcher.test(row.literal()) || ((row.transformed() != null) && valueMatcher.test(row.transformed()));
+    }
+
+    /// Corresponds to the SQL operators `LIKE`, `ILIKE`, `~`, and `~*`
+    ///
+    /// @throws PatternSyntaxException if the term is an invalid regular expression
+    private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+        boolean caseSensitive = searchFlags.contains(CASE_SENSITIVE);
+        if (searchFlags.contains(REGULAR_EXPRESSION)) {
+            Pattern pattern = Pattern.compile(term, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+            return value -> pattern.matcher(value).find();
+        }
+
+        String normalizedTerm = caseSensitive ? term : term.toLowerCase(Locale.ROOT);
+        if (searchFlags.contains(INEXACT_MATCH)) {
+            return caseSensitive
+                   ? value -> value.contains(normalizedTerm)
+                   : value -> value.toLowerCase(Locale.ROOT).contains(normalizedTerm);
+        }
+        return caseSensitive
+               ? normalizedTerm::equals
+               : value -> value.toLowerCase(Locale.ROOT).equals(normalizedTerm);
+    }
+}
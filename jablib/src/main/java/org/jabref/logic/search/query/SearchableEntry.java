@@ -0,0 +1,16 @@
+package org.jabref.logic.search.query;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/// The rows of a single entry in the tables created by [org.jabref.logic.search.indexing.BibFieldsIndexer].
+/// A search query compiled by [SearchToPredicateVisitor] is evaluated against these rows instead of the database tables.
+///
+/// @param mainTableRows  one row per field
+/// @param splitTableRows one row per value of multi-value fields, e.g., for each author
+public record SearchableEntry(String entryId, List<Row> mainTableRows, List<Row> splitTableRows) {
+
+    public record Row(String fieldName, String literal, @Nullable String transformed) {
+    }
+}
@@ -1,17 +1,28 @@
 package org.jabref.logic.search.retrieval;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
-import org.jabref.model.entry.BibEntry;
+import org.jabref.logic.search.query.SearchableEntry;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 import org.jabref.model.search.query.SqlQueryNode;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,22 +31,76 @@ import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 public class BibFieldsSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
 
+    private static final int COMPILED_QUERIES_CACHE_SIZE = 128;
+
     private final Connection connection;
     private final String tableName;
+    private final LoadingCache<SearchQuery, Predicate<SearchableEntry>> compiledQueries = Caffeine.newBuilder()
+                                                                                                  .maximumSize(COMPILED_QUERIES_CACHE_SIZE)
+                                                                                                  .build(SearchQueryConversion::searchToPredicate);
 
     public BibFieldsSearcher(Connection connection, String tableName) {
         this.connection = connection;
         this.tableName = tableName;
     }
 
-    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+    /// Checks whether a single entry matches the query without querying the database.
+    /// The query is compiled once and then reused for all entries, e.g., when a search group is updated after entries changed.
+    ///
+    /// @param entry the rows of the entry as computed by [org.jabref.logic.search.indexing.BibFieldsIndexer#getSearchableEntry(org.jabref.model.entry.BibEntry)]
+    public boolean isMatched(SearchableEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        return compiledQueries.get(searchQuery).test(entry);
     }
 
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
+    /// Checks which of the given entries match each of the queries using a single statement.
+    /// Used to update all search groups of a library at once after many entries changed, e.g., after an import.
+    ///
+    /// @return the ids of the matching entries for each query. Invalid queries match no entries.
+    public Map<SearchQuery, Set<String>> getMatchedEntryIds(Collection<SearchQuery> searchQueries, Collection<String> entryIds) {
+        Map<SearchQuery, Set<String>> matchedEntryIds = new HashMap<>();
+        searchQueries.forEach(query -> matchedEntryIds.put(query, new HashSet<>()));
+
+        List<SearchQuery> validQueries = matchedEntryIds.keySet().stream().filter(SearchQuery::isValid).toList();
+        if (validQueries.isEmpty() || entryIds.isEmpty()) {
+            return matchedEntryIds;
+        }
+
+        // The CTEs of each query are scoped to its sub-select, thus the generated names do not clash
+        List<SqlQueryNode> sqlQueryNodes = new ArrayList<>();
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < validQueries.size(); i++) {
+            SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, validQueries.get(i));
+            sqlQueryNodes.add(sqlQueryNode);
+            if (i > 0) {
+                sql.append("\nUNION ALL\n");
+            }
+            sql.append("""
+                    SELECT %d, matches.%s FROM (
+                    %s
+                    ) AS matches WHERE matches.%s = ANY(?)""".formatted(i, ENTRY_ID, sqlQueryNode.cte(), ENTRY_ID));
+        }
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql.toString())) {
+            Array entryIdsArray = connection.createArrayOf("text", entryIds.toArray());
+            int parameterIndex = 1;
+            for (SqlQueryNode sqlQueryNode : sqlQueryNodes) {
+                for (String param : sqlQueryNode.params()) {
+                    preparedStatement.setString(parameterIndex++, param);
+                }
+                preparedStatement.setArray(parameterIndex++, entryIdsArray);
+            }
+            LOGGER.debug("Executing search query for {} entries: {}", entryIds.size(), preparedStatement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                matchedEntryIds.get(validQueries.get(resultSet.getInt(1))).add(resultSet.getString(2));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+        }
+        return matchedEntryIds;
     }
 
     public SearchResults search(SearchQuery searchQuery) {
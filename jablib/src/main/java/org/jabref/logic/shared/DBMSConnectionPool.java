@@ -0,0 +1,140 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A small pool of connections to a shared database.
+///
+/// Writes of many entries run on a connection of the pool in their own transactions.
+/// Thus, they neither block nor interfere with the connection used for reading and for live updates.
+/// Connections are opened lazily, validated when they are acquired, and kept open until the pool is closed.
+public class DBMSConnectionPool implements AutoCloseable {
+
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 4;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DBMSConnectionPool.class);
+
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DBMSConnectionProperties properties;
+    private final Semaphore permits;
+    // Guards the idle connections and the transition to closed. Thus, no connection is given back after the pool was drained.
+    private final Deque<Connection> idleConnections = new ArrayDeque<>();
+    private volatile boolean closed;
+
+    public DBMSConnectionPool(DBMSConnectionProperties properties) {
+        this(properties, DEFAULT_MAXIMUM_POOL_SIZE);
+    }
+
+    public DBMSConnectionPool(DBMSConnectionProperties properties, int maximumPoolSize) {
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("The pool needs at least one connection");
+        }
+        this.properties = properties;
+        this.permits = new Semaphore(maximumPoolSize, true);
+    }
+
+    /// Returns an open connection in auto-commit mode. It has to be given back using [#release(Connection)].
+    ///
+    /// @throws SQLException if no connection could be opened or if all connections are in use for too long
+    public Connection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new SQLTimeoutException("No connection to the shared database available within " + ACQUIRE_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection to the shared database", e);
+        }
+
+        try {
+            Connection idleConnection = pollIdleConnection();
+            while (idleConnection != null) {
+                if (idleConnection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    return idleConnection;
+                }
+                closeQuietly(idleConnection);
+                idleConnection = pollIdleConnection();
+            }
+            return new DBMSConnection(properties).getConnection();
+        } catch (InvalidDBMSConnectionPropertiesException e) {
+            permits.release();
+            throw new SQLException(e);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /// Gives back a connection acquired by [#acquire()]. An open transaction is rolled back.
+    public void release(Connection connection) {
+        try {
+            if (closed || connection.isClosed()) {
+                closeQuietly(connection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            boolean pooled;
+            synchronized (idleConnections) {
+                // The pool may have been closed while the connection was reset
+                pooled = !closed;
+                if (pooled) {
+                    idleConnections.push(connection);
+                }
+            }
+            if (!pooled) {
+                closeQuietly(connection);
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Could not reset connection to the shared database. Discarding it.", e);
+            closeQuietly(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private @Nullable Connection pollIdleConnection() {
+        synchronized (idleConnections) {
+            return idleConnections.poll();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close connection to the shared database", e);
+        }
+    }
+
+    /// Closes all idle connections. Connections in use are closed when they are given back.
+    @Override
+    public void close() {
+        List<Connection> connectionsToClose;
+        synchronized (idleConnections) {
+            closed = true;
+            connectionsToClose = List.copyOf(idleConnections);
+            idleConnections.clear();
+        }
+        connectionsToClose.forEach(DBMSConnectionPool::closeQuietly);
+    }
+}
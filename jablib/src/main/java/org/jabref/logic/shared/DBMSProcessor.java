@@ -6,27 +6,29 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEventSource;
-import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.MetaData;
 
 import com.google.common.collect.Lists;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +37,19 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /// Keeps statements well below the limit of PostgreSQL of 65535 parameters, as a row of the FIELD table needs three
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private @Nullable DBMSConnectionPool connectionPool;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
@@ -139,20 +148,40 @@ public abstract class DBMSProcessor {
 
     /// Inserts the List of BibEntry into the shared database.
     ///
+    /// The entries are inserted in batches of {@link #setBatchSize(int) batch size} rows per statement, all in one
+    /// transaction. Thus, other clients never see an entry without its fields.
+    ///
     /// @param bibEntries List of {@link BibEntry} to be inserted
     public void insertEntries(List<BibEntry> bibEntries) {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        Connection writeConnection = null;
+        try {
+            writeConnection = acquireWriteConnection();
+            writeConnection.setAutoCommit(false);
+            for (List<BibEntry> batch : Lists.partition(notYetExistingEntries, batchSize)) {
+                insertIntoEntryTable(writeConnection, batch);
+            }
+            insertIntoFieldTable(writeConnection, notYetExistingEntries);
+            writeConnection.commit();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            rollback(writeConnection);
+            // The shared ids were not persisted
+            notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+        } finally {
+            releaseWriteConnection(writeConnection);
+        }
     }
 
-    /// Inserts the given List of BibEntry into the ENTRY table.
+    /// Inserts the given List of BibEntry into the ENTRY table using a single statement and assigns the generated shared
+    /// ids.
     ///
+    /// @param connection the connection of the current transaction
     /// @param bibEntries List of {@link BibEntry} to be inserted
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(Connection connection, List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -180,8 +209,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -190,7 +217,6 @@ public abstract class DBMSProcessor {
     /// @param bibEntries {@link BibEntry} to be checked
     /// @return `true` if existent, else `false`
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-        List<Integer> remoteIds = new ArrayList<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -199,34 +225,25 @@ public abstract class DBMSProcessor {
         if (localIds.isEmpty()) {
             return bibEntries;
         }
-        try {
-            String selectQuery = "SELECT * FROM " +
-                    escape_Table("ENTRY");
-
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
-                while (resultSet.next()) {
-                    int id = resultSet.getInt("SHARED_ID");
-                    remoteIds.add(id);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-        }
+        Set<Integer> remoteIds = getSharedIDVersionMapping(localIds).keySet();
         return bibEntries.stream().filter(entry ->
                                  !remoteIds.contains(entry.getSharedBibEntryData().getSharedID()))
                          .collect(Collectors.toList());
     }
 
-    /// Inserts the given list of BibEntry into FIELD table.
+    /// Inserts all fields of the given list of BibEntry into FIELD table, {@link #setBatchSize(int) batch size} rows
+    /// per statement.
     ///
+    /// @param connection the connection of the current transaction
     /// @param bibEntries {@link BibEntry} to be inserted
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
+    protected void insertIntoFieldTable(Connection connection, List<BibEntry> bibEntries) throws SQLException {
+        List<SharedField> fieldRows = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            bibEntry.getFieldMap().forEach((field, value) ->
+                    fieldRows.add(new SharedField(bibEntry.getSharedBibEntryData().getSharedID(), field.getName(), value)));
+        }
 
+        for (List<SharedField> batch : Lists.partition(fieldRows, batchSize)) {
             StringBuilder insertFieldQuery = new StringBuilder()
                     .append("INSERT INTO ")
                     .append(escape_Table("FIELD"))
@@ -237,176 +254,184 @@ public abstract class DBMSProcessor {
                     .append(", ")
                     .append(escape("VALUE"))
                     .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+            // Number of commas is batch.size() - 1
+            insertFieldQuery.append(", (?, ?, ?)".repeat(batch.size() - 1));
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
-
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, numFields - 1)));
             try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+                for (int row = 0; row < batch.size(); row++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * row) + 1, batch.get(row).sharedID());
+                    preparedFieldStatement.setString((3 * row) + 2, batch.get(row).name());
+                    preparedFieldStatement.setString((3 * row) + 3, batch.get(row).value());
                 }
                 preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
+    /// A row of the FIELD table
+    private record SharedField(int sharedID, String name, String value) {
+    }
+
     /// Updates the whole {@link BibEntry} on shared database.
     ///
     /// @param localBibEntry {@link BibEntry} affected by changes
-    /// @throws SQLException in case of error
+    /// @throws OfflineLockException if the entry was changed on the shared database in the meantime
+    /// @throws SQLException         in case of error
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
-
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
-
-            if (sharedEntryOptional.isEmpty()) {
-                return;
-            }
-
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+        List<OfflineLockException> refusedUpdates = updateEntries(List.of(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.getFirst();
+        }
+    }
 
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+    /// Updates the given entries on the shared database. Entries not present on the shared database are skipped.
+    ///
+    /// The entries are updated in batches of {@link #setBatchSize(int) batch size} entries. Each batch is updated in
+    /// its own transaction, which replaces the fields of all entries of the batch at once.
+    ///
+    /// @param localBibEntries {@link BibEntry BibEntries} affected by changes
+    /// @return the refused updates of entries which were changed on the shared database in the meantime
+    /// @throws SQLException in case of error. The changes of the failed batch are rolled back. The refused updates of
+    ///                      the batches committed before are lost, use {@link #updateEntries(List, Consumer)} to get them.
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        updateEntries(localBibEntries, refusedUpdates::add);
+        return refusedUpdates;
+    }
 
-                connection.commit(); // apply all changes in current transaction
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
+    /// Like {@link #updateEntries(List)}, but passes the refused updates of each batch to the consumer as soon as the
+    /// batch is committed. Thus, if a later batch fails, the refused updates of the committed batches are reported
+    /// nevertheless.
+    ///
+    /// @param refusedUpdateConsumer receives the refused updates of entries which were changed on the shared database
+    ///                              in the meantime
+    public void updateEntries(List<BibEntry> localBibEntries, Consumer<OfflineLockException> refusedUpdateConsumer) throws SQLException {
+        Connection writeConnection = null;
+        try {
+            writeConnection = acquireWriteConnection();
+            writeConnection.setAutoCommit(false); // disable auto commit due to transaction
+            for (List<BibEntry> batch : Lists.partition(localBibEntries, batchSize)) {
+                List<OfflineLockException> refusedUpdates = updateBatch(writeConnection, batch);
+                writeConnection.commit(); // apply all changes of the current batch
+                refusedUpdates.forEach(refusedUpdateConsumer);
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
-            connection.rollback(); // undo changes made in current transaction
+            rollback(writeConnection); // undo changes made in current transaction
+            throw e;
         } finally {
-            connection.setAutoCommit(true); // enable auto commit mode again
+            releaseWriteConnection(writeConnection);
         }
     }
 
-    /// Helping method. Removes shared fields which do not exist locally
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+    private List<OfflineLockException> updateBatch(Connection connection, List<BibEntry> localBibEntries) throws SQLException {
+        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+        for (BibEntry sharedEntry : getSharedEntries(connection, localBibEntries.stream()
+                                                                                .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                                                .toList())) {
+            sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+        }
+
+        List<BibEntry> entriesToUpdate = new ArrayList<>();
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        for (BibEntry localBibEntry : localBibEntries) {
+            BibEntry sharedBibEntry = sharedEntries.get(localBibEntry.getSharedBibEntryData().getSharedID());
+            if (sharedBibEntry == null) {
+                continue;
+            }
+            // update only if local version is higher or the entries are equal
+            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData().getVersion())
+                    || localBibEntry.equals(sharedBibEntry)) {
+                entriesToUpdate.add(localBibEntry);
+            } else {
+                refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
             }
         }
-    }
+        if (entriesToUpdate.isEmpty()) {
+            return refusedUpdates;
+        }
 
-    /// Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-    /// update is performed.
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+        // replace all fields
+        String deleteFieldsQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("ENTRY_SHARED_ID") +
+                " IN (" +
+                "?, ".repeat(entriesToUpdate.size() - 1) +
+                "?)";
+        try (PreparedStatement preparedDeleteFieldsStatement = connection.prepareStatement(deleteFieldsQuery)) {
+            for (int i = 0; i < entriesToUpdate.size(); i++) {
+                preparedDeleteFieldsStatement.setInt(i + 1, entriesToUpdate.get(i).getSharedBibEntryData().getSharedID());
             }
+            preparedDeleteFieldsStatement.executeUpdate();
+        }
+        insertIntoFieldTable(connection, entriesToUpdate);
 
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+        // updating entry type
+        String updateEntryTypeQuery = "UPDATE " +
+                escape_Table("ENTRY") +
+                " SET " +
+                escape("TYPE") +
+                " = ?, " +
+                escape("VERSION") +
+                " = " +
+                escape("VERSION") +
+                " + 1 WHERE " +
+                escape("SHARED_ID") +
+                " = ?";
+        try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
+            for (BibEntry localBibEntry : entriesToUpdate) {
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.addBatch();
             }
+            preparedUpdateEntryTypeStatement.executeBatch();
+        }
+        return refusedUpdates;
+    }
+
+    /// Sets the maximum number of rows written by a single statement and the number of entries updated in one
+    /// transaction. Larger batches need fewer round trips, but hold locks longer.
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size has to be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /// Lets writes of entries use connections of the given pool instead of the connection of this processor
+    public void setConnectionPool(@Nullable DBMSConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    private Connection acquireWriteConnection() throws SQLException {
+        return connectionPool == null ? connection : connectionPool.acquire();
+    }
+
+    private void releaseWriteConnection(@Nullable Connection writeConnection) {
+        if (writeConnection == null) {
+            return;
+        }
+        if ((connectionPool != null) && (writeConnection != connection)) {
+            connectionPool.release(writeConnection);
+            return;
+        }
+        try {
+            writeConnection.setAutoCommit(true); // enable auto commit mode again
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    private static void rollback(@Nullable Connection writeConnection) {
+        if (writeConnection == null) {
+            return;
+        }
+        try {
+            writeConnection.rollback();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during rollback: ", e);
         }
     }
 
@@ -447,12 +472,12 @@ public abstract class DBMSProcessor {
         }
     }
 
-    /// Queries the database for shared entries in 500 element batches.
+    /// Queries the database for shared entries in batches of {@link #setBatchSize(int) batch size} elements.
     /// Optionally, they are filtered by the given list of sharedIds
     ///
     /// @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
     public List<BibEntry> partitionAndGetSharedEntries(List<Integer> sharedIDs) {
-        List<List<Integer>> partitions = Lists.partition(sharedIDs, 500);
+        List<List<Integer>> partitions = Lists.partition(sharedIDs, batchSize);
         List<BibEntry> result = new ArrayList<>();
 
         for (List<Integer> sublist : partitions) {
@@ -465,6 +490,15 @@ public abstract class DBMSProcessor {
     ///
     /// @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
     public List<BibEntry> getSharedEntries(@NonNull List<Integer> sharedIDs) {
+        try {
+            return getSharedEntries(connection, sharedIDs);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            return List.of();
+        }
+    }
+
+    private List<BibEntry> getSharedEntries(Connection connection, List<Integer> sharedIDs) throws SQLException {
         List<BibEntry> sharedEntries = new ArrayList<>();
 
         StringBuilder query = new StringBuilder();
@@ -522,8 +556,7 @@ public abstract class DBMSProcessor {
             }
         } catch (SQLException e) {
             LOGGER.error("Executed >{}<", query);
-            LOGGER.error("SQL Error", e);
-            return List.of();
+            throw e;
         }
 
         return sharedEntries;
@@ -552,6 +585,39 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /// Retrieves a mapping between the columns SHARED_ID and VERSION for the given shared ids only.
+    /// Shared ids of entries not present on the shared database are not contained in the mapping.
+    public Map<Integer, Integer> getSharedIDVersionMapping(@NonNull Collection<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        for (List<Integer> partition : Lists.partition(List.copyOf(sharedIDs), batchSize)) {
+            String selectEntryQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    ", " +
+                    escape("VERSION") +
+                    " FROM " +
+                    escape_Table("ENTRY") +
+                    " WHERE " +
+                    escape("SHARED_ID") +
+                    " IN (" +
+                    "?, ".repeat(partition.size() - 1) +
+                    "?)";
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectEntryQuery)) {
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedStatement.setInt(i + 1, partition.get(i));
+                }
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    while (selectEntryResultSet.next()) {
+                        sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+        return sharedIDVersionMapping;
+    }
+
     /// Fetches and returns all shared meta data.
     public Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
@@ -634,6 +700,38 @@ public abstract class DBMSProcessor {
     /// Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS. Needs to be implemented if
     /// LiveUpdate is supported by the DBMS
     public void notifyClients() {
+        notifyClients(List.of());
+    }
+
+    /// Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changed entries. Needs
+    /// to be implemented if LiveUpdate is supported by the DBMS
+    ///
+    /// @param changedSharedIDs the shared ids of the inserted, updated, or removed entries
+    public void notifyClients(@SuppressWarnings("unused") Collection<Integer> changedSharedIDs) {
+        // nothing to do
+    }
+
+    /// Returns the position in the change log of the shared entries up to which all changes are visible. Needs to be
+    /// implemented if the DBMS keeps a change log.
+    ///
+    /// @return empty if there is no change log. Then, clients have to compare all entries on each synchronization.
+    public OptionalLong getLatestEntryChange() {
+        return OptionalLong.empty();
+    }
+
+    /// Returns the entries changed after the given position of the change log. Needs to be implemented if the DBMS keeps
+    /// a change log. Changes committed late have to be returned, too, even if later changes were returned already.
+    ///
+    /// @param latestChange the position returned by {@link #getLatestEntryChange()} or a previous call of this method
+    /// @return empty if the changes are not available, e.g., because there is no change log or it has been pruned in the
+    /// meantime. Then, all entries have to be compared.
+    public Optional<SharedEntryChanges> getEntryChangesSince(@SuppressWarnings("unused") long latestChange) {
+        return Optional.empty();
+    }
+
+    /// Removes old changes from the change log. Clients which did not synchronize since then compare all entries.
+    /// Needs to be implemented if the DBMS keeps a change log.
+    public void pruneEntryChanges() {
         // nothing to do
     }
 }
@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,6 +36,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,12 +53,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final BibDatabase bibDatabase;
     private final EventBus eventBus;
     private Connection currentConnection;
+    private @Nullable DBMSConnectionPool connectionPool;
     private final Character keywordSeparator;
     private final GlobalCitationKeyPatterns globalCiteKeyPattern;
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
     private final String userAndHost;
+    /// The position in the change log of the shared database up to which the local database is synchronized, `-1` if unknown
+    private long latestEntryChange = -1;
 
     public DBMSSynchronizer(@NonNull BibDatabaseContext bibDatabaseContext,
                             Character keywordSeparator,
@@ -85,6 +91,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -116,6 +123,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             synchronizeLocalDatabase();
         }
     }
@@ -152,6 +160,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             throw new IllegalStateException(e);
         }
 
+        dbmsProcessor.pruneEntryChanges();
         dbmsProcessor.startNotificationListener(this);
         synchronizeLocalMetaData();
         synchronizeLocalDatabase();
@@ -159,6 +168,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     /// Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
     /// {@link BibEntry}.
+    ///
+    /// If the shared database keeps a change log, only the entries changed since the last synchronization are compared.
+    /// Otherwise, or if the changes are not available anymore, all entries are compared.
     @Override
     public void synchronizeLocalDatabase() {
         if (!checkCurrentConnection()) {
@@ -166,41 +178,44 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
 
         List<BibEntry> localEntries = bibDatabase.getEntries();
-        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        Map<Integer, Integer> idVersionMap;
+        Optional<SharedEntryChanges> entryChanges = dbmsProcessor.getEntryChangesSince(latestEntryChange);
+        if (entryChanges.isPresent()) {
+            latestEntryChange = entryChanges.get().latestChange();
+            Set<Integer> changedSharedIDs = entryChanges.get().sharedIDs();
+            if (changedSharedIDs.isEmpty()) {
+                return;
+            }
+            idVersionMap = dbmsProcessor.getSharedIDVersionMapping(changedSharedIDs);
+
+            // remove entries locally which were removed on the shared database
+            Set<Integer> removedSharedIDs = new HashSet<>(changedSharedIDs);
+            removedSharedIDs.removeAll(idVersionMap.keySet());
+            removeLocalEntries(localEntries.stream()
+                                           .filter(localEntry -> removedSharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                           .toList());
+        } else {
+            // Determine the position first, so that changes made during the synchronization are pulled again next time
+            latestEntryChange = dbmsProcessor.getLatestEntryChange().orElse(-1);
+            idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+
+            // remove old entries locally
+            removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        }
+
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.putIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
 
-        // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                dbmsProcessor.getSharedEntry(idVersionEntry.getKey()).ifPresent(sharedEntry -> updateLocalEntry(localEntry, sharedEntry));
             }
         }
 
@@ -210,15 +225,35 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /// Removes all local entries which are not present on shared database.
     ///
     /// @param localEntries List of {@link BibEntry} the entries should be removed from
     /// @param sharedIDs    Set of all IDs which are present on shared database
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+        removeLocalEntries(localEntries.stream()
+                                       .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                       .collect(Collectors.toList()));
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -226,6 +261,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                         .toList();
+    }
+
     /// Synchronizes the shared {@link BibEntry} with the local one.
     @Override
     public void synchronizeSharedEntry(BibEntry bibEntry) {
@@ -235,6 +276,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(List.of(bibEntry.getSharedBibEntryData().getSharedID()));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -275,17 +317,19 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
-            }
+        // synchronize only if changes were present
+        List<BibEntry> changedEntries = bibDatabase.getEntries().stream()
+                                                   .filter(bibEntry -> !BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty())
+                                                   .toList();
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+        try {
+            // Refused updates are reported per batch, so that they are not lost if a later batch fails
+            dbmsProcessor.updateEntries(changedEntries, exception ->
+                    eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry())));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -355,6 +399,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        if (connection.getProperties() instanceof DBMSConnectionProperties properties) {
+            this.connectionPool = new DBMSConnectionPool(properties);
+            dbmsProcessor.setConnectionPool(connectionPool);
+        }
         initializeDatabases();
     }
 
@@ -364,6 +412,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         pullLastEntryChanges();
         try {
             dbmsProcessor.stopNotificationListener();
+            if (connectionPool != null) {
+                connectionPool.close();
+            }
             currentConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error:", e);
@@ -1,12 +1,19 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
@@ -19,6 +26,10 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     private PostgresSQLNotificationListener listener;
 
+    private static final String ENTRY_CHANGE_TABLE = "ENTRY_CHANGE";
+    private static final String ENTRY_CHANGE_FUNCTION = "jabref.log_entry_change()";
+    private static final int ENTRY_CHANGE_RETENTION_DAYS = 30;
+
     private int VERSION_DB_STRUCT_DEFAULT = -1;
     private final int CURRENT_VERSION_DB_STRUCT = 1;
 
@@ -57,6 +68,8 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"KEY\" VARCHAR,"
                         + "\"VALUE\" TEXT)");
 
+        setUpEntryChangeLog();
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -86,8 +99,129 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    /// Creates the change log of the entries. It is filled by a trigger, so that changes made by older clients are logged, too.
+    ///
+    /// Updates of fields are logged, because [DBMSProcessor#updateEntry(BibEntry)] increments the version of the entry in the same transaction.
+    /// Each change records the id of its transaction (see [#getEntryChangesSince(long)]).
+    /// The `txid_*` functions are used instead of the `pg_*` ones of PostgreSQL 13, as they work on all supported versions and return plain numbers.
+    private void setUpEntryChangeLog() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(
+                    "CREATE TABLE IF NOT EXISTS " + escape_Table(ENTRY_CHANGE_TABLE) + " (" +
+                            "\"SEQUENCE\" BIGSERIAL PRIMARY KEY, " +
+                            "\"SHARED_ID\" INTEGER NOT NULL, " +
+                            "\"CHANGED\" TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                            "\"TRANSACTION_ID\" BIGINT DEFAULT txid_current())");
+            statement.executeUpdate(
+                    "ALTER TABLE " + escape_Table(ENTRY_CHANGE_TABLE) + " ADD COLUMN IF NOT EXISTS \"TRANSACTION_ID\" BIGINT DEFAULT txid_current()");
+            statement.executeUpdate(
+                    "CREATE INDEX IF NOT EXISTS \"ENTRY_CHANGE_TRANSACTION_ID\" ON " + escape_Table(ENTRY_CHANGE_TABLE) + " (\"TRANSACTION_ID\")");
+
+            statement.executeUpdate(
+                    "CREATE OR REPLACE FUNCTION " + ENTRY_CHANGE_FUNCTION + " RETURNS TRIGGER AS $$ " +
+                            "BEGIN " +
+                            "IF (TG_OP = 'DELETE') THEN " +
+                            "INSERT INTO " + escape_Table(ENTRY_CHANGE_TABLE) + "(\"SHARED_ID\") VALUES (OLD.\"SHARED_ID\"); " +
+                            "RETURN OLD; " +
+                            "END IF; " +
+                            "INSERT INTO " + escape_Table(ENTRY_CHANGE_TABLE) + "(\"SHARED_ID\") VALUES (NEW.\"SHARED_ID\"); " +
+                            "RETURN NEW; " +
+                            "END; " +
+                            "$$ LANGUAGE plpgsql");
+
+            statement.executeUpdate("DROP TRIGGER IF EXISTS \"LOG_ENTRY_CHANGE\" ON " + escape_Table("ENTRY"));
+            statement.executeUpdate(
+                    "CREATE TRIGGER \"LOG_ENTRY_CHANGE\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                            " FOR EACH ROW EXECUTE PROCEDURE " + ENTRY_CHANGE_FUNCTION);
+        }
+    }
+
+    /// The change log was added without changing the version of the structure, so that older clients can still work on the same database.
+    /// Thus, its existence is checked separately.
+    @Override
+    public boolean checkBaseIntegrity() throws SQLException {
+        return super.checkBaseIntegrity() && checkTableAvailability(ENTRY_CHANGE_TABLE);
+    }
+
+    /// The position is the oldest transaction still running (see [#getEntryChangesSince(long)])
+    @Override
+    public OptionalLong getLatestEntryChange() {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT txid_snapshot_xmin(txid_current_snapshot())")) {
+            if (resultSet.next()) {
+                return OptionalLong.of(resultSet.getLong(1));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during reading the entry change log", e);
+        }
+        return OptionalLong.empty();
+    }
+
+    /// Sequence numbers are assigned when a change is made, but become visible when the transaction commits.
+    /// Thus, a change with a lower number may become visible long after changes with higher ones, e.g., for a large import.
+    ///
+    /// Therefore, the position in the change log is not a sequence number, but the id of the oldest transaction running when the changes were read.
+    /// All transactions with lower ids had finished by then, so their changes were read already.
+    /// Changes of this and all later transactions are read (again) on the next call.
+    /// Reading a change twice does no harm, as the synchronization compares the versions of the entries.
+    ///
+    /// If all changes at and after the given position may have been pruned, the changes are reported as unavailable, so that all entries are compared.
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    public Optional<SharedEntryChanges> getEntryChangesSince(long latestChange) {
+        if (latestChange < 0) {
+            return Optional.empty();
+        }
+        // The position is determined before reading the changes. Transactions finishing in between are read again next time.
+        String selectPositionQuery = "SELECT txid_snapshot_xmin(txid_current_snapshot()), " +
+                "(SELECT MIN(\"TRANSACTION_ID\") FROM " + escape_Table(ENTRY_CHANGE_TABLE) + ")";
+        String selectChangesQuery = "SELECT DISTINCT \"SHARED_ID\" FROM " + escape_Table(ENTRY_CHANGE_TABLE) +
+                " WHERE \"TRANSACTION_ID\" >= ?";
+        try {
+            long newPosition;
+            try (Statement statement = connection.createStatement();
+                 ResultSet positionResultSet = statement.executeQuery(selectPositionQuery)) {
+                if (!positionResultSet.next()) {
+                    return Optional.empty();
+                }
+                newPosition = positionResultSet.getLong(1);
+                long oldestLoggedTransaction = positionResultSet.getLong(2);
+                if (!positionResultSet.wasNull() && (oldestLoggedTransaction > latestChange)) {
+                    // All changes before the first logged one were pruned. Changes after the given position might have been pruned as well.
+                    return Optional.empty();
+                }
+            }
+
+            Set<Integer> sharedIDs = new HashSet<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectChangesQuery)) {
+                preparedStatement.setLong(1, latestChange);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        sharedIDs.add(resultSet.getInt(1));
+                    }
+                }
+            }
+            return Optional.of(new SharedEntryChanges(Math.max(latestChange, newPosition), sharedIDs));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during reading the entry change log", e);
+            return Optional.empty();
+        }
+    }
+
+    /// Keeps the newest change, so that the change log is never empty once an entry was changed (see [#getEntryChangesSince(long)])
+    @Override
+    public void pruneEntryChanges() {
+        String pruneQuery = "DELETE FROM " + escape_Table(ENTRY_CHANGE_TABLE) +
+                " WHERE \"CHANGED\" < CURRENT_TIMESTAMP - INTERVAL '" + ENTRY_CHANGE_RETENTION_DAYS + " days'" +
+                " AND \"SEQUENCE\" < (SELECT MAX(\"SEQUENCE\") FROM " + escape_Table(ENTRY_CHANGE_TABLE) + ")";
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(pruneQuery);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during pruning the entry change log", e);
+        }
+    }
+
+    @Override
+    protected void insertIntoEntryTable(Connection connection, List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -114,8 +248,6 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
@@ -161,9 +293,11 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+    public void notifyClients(Collection<Integer> changedSharedIDs) {
+        // The channel name of LISTEN is not quoted and thus lower case, whereas pg_notify takes the name as it is
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pg_notify('jabrefliveupdate', ?)")) {
+            preparedStatement.setString(1, LiveUpdateNotification.of(PROCESSOR_ID, changedSharedIDs).toPayload());
+            preparedStatement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,12 @@
+package org.jabref.logic.shared;
+
+import java.util.Set;
+
+/// The entries changed on the shared database since a given position of its change log.
+///
+/// @param latestChange the position of the newest change. The next pull starts from here.
+/// @param sharedIDs    the shared ids of all entries inserted, updated, or removed since the given position
+public record SharedEntryChanges(
+        long latestChange,
+        Set<Integer> sharedIDs) {
+}
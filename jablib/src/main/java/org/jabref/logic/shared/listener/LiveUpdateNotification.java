@@ -0,0 +1,53 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/// The payload of a live update notification sent by a [org.jabref.logic.shared.DBMSProcessor] to all connected clients.
+///
+/// The payload has the form `<processor id>;<shared id>,<shared id>,...`.
+/// A payload consisting of the processor id only (as sent by older versions) carries no shared ids.
+///
+/// @param processorID the id of the processor which changed the shared database
+/// @param sharedIDs   the shared ids of the changed entries. Empty, if unknown or if only the meta data changed.
+public record LiveUpdateNotification(
+        String processorID,
+        Set<Integer> sharedIDs) {
+
+    /// PostgreSQL limits the payload to 8000 bytes
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final String ID_SEPARATOR = ";";
+    private static final String SHARED_ID_SEPARATOR = ",";
+
+    public static LiveUpdateNotification of(String processorID, Collection<Integer> sharedIDs) {
+        return new LiveUpdateNotification(processorID, Set.copyOf(sharedIDs));
+    }
+
+    /// Serializes this notification. If there are too many shared ids, they are left out.
+    /// This is no problem, because the clients pull the changes from the change log anyway.
+    public String toPayload() {
+        String payload = processorID + ID_SEPARATOR + sharedIDs.stream()
+                                                               .map(String::valueOf)
+                                                               .collect(Collectors.joining(SHARED_ID_SEPARATOR));
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            return processorID + ID_SEPARATOR;
+        }
+        return payload;
+    }
+
+    public static LiveUpdateNotification fromPayload(String payload) {
+        int separatorIndex = payload.indexOf(ID_SEPARATOR);
+        if (separatorIndex < 0) {
+            return new LiveUpdateNotification(payload, Set.of());
+        }
+        Set<Integer> sharedIDs = Arrays.stream(payload.substring(separatorIndex + 1).split(SHARED_ID_SEPARATOR))
+                                       .map(String::strip)
+                                       .filter(id -> id.matches("\\d+"))
+                                       .map(Integer::valueOf)
+                                       .collect(Collectors.toSet());
+        return new LiveUpdateNotification(payload.substring(0, separatorIndex), sharedIDs);
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -33,10 +35,15 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                    // The name of a notification is the channel, the sender is part of the payload
+                    List<LiveUpdateNotification> updatesOfOthers = Arrays.stream(notifications)
+                                                                          .map(notification -> LiveUpdateNotification.fromPayload(notification.getParameter()))
+                                                                          .filter(liveUpdate -> !DBMSProcessor.PROCESSOR_ID.equals(liveUpdate.processorID()))
+                                                                          .toList();
+                    if (!updatesOfOthers.isEmpty()) {
+                        // One pull fetches all changes since the last pull from the change log
+                        LOGGER.debug("Pulling changes of shared entries {}", updatesOfOthers.stream().map(LiveUpdateNotification::sharedIDs).toList());
+                        dbmsSynchronizer.pullChanges();
                     }
                 }
 
@@ -5,7 +5,9 @@ import java.nio.file.Path;
 
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.search.LinkedFilesConstants;
+import org.jabref.model.search.PostgreConstants;
 
 import net.harawata.appdirs.AppDirsFactory;
 
@@ -44,6 +46,20 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getBibFieldsIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "search" + File.separator + PostgreConstants.BIB_FIELDS_INDEX_VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    public static Path getPdfTextCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "pdf-text" + File.separator + PdfTextCache.VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
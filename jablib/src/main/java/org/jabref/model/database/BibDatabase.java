@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,6 +39,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.EventBus;
@@ -66,6 +69,10 @@ public class BibDatabase {
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having this key
+    // Kept in sync by the FieldChangedEvents of the entries, see relayEntryChangeEvent
+    private final Map<String, List<BibEntry>> citationKeyIndex = new ConcurrentHashMap<>();
+
     @Nullable private String preamble;
 
     // All file contents below the last entry in the file
@@ -129,25 +136,27 @@ public class BibDatabase {
     }
 
     /// Returns the entry with the given citation key.
+    /// If multiple entries have the key, the first one in the database is returned.
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        List<BibEntry> entriesWithKey = getEntriesByCitationKey(key);
+        return entriesWithKey.isEmpty() ? Optional.empty() : Optional.of(entriesWithKey.getFirst());
     }
 
     /// Collects entries having the specified citation key and returns these entries as list.
     /// The order of the entries is the order they appear in the database.
     ///
     /// @return list of entries that contains the given key
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+    public synchronized List<BibEntry> getEntriesByCitationKey(@Nullable String key) {
+        List<BibEntry> entriesWithKey = key == null ? null : citationKeyIndex.get(key);
+        if (entriesWithKey == null || entriesWithKey.size() <= 1) {
+            return entriesWithKey == null ? new ArrayList<>() : new ArrayList<>(entriesWithKey);
         }
-        return result;
+        // Duplicate keys are rare; only then the order of the database needs to be determined
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(entriesWithKey);
+        return entries.stream()
+                      .filter(candidates::contains)
+                      .collect(Collectors.toCollection(ArrayList::new));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -176,13 +185,17 @@ public class BibDatabase {
         }
 
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            // Only an entry that is part of another library already needs its own event bus to notify this one
+            if (!entry.attachToDatabase(this)) {
+                entry.registerListener(this);
+            }
         }
         eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
                 }
         );
     }
@@ -225,7 +238,9 @@ public class BibDatabase {
 
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
+            entry.detachFromDatabase(this);
             removeEntryFromIndex(entry);
+            entry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, entry.getId()));
         });
 
         entries.setAll(newEntries);
@@ -276,6 +291,38 @@ public class BibDatabase {
         });
     }
 
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        citationKeyIndex.computeIfAbsent(key, _ -> new CopyOnWriteArrayList<>()).add(entry);
+    }
+
+    /// Removes the entries with the given id from the citation key index, similar to [#removeEntries(List, EntriesEventSource)]
+    private void removeFromCitationKeyIndex(String key, String entryId) {
+        citationKeyIndex.computeIfPresent(key, (_, entriesWithKey) -> {
+            entriesWithKey.removeIf(entry -> entry.getId().equals(entryId));
+            return entriesWithKey.isEmpty() ? null : entriesWithKey;
+        });
+    }
+
+    private void updateCitationKeyIndex(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD != event.getField()) {
+            return;
+        }
+        BibEntry entry = event.getBibEntry();
+        if (!entriesId.containsKey(entry.getId())) {
+            // Removed entries keep this database as listener
+            return;
+        }
+        if (StringUtil.isNotBlank(event.getOldValue())) {
+            citationKeyIndex.computeIfPresent(event.getOldValue(), (_, entriesWithKey) -> {
+                entriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+                return entriesWithKey.isEmpty() ? null : entriesWithKey;
+            });
+        }
+        if (StringUtil.isNotBlank(event.getNewValue())) {
+            addToCitationKeyIndex(event.getNewValue(), entry);
+        }
+    }
+
     /// Returns the database's preamble.
     /// If the preamble text consists only of whitespace, then also an empty optional is returned.
     @NonNull
@@ -544,8 +591,11 @@ public class BibDatabase {
         }
     }
 
+    /// Relays a change of one of the entries to the listeners of this library.
+    /// Called directly by the entries attached to this library (see [BibEntry#attachToDatabase(BibDatabase)]) and via the event bus of all others.
     @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
+    public void relayEntryChangeEvent(FieldChangedEvent event) {
+        updateCitationKeyIndex(event);
         eventBus.post(event);
     }
 
@@ -578,11 +628,12 @@ public class BibDatabase {
     }
 
     /// Returns the number of occurrences of the given citation key in this database.
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public long getNumberOfCitationKeyOccurrences(@Nullable String key) {
+        if (key == null) {
+            return 0;
+        }
+        List<BibEntry> entriesWithKey = citationKeyIndex.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /// Checks if there is more than one occurrence of the citation key.
@@ -29,6 +29,7 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.MetaData;
 
 import org.jspecify.annotations.NullMarked;
@@ -70,6 +71,9 @@ public class BibDatabaseContext {
 
     private DatabaseLocation location;
 
+    @Nullable
+    private GroupMembershipIndex groupMembershipIndex;
+
     public BibDatabaseContext() {
         this(new BibDatabase());
     }
@@ -128,6 +132,14 @@ public class BibDatabaseContext {
         return metaData;
     }
 
+    /// Returns the entries contained in the groups of this library. The index is created on first use and then kept up to date.
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
     public void setMetaData(MetaData metaData) {
         this.metaData = metaData;
     }
@@ -98,22 +98,27 @@ public class BibEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    // The caches and the event bus are created on first use, as many entries of a large library are never displayed, searched, or listened to
+
     /// Map to store the words in every field
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile @Nullable Map<Field, Set<String>> fieldsAsWords;
 
     /// Cache that stores latex free versions of fields.
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<Field, String> latexFreeFields;
 
     /// Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private volatile @Nullable MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
+
+    private volatile @Nullable EventBus eventBus;
 
-    private final EventBus eventBus = new EventBus();
+    /// The library receiving the change events of this entry directly, so that the entries of a library need no event bus of their own
+    private volatile @Nullable BibDatabase database;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /// The part before the start of the entry
     private String commentsBeforeEntry = "";
@@ -153,7 +158,7 @@ public class BibEntry {
     /// Does *not* port the listeners.
     public BibEntry(BibEntry other) {
         this(other.type.getValue());
-        this.fields = FXCollections.observableMap(new ConcurrentHashMap<>(other.fields));
+        this.fields = FXCollections.observableMap(new CompactFieldMap(other.fields));
         this.commentsBeforeEntry = other.commentsBeforeEntry;
         this.parsedSerialization = other.parsedSerialization;
         this.changed = other.changed;
@@ -367,7 +372,7 @@ public class BibEntry {
     public void setId(@NonNull String id) {
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -423,7 +428,7 @@ public class BibEntry {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -448,14 +453,14 @@ public class BibEntry {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        } else if (getLatexFreeFields().containsKey(field)) {
+            return Optional.ofNullable(getLatexFreeFields().get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -593,9 +598,9 @@ public class BibEntry {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -632,7 +637,7 @@ public class BibEntry {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -904,18 +909,59 @@ public class BibEntry {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventBus().register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            currentEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    private synchronized EventBus getEventBus() {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
+        return eventBus;
+    }
+
+    /// Makes the given library receive the change events of this entry, see [BibDatabase#insertEntries(List, EntriesEventSource)]
+    ///
+    /// @return false if the entry already relays its events to another library. The given library has to register as listener then.
+    public synchronized boolean attachToDatabase(BibDatabase database) {
+        if ((this.database != null) && (this.database != database)) {
+            return false;
+        }
+        this.database = database;
+        return true;
+    }
+
+    /// Stops relaying the change events of this entry to the given library
+    public synchronized void detachFromDatabase(BibDatabase database) {
+        if (this.database == database) {
+            this.database = null;
+        }
+    }
+
+    /// Posts the given event to the library of this entry and, if there are listeners, to the event bus
+    private void postEvent(FieldChangedEvent event) {
+        BibDatabase currentDatabase = database;
+        if (currentDatabase != null) {
+            currentDatabase.relayEntryChangeEvent(event);
+        }
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -924,7 +970,7 @@ public class BibEntry {
 
     /// A copy is made of the parameter
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = FXCollections.observableMap(new CompactFieldMap(content));
         this.setChanged(false);
         return this;
     }
@@ -964,7 +1010,8 @@ public class BibEntry {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> currentFieldsAsWords = getFieldsAsWords();
+        Set<String> storedList = currentFieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -973,7 +1020,7 @@ public class BibEntry {
                 return Set.of();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                currentFieldsAsWords.put(field, words);
                 return words;
             }
         }
@@ -981,7 +1028,7 @@ public class BibEntry {
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
         if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
+            Optional<KeywordList> storedList = getFieldsAsKeywords().get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
             }
@@ -992,7 +1039,7 @@ public class BibEntry {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+            getFieldsAsKeywords().put(standardField, keywordSeparator, keywords);
         }
         return keywords;
     }
@@ -1002,12 +1049,46 @@ public class BibEntry {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields != null) {
+            currentLatexFreeFields.remove(field);
+        }
+        Map<Field, Set<String>> currentFieldsAsWords = fieldsAsWords;
+        if (currentFieldsAsWords != null) {
+            currentFieldsAsWords.remove(field);
+        }
+        MultiKeyMap<StandardField, Character, KeywordList> currentFieldsAsKeywords = fieldsAsKeywords;
+        if ((currentFieldsAsKeywords != null) && (field instanceof StandardField standardField)) {
+            currentFieldsAsKeywords.remove(standardField);
+        }
+    }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields == null) {
+            // Creating the cache twice in case of a race is harmless
+            currentLatexFreeFields = new ConcurrentHashMap<>();
+            latexFreeFields = currentLatexFreeFields;
+        }
+        return currentLatexFreeFields;
+    }
+
+    private Map<Field, Set<String>> getFieldsAsWords() {
+        Map<Field, Set<String>> currentFieldsAsWords = fieldsAsWords;
+        if (currentFieldsAsWords == null) {
+            currentFieldsAsWords = new HashMap<>();
+            fieldsAsWords = currentFieldsAsWords;
+        }
+        return currentFieldsAsWords;
+    }
+
+    private MultiKeyMap<StandardField, Character, KeywordList> getFieldsAsKeywords() {
+        MultiKeyMap<StandardField, Character, KeywordList> currentFieldsAsKeywords = fieldsAsKeywords;
+        if (currentFieldsAsKeywords == null) {
+            currentFieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            fieldsAsKeywords = currentFieldsAsKeywords;
         }
+        return currentFieldsAsKeywords;
     }
 
     // region files
@@ -0,0 +1,189 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+import org.jspecify.annotations.Nullable;
+
+/// Stores the fields of a [BibEntry].
+///
+/// An entry has few fields, thus the fields and their values are kept in one flat array instead of a hash table.
+/// Fields are looked up by a linear scan, which is as fast as hashing for the usual number of fields.
+///
+/// Each change replaces the array. Thus, the map can be read by other threads while it is changed, as the [java.util.concurrent.ConcurrentHashMap] used before:
+/// readers always see a complete state and iterators reflect the state at their creation.
+/// Like there, `null` is neither allowed as field nor as value. The fields are iterated in the order they were added.
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    /// Alternating fields and their values
+    private volatile Object[] entries = EMPTY;
+
+    private @Nullable Set<Map.Entry<Field, String>> entrySet;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> content) {
+        Object[] newEntries = new Object[content.size() * 2];
+        int length = 0;
+        for (Map.Entry<Field, String> entry : content.entrySet()) {
+            if (length == newEntries.length) {
+                newEntries = Arrays.copyOf(newEntries, length + 2);
+            }
+            newEntries[length++] = Objects.requireNonNull(entry.getKey());
+            newEntries[length++] = Objects.requireNonNull(entry.getValue());
+        }
+        entries = (length == newEntries.length) ? newEntries : Arrays.copyOf(newEntries, length);
+    }
+
+    private static int indexOf(Object[] entries, @Nullable Object field) {
+        for (int i = 0; i < entries.length; i += 2) {
+            if (entries[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object field) {
+        return indexOf(entries, field) >= 0;
+    }
+
+    @Override
+    public @Nullable String get(@Nullable Object field) {
+        Object[] currentEntries = entries;
+        int index = indexOf(currentEntries, field);
+        return (index < 0) ? null : (String) currentEntries[index + 1];
+    }
+
+    @Override
+    public synchronized @Nullable String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+        Object[] currentEntries = entries;
+        int index = indexOf(currentEntries, field);
+        if (index >= 0) {
+            String oldValue = (String) currentEntries[index + 1];
+            Object[] newEntries = currentEntries.clone();
+            newEntries[index + 1] = value;
+            entries = newEntries;
+            return oldValue;
+        }
+        Object[] newEntries = Arrays.copyOf(currentEntries, currentEntries.length + 2);
+        newEntries[currentEntries.length] = field;
+        newEntries[currentEntries.length + 1] = value;
+        entries = newEntries;
+        return null;
+    }
+
+    @Override
+    public synchronized @Nullable String remove(@Nullable Object field) {
+        Object[] currentEntries = entries;
+        int index = indexOf(currentEntries, field);
+        if (index < 0) {
+            return null;
+        }
+        Object[] newEntries = new Object[currentEntries.length - 2];
+        System.arraycopy(currentEntries, 0, newEntries, 0, index);
+        System.arraycopy(currentEntries, index + 2, newEntries, index, currentEntries.length - index - 2);
+        entries = newEntries;
+        return (String) currentEntries[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries = EMPTY;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Field, String>> {
+
+        @Override
+        public int size() {
+            return CompactFieldMap.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<Field, String>> iterator() {
+            return new EntryIterator(entries);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Field, String>> {
+
+        private final Object[] snapshot;
+        private int next;
+        private @Nullable Field lastReturned;
+
+        EntryIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Map.Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = (Field) snapshot[next];
+            Map.Entry<Field, String> entry = new FieldEntry(lastReturned, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    /// An entry writing changes of its value through to the map
+    private final class FieldEntry extends SimpleEntry<Field, String> {
+
+        FieldEntry(Field field, String value) {
+            super(field, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+}
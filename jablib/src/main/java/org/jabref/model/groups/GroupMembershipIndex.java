@@ -0,0 +1,233 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
+
+/// Keeps the entries contained in each group of a library as bitmaps.
+///
+/// Each entry of the library gets a dense integer ordinal. For each group, the entries contained in the group itself are stored as [BitSet] over these ordinals.
+/// The hierarchical context of the groups is resolved by combining the bitmaps of the related groups, with the same semantics as [GroupTreeNode#getSearchMatcher()].
+/// Thus, counting the entries of a group or filtering by the selected groups does not need to check every entry against every group again.
+///
+/// The bitmaps are updated incrementally when entries are added, removed, or changed.
+/// If the entries contained in a group change without a change of an entry, e.g., for a search group after the search index is rebuilt, the group has to be [#invalidate(AbstractGroup)]d.
+/// Replacing the group of a node (see [GroupTreeNode#setGroup(AbstractGroup)]) needs no invalidation, as the bitmaps are kept per group instance.
+///
+/// Once more than half of the ordinals belong to removed entries, the remaining entries are numbered again (keeping their order).
+/// Thus, a bitmap returned by [#getMatches(GroupTreeNode)] is only valid until the next change of the library.
+/// Callers combining several calls synchronize on the index.
+public class GroupMembershipIndex {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<@Nullable BibEntry> entries = new ArrayList<>();
+    private int removedCount;
+    /// The groups are weak keys compared by identity, so that groups removed from the tree or replaced are dropped
+    private final Cache<AbstractGroup, BitSet> containedEntries = Caffeine.newBuilder().weakKeys().build();
+
+    public GroupMembershipIndex(BibDatabase database) {
+        // Register first, so that no entry added concurrently is missed. Entries are added only once.
+        database.registerListener(this);
+        addEntries(List.copyOf(database.getEntries()));
+    }
+
+    /// Returns whether the group of the given node matches the entry, taking the hierarchical context into account.
+    public synchronized boolean isMatched(GroupTreeNode node, BibEntry entry) {
+        Integer ordinal = ordinals.get(entry.getId());
+        if (ordinal == null) {
+            // Not part of the library (yet)
+            return node.matches(entry);
+        }
+        return isMatched(node, ordinal, node.getGroup().getHierarchicalContext());
+    }
+
+    /// Mirrors [GroupTreeNode#getSearchMatcher()] for a single entry
+    private boolean isMatched(GroupTreeNode node, int ordinal, GroupHierarchyType originalContext) {
+        boolean contained = getContainedEntries(node.getGroup()).get(ordinal);
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            return contained || node.getChildren().stream().anyMatch(child -> isMatched(child, ordinal, originalContext));
+        }
+        if ((context == GroupHierarchyType.REFINING) && (originalContext != GroupHierarchyType.INCLUDING)) {
+            Optional<GroupTreeNode> parent = node.getParent();
+            return contained && (parent.isEmpty() || isMatched(parent.get(), ordinal, originalContext));
+        }
+        return contained;
+    }
+
+    /// Returns the ordinals of all entries matched by the group of the given node, taking the hierarchical context into account.
+    /// Use [#getEntries(BitSet)] to get the entries.
+    ///
+    /// @return a new bitmap, which may be modified by the caller
+    public synchronized BitSet getMatches(GroupTreeNode node) {
+        return getMatches(node, node.getGroup().getHierarchicalContext());
+    }
+
+    /// Mirrors [GroupTreeNode#getSearchMatcher()] for all entries at once
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        BitSet matches = (BitSet) getContainedEntries(node.getGroup()).clone();
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && (originalContext != GroupHierarchyType.INCLUDING)) {
+            node.getParent().ifPresent(parent -> matches.and(getMatches(parent, originalContext)));
+        }
+        return matches;
+    }
+
+    /// Returns the number of entries matched by the group of the given node, taking the hierarchical context into account.
+    public synchronized int getMatchCount(GroupTreeNode node) {
+        return getMatches(node).cardinality();
+    }
+
+    /// Returns the entries of the library for the given ordinals. Ordinals of removed entries are skipped.
+    public synchronized List<BibEntry> getEntries(BitSet matches) {
+        List<BibEntry> result = new ArrayList<>(matches.cardinality());
+        for (int ordinal = matches.nextSetBit(0); (ordinal >= 0) && (ordinal < entries.size()); ordinal = matches.nextSetBit(ordinal + 1)) {
+            BibEntry entry = entries.get(ordinal);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /// Creates a matcher for filtering the entries by the given groups. The matcher always reflects the current state of the index.
+    ///
+    /// @param requireAll whether an entry has to be matched by all groups or by any of them
+    public SearchMatcher createMatcher(List<GroupTreeNode> nodes, boolean requireAll) {
+        List<GroupTreeNode> selectedNodes = List.copyOf(nodes);
+        if (requireAll) {
+            return entry -> selectedNodes.stream().allMatch(node -> isMatched(node, entry));
+        }
+        return entry -> selectedNodes.stream().anyMatch(node -> isMatched(node, entry));
+    }
+
+    /// Drops the bitmap of the group, so that it is computed again on the next access
+    public synchronized void invalidate(AbstractGroup group) {
+        containedEntries.invalidate(group);
+    }
+
+    /// Evaluates the group again for the given entries. Needed if the entries contained in the group changed without a change of the entries
+    /// and after the index was notified, e.g., for a search group updated after the search index events.
+    public synchronized void update(AbstractGroup group, List<BibEntry> changedEntries) {
+        BitSet contained = containedEntries.getIfPresent(group);
+        if (contained != null) {
+            updateEntries(group, contained, changedEntries);
+        }
+    }
+
+    private BitSet getContainedEntries(AbstractGroup group) {
+        BitSet contained = containedEntries.getIfPresent(group);
+        if (contained == null) {
+            contained = new BitSet(entries.size());
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                BibEntry entry = entries.get(ordinal);
+                if ((entry != null) && group.contains(entry)) {
+                    contained.set(ordinal);
+                }
+            }
+            containedEntries.put(group, contained);
+        }
+        return contained;
+    }
+
+    private synchronized void addEntries(List<BibEntry> addedEntries) {
+        for (BibEntry entry : addedEntries) {
+            if (!ordinals.containsKey(entry.getId())) {
+                ordinals.put(entry.getId(), entries.size());
+                entries.add(entry);
+            }
+        }
+        updateEntries(addedEntries);
+    }
+
+    private synchronized void removeEntries(List<BibEntry> removedEntries) {
+        for (BibEntry entry : removedEntries) {
+            Integer ordinal = ordinals.remove(entry.getId());
+            if (ordinal != null) {
+                entries.set(ordinal, null);
+                removedCount++;
+                containedEntries.asMap().values().forEach(contained -> contained.clear(ordinal));
+            }
+        }
+        if (removedCount > entries.size() / 2) {
+            compact();
+        }
+    }
+
+    /// Numbers the remaining entries again, so that the ordinals of removed entries are freed
+    private void compact() {
+        int[] newOrdinals = new int[entries.size()];
+        List<@Nullable BibEntry> remaining = new ArrayList<>(entries.size() - removedCount);
+        for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+            BibEntry entry = entries.get(ordinal);
+            if (entry != null) {
+                newOrdinals[ordinal] = remaining.size();
+                ordinals.put(entry.getId(), remaining.size());
+                remaining.add(entry);
+            }
+        }
+        entries.clear();
+        entries.addAll(remaining);
+        removedCount = 0;
+
+        containedEntries.asMap().replaceAll((_, contained) -> {
+            BitSet compacted = new BitSet(entries.size());
+            contained.stream().forEach(ordinal -> compacted.set(newOrdinals[ordinal]));
+            return compacted;
+        });
+    }
+
+    private synchronized void updateEntries(List<BibEntry> changedEntries) {
+        containedEntries.asMap().forEach((group, contained) -> updateEntries(group, contained, changedEntries));
+    }
+
+    private void updateEntries(AbstractGroup group, BitSet contained, List<BibEntry> changedEntries) {
+        for (BibEntry entry : changedEntries) {
+            Integer ordinal = ordinals.get(entry.getId());
+            if (ordinal != null) {
+                contained.set(ordinal, group.contains(entry));
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        addEntries(event.getBibEntries());
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        removeEntries(event.getBibEntries());
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        updateEntries(List.of(event.getBibEntry()));
+    }
+
+    /// Search groups are updated after the search index is updated
+    @Subscribe
+    public void listen(IndexAddedOrUpdatedEvent event) {
+        updateEntries(event.entries());
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.model.groups;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -61,6 +62,26 @@ public class SearchGroup extends AbstractGroup {
         }
     }
 
+    /// Updates the matches of the given entries at once.
+    ///
+    /// @param entryIds   the ids of all entries which were checked against the search query
+    /// @param matchedIds the subset of `entryIds` matching the search query
+    /// @return the entries which changed their membership in this group
+    public SearchGroupMatchDelta updateMatches(Collection<String> entryIds, Set<String> matchedIds) {
+        Set<String> matched = new LinkedHashSet<>();
+        Set<String> unmatched = new LinkedHashSet<>();
+        for (String entryId : entryIds) {
+            if (matchedIds.contains(entryId)) {
+                if (matchedEntries.add(entryId)) {
+                    matched.add(entryId);
+                }
+            } else if (matchedEntries.remove(entryId)) {
+                unmatched.add(entryId);
+            }
+        }
+        return new SearchGroupMatchDelta(matched, unmatched);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,14 @@
+package org.jabref.model.groups;
+
+import java.util.Set;
+
+/// The change of the entries matched by a [SearchGroup] after entries were added or updated.
+///
+/// @param matched   ids of the entries the group matches now, but did not match before
+/// @param unmatched ids of the entries the group matched before, but does not match anymore
+public record SearchGroupMatchDelta(Set<String> matched, Set<String> unmatched) {
+
+    public boolean isEmpty() {
+        return matched.isEmpty() && unmatched.isEmpty();
+    }
+}
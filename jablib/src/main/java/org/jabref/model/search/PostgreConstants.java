@@ -10,6 +10,9 @@ public enum PostgreConstants {
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
     FIELD_VALUE_TRANSFORMED("field_value_transformed"); // contains the value transformed for better querying
 
+    /// Version of the rows stored for the bib fields index. Increase if the rows generated for an entry change.
+    public static final String BIB_FIELDS_INDEX_VERSION = "1";
+
     public static final List<String> POSTGRES_FUNCTIONS = List.of(
             // HTML highlighting function
             """
@@ -1,8 +1,14 @@
 package org.jabref.model.search.event;
 
 import java.util.List;
+import java.util.Map;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.SearchGroupMatchDelta;
 
-public record IndexAddedOrUpdatedEvent(List<BibEntry> entries) {
+/// @param searchGroupDeltas the changes of the search groups of the library caused by the added or updated entries.
+///                          The search groups are already updated when the event is posted. Keyed by identity of the group.
+///                          A group is missing if it was not updated, e.g., because indexing failed. Then, listeners have to determine its matches themselves.
+public record IndexAddedOrUpdatedEvent(List<BibEntry> entries, Map<SearchGroup, SearchGroupMatchDelta> searchGroupDeltas) {
 }
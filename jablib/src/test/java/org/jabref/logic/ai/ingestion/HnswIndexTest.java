@@ -0,0 +1,145 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int K = 10;
+
+    private final Random random = new Random(42);
+    private final Map<String, HnswIndex.HnswNode> nodes = new HashMap<>();
+    private final Map<String, String> metadata = new HashMap<>();
+    private final Map<String, float[]> vectors = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 2000; i++) {
+            vectors.put("id" + i, randomVector());
+        }
+    }
+
+    @Test
+    void recallComparedToExactSearch() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+
+        assertTrue(averageRecall(index, null) >= 0.9);
+    }
+
+    @Test
+    void recallWithFilter() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+        Predicate<String> evenIds = id -> Integer.parseInt(id.substring(2)) % 2 == 0;
+
+        assertTrue(averageRecall(index, evenIds) >= 0.9);
+        index.search(randomVector(), K, 100, evenIds).forEach(scored -> assertTrue(evenIds.test(scored.id())));
+    }
+
+    @Test
+    void removedVectorIsNotFound() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+        float[] query = vectors.get("id7");
+
+        index.remove("id7");
+        vectors.remove("id7");
+
+        assertFalse(index.search(query, K, 100, null).stream().anyMatch(scored -> scored.id().equals("id7")));
+        assertEquals(vectors.size(), index.size());
+        assertTrue(averageRecall(index, null) >= 0.9);
+    }
+
+    @Test
+    void removedNodesAreUnlinkedOnCompaction() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+
+        for (int i = 0; i < 300; i++) {
+            index.remove("id" + i);
+            vectors.remove("id" + i);
+        }
+
+        assertFalse(nodes.containsKey("id0"));
+        assertFalse(nodes.values().stream().anyMatch(node -> linksTo(node, "id0")));
+        assertTrue(averageRecall(index, null) >= 0.9);
+    }
+
+    @Test
+    void removedNodesAreUnlinkedOnReload() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+        index.remove("id7");
+        vectors.remove("id7");
+
+        HnswIndex reloaded = new HnswIndex(nodes, metadata, vectors);
+
+        assertFalse(nodes.containsKey("id7"));
+        assertFalse(nodes.values().stream().anyMatch(node -> linksTo(node, "id7")));
+        assertEquals(vectors.size(), reloaded.size());
+        assertTrue(averageRecall(reloaded, null) >= 0.9);
+    }
+
+    @Test
+    void persistedGraphIsReused() {
+        HnswIndex index = new HnswIndex(nodes, metadata, vectors);
+        float[] query = randomVector();
+        List<HnswIndex.ScoredId> expected = index.search(query, K, 100, null);
+        Map<String, HnswIndex.HnswNode> persistedNodes = new HashMap<>(nodes);
+
+        HnswIndex reloaded = new HnswIndex(nodes, metadata, vectors);
+
+        assertEquals(expected, reloaded.search(query, K, 100, null));
+        assertEquals(persistedNodes.keySet(), nodes.keySet());
+    }
+
+    @Test
+    void vectorsMissingInPersistedGraphAreAdded() {
+        new HnswIndex(nodes, metadata, vectors);
+        vectors.put("new", randomVector());
+
+        HnswIndex reloaded = new HnswIndex(nodes, metadata, vectors);
+
+        assertEquals("new", reloaded.search(vectors.get("new"), 1, 100, null).getFirst().id());
+    }
+
+    private double averageRecall(HnswIndex index, Predicate<String> filter) {
+        double recallSum = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            float[] query = randomVector();
+            Set<String> expected = new HashSet<>(vectors.entrySet().stream()
+                                                        .filter(entry -> filter == null || filter.test(entry.getKey()))
+                                                        .sorted(Comparator.comparingDouble(entry -> -HnswIndex.similarity(query, entry.getValue())))
+                                                        .limit(K)
+                                                        .map(Map.Entry::getKey)
+                                                        .toList());
+            long found = index.search(query, K, 100, filter).stream().filter(scored -> expected.contains(scored.id())).count();
+            recallSum += (double) found / K;
+        }
+        return recallSum / queries;
+    }
+
+    private static boolean linksTo(HnswIndex.HnswNode node, String id) {
+        return Arrays.stream(node.neighbours()).flatMap(Arrays::stream).anyMatch(id::equals);
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -8,6 +9,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
@@ -134,6 +136,37 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfManyUnchangedEntriesReportsChangedEntryOnly() {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            originalEntries.add(new BibEntry(StandardEntryType.Article).withCitationKey("key" + i).withField(StandardField.TITLE, "Title " + i));
+            newEntries.add(new BibEntry(StandardEntryType.Article).withCitationKey("key" + i).withField(StandardField.TITLE, "Title " + i));
+        }
+        BibEntry changedEntry = newEntries.get(500).withField(StandardField.YEAR, "2020");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(originalEntries)),
+                new BibDatabaseContext(new BibDatabase(newEntries)));
+
+        assertEquals(List.of(new BibEntryDiff(originalEntries.get(500), changedEntry)), diff.getEntryDifferences());
+    }
+
+    @Test
+    void compareOfEntriesWithSameContentMatchesEachEntryOnce() {
+        BibEntry entry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+        BibEntry sameEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+        BibEntry addedEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(List.of(entry))),
+                new BibDatabaseContext(new BibDatabase(List.of(sameEntry, addedEntry))));
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertNull(diff.getEntryDifferences().getFirst().originalEntry());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(entryTwo)));
@@ -0,0 +1,197 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateCandidateFinderTest {
+
+    private static final List<String> WORDS = List.of("analysis", "of", "deep", "learning", "graph", "networks", "for", "citation",
+            "management", "towards", "scalable", "bibliographic", "data", "a", "survey", "on", "reference", "managers", "semantic",
+            "web", "quantum", "computing", "in", "practice", "evaluation", "retrieval", "information", "systems", "the", "role");
+    private static final List<String> SURNAMES = List.of("Smith", "Müller", "Garcia", "Nguyen", "Kowalski", "Rossi", "Tanaka", "Dubois",
+            "Johansson", "Papadopoulos", "O'Brien", "Novak", "Silva", "Schmidt", "Ivanov");
+
+    private DuplicateCheck duplicateCheck;
+    private DuplicateCandidateFinder finder;
+
+    @BeforeEach
+    void setUp() {
+        duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        finder = new DuplicateCandidateFinder(duplicateCheck);
+    }
+
+    @Test
+    void findsDuplicatesSharingOnlyAnIdentifier() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/ABC");
+        BibEntry second = new BibEntry(StandardEntryType.InProceedings)
+                .withField(StandardField.TITLE, "Completely different")
+                .withField(StandardField.DOI, "10.1000/abc");
+
+        assertEquals(Set.of(List.of(first, second)), findWithBlocking(List.of(first, second)));
+    }
+
+    @Test
+    void reportsGivenEntriesInsteadOfCopies() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/abc");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/abc");
+        List<BibEntry> reported = new ArrayList<>();
+
+        finder.findDuplicates(List.of(first, second), BibDatabaseMode.BIBTEX, (one, two) -> reported.addAll(List.of(one, two)));
+
+        assertEquals(2, reported.size());
+        assertSame(first, reported.getFirst());
+        assertSame(second, reported.getLast());
+    }
+
+    @Test
+    void findsDuplicatesWithTypoInTitle() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        BibEntry unrelated = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serios paper about somethin")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Set.of(List.of(first, second)), findWithBlocking(List.of(first, unrelated, second)));
+    }
+
+    @Test
+    void findsDuplicatesWithoutTitleAndAuthor() {
+        BibEntry first = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.HOWPUBLISHED, "Some website")
+                .withField(StandardField.NOTE, "Accessed today");
+        BibEntry unrelated = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.AUTHOR, "Someone Else")
+                .withField(StandardField.TITLE, "Something else");
+        BibEntry second = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.HOWPUBLISHED, "Some website")
+                .withField(StandardField.NOTE, "Accessed today");
+
+        assertEquals(findExhaustive(List.of(first, unrelated, second)), findWithBlocking(List.of(first, unrelated, second)));
+    }
+
+    @Test
+    void candidateIndexDoesNotPairUnrelatedEntries() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        BibEntry unrelated = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+
+        assertEquals(0, finder.buildIndex(List.of(first, unrelated)).getCandidates(0).length);
+    }
+
+    @Test
+    void recallMatchesExhaustiveSearchOnGeneratedLibrary() {
+        List<BibEntry> entries = generateLibrary(new Random(42), 300, 80);
+
+        Set<List<BibEntry>> expected = findExhaustive(entries);
+        Set<List<BibEntry>> actual = findWithBlocking(entries);
+
+        // Every reported pair is confirmed by DuplicateCheck, thus only the recall can be below 1
+        assertTrue(expected.containsAll(actual));
+        Set<List<BibEntry>> missed = new HashSet<>(expected);
+        missed.removeAll(actual);
+        double recall = 1.0 - ((double) missed.size() / expected.size());
+        assertTrue(recall >= 0.98, "Recall was " + recall + ", missed " + missed);
+    }
+
+    private Set<List<BibEntry>> findWithBlocking(List<BibEntry> entries) {
+        Set<List<BibEntry>> result = ConcurrentHashMap.newKeySet();
+        finder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> result.add(List.of(first, second)));
+        return result;
+    }
+
+    private Set<List<BibEntry>> findExhaustive(List<BibEntry> entries) {
+        Set<List<BibEntry>> result = new HashSet<>();
+        for (int i = 0; i < entries.size() - 1; i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    result.add(List.of(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /// Generates random articles and appends slightly modified copies of some of them
+    private static List<BibEntry> generateLibrary(Random random, int numberOfEntries, int numberOfDuplicates) {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, randomWord(random, SURNAMES) + ", A. and " + randomWord(random, SURNAMES) + ", B.")
+                    .withField(StandardField.TITLE, randomTitle(random))
+                    .withField(StandardField.JOURNAL, "Journal of " + randomWord(random, WORDS))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + random.nextInt(30)));
+            if (random.nextInt(5) == 0) {
+                entry.setField(StandardField.DOI, "10.1000/" + i);
+            }
+            entries.add(entry);
+        }
+        for (int i = 0; i < numberOfDuplicates; i++) {
+            BibEntry copy = new BibEntry(entries.get(random.nextInt(numberOfEntries)));
+            switch (random.nextInt(4)) {
+                case 0 ->
+                        copy.setField(StandardField.TITLE, introduceTypo(random, copy.getField(StandardField.TITLE).orElseThrow()));
+                case 1 ->
+                        copy.setField(StandardField.TITLE, "{" + copy.getField(StandardField.TITLE).orElseThrow().toUpperCase() + "}");
+                case 2 ->
+                        copy.clearField(StandardField.YEAR);
+                default ->
+                        copy.setField(StandardField.PAGES, "1--10");
+            }
+            entries.add(copy);
+        }
+        return entries;
+    }
+
+    private static String randomTitle(Random random) {
+        List<String> words = new ArrayList<>();
+        int length = 4 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            words.add(randomWord(random, WORDS));
+        }
+        return String.join(" ", words);
+    }
+
+    private static String randomWord(Random random, List<String> words) {
+        return words.get(random.nextInt(words.size()));
+    }
+
+    private static String introduceTypo(Random random, String text) {
+        int position = random.nextInt(text.length());
+        return text.substring(0, position) + text.substring(position + 1);
+    }
+}
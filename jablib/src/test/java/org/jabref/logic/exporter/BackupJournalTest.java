@@ -0,0 +1,180 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.JabRefException;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BackupJournalTest {
+
+    private static final String LIBRARY = """
+            @String{journal = {Journal of Something}}
+
+            @Article{first,
+              author = {First Author},
+              title  = {First Title},
+            }
+
+            @Book{second,
+              author    = {Second Author},
+              publisher = {Some Publisher},
+            }
+
+            @Misc{third,
+              note = {some note},
+            }
+            """;
+
+    private final FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false)
+            .withKeepEntriesUnchanged(true);
+
+    @TempDir
+    private Path tempDir;
+
+    private Path backupPath;
+    private BibDatabaseContext context;
+
+    @BeforeEach
+    void setUp() throws JabRefException {
+        backupPath = tempDir.resolve("library.bib.bak");
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        context = BibDatabaseContext.of(LIBRARY, importFormatPreferences);
+    }
+
+    private BackupJournal writeFullBackup() throws IOException {
+        return BackupJournal.writeFullBackup(backupPath, context, saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+    }
+
+    private String restore() throws IOException {
+        return new String(BackupJournal.restore(backupPath), StandardCharsets.UTF_8);
+    }
+
+    private String writeCompletely() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibDatabaseWriter(new BibWriter(stringWriter, context.getDatabase().getNewLineSeparator()), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .writeDatabase(context);
+        return stringWriter.toString();
+    }
+
+    private BibEntry getEntry(String citationKey) {
+        return context.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+    }
+
+    @Test
+    void restoreWithoutJournalReturnsFullBackup() throws IOException {
+        writeFullBackup();
+
+        assertEquals(writeCompletely(), restore());
+    }
+
+    @Test
+    void restoreAppliesJournal() throws IOException {
+        BackupJournal journal = writeFullBackup();
+
+        BibEntry second = getEntry("second");
+        second.setField(StandardField.YEAR, "2020");
+        BibEntry first = getEntry("first");
+        context.getDatabase().removeEntry(first);
+        BibEntry fourth = new BibEntry().withCitationKey("fourth").withField(StandardField.TITLE, "Fourth Title").withChanged(true);
+        context.getDatabase().insertEntry(fourth);
+        journal.append(List.of(second, fourth), List.of(first.getId()), context);
+
+        getEntry("third").setField(StandardField.NOTE, "other note");
+        journal.append(List.of(getEntry("third")), List.of(), context);
+
+        assertEquals(3, journal.getRecordCount());
+        assertEquals(writeCompletely(), restore());
+    }
+
+    @Test
+    void entryAddedAndRemovedAgainIsNotRestored() throws IOException {
+        BackupJournal journal = writeFullBackup();
+        String expected = writeCompletely();
+
+        BibEntry fourth = new BibEntry().withCitationKey("fourth").withChanged(true);
+        journal.append(List.of(fourth), List.of(), context);
+        journal.append(List.of(), List.of(fourth.getId()), context);
+
+        assertEquals(expected, restore());
+    }
+
+    @Test
+    void incompleteRecordIsIgnored() throws IOException {
+        BackupJournal journal = writeFullBackup();
+        BibEntry second = getEntry("second");
+        second.setField(StandardField.YEAR, "2020");
+        journal.append(List.of(second), List.of(), context);
+        String expected = writeCompletely();
+
+        Files.writeString(BackupJournal.getJournalPath(backupPath), "put " + second.getId() + " 0 10 100\n@Book{", StandardOpenOption.APPEND);
+
+        assertEquals(expected, restore());
+    }
+
+    @Test
+    void entriesAreNotChangedByBackup() throws IOException {
+        BibEntry third = getEntry("third");
+        third.setField(StandardField.NOTE, "  some   note ");
+        BackupJournal journal = writeFullBackup();
+        journal.append(List.of(third), List.of(), context);
+
+        assertEquals(Optional.of("  some   note "), third.getField(StandardField.NOTE));
+    }
+
+    @Test
+    void restoredDiffersComparesWithJournalApplied() throws IOException {
+        BackupJournal journal = writeFullBackup();
+        BibEntry second = getEntry("second");
+        second.setField(StandardField.YEAR, "2020");
+        journal.append(List.of(second), List.of(), context);
+        Path library = tempDir.resolve("library.bib");
+
+        Files.writeString(library, writeCompletely());
+        assertFalse(BackupJournal.restoredDiffers(backupPath, library));
+
+        Files.writeString(library, writeCompletely() + "\n");
+        assertTrue(BackupJournal.restoredDiffers(backupPath, library));
+    }
+
+    @Test
+    void consolidateWritesJournalIntoBackupFile() throws IOException {
+        BackupJournal journal = writeFullBackup();
+        BibEntry second = getEntry("second");
+        second.setField(StandardField.YEAR, "2020");
+        journal.append(List.of(second), List.of(), context);
+
+        BackupJournal.consolidate(backupPath);
+
+        assertFalse(Files.exists(BackupJournal.getJournalPath(backupPath)));
+        assertEquals(writeCompletely(), Files.readString(backupPath));
+    }
+}
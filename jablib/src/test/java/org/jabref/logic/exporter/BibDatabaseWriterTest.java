@@ -167,6 +167,34 @@ class BibDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void writeManyEntriesInParallelKeepsOrder() throws IOException {
+        database.setPreamble("Test preamble");
+        for (int i = 0; i < 2000; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withChanged(true));
+        }
+        StringWriter sequentialOutput = new StringWriter();
+        BibDatabaseWriter sequentialWriter = new BibDatabaseWriter(
+                new BibWriter(sequentialOutput, OS.NEWLINE),
+                saveConfiguration,
+                fieldPreferences,
+                citationKeyPatternPreferences,
+                entryTypesManager) {
+            @Override
+            protected void writeFormattedEntry(BibEntry entry, String formattedEntry) throws IOException {
+                writeEntry(entry, bibtexContext.getMode());
+            }
+        };
+        sequentialWriter.writeDatabase(bibtexContext);
+
+        databaseWriter.writeDatabase(bibtexContext);
+
+        assertEquals(sequentialOutput.toString(), stringWriter.toString());
+    }
+
     @Test
     void writeEntryWithDuplicateKeywords() throws IOException {
         BibEntry entry = new BibEntry();
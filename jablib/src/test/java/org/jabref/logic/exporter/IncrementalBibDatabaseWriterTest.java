@@ -0,0 +1,159 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.jabref.logic.JabRefException;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalBibDatabaseWriterTest {
+
+    private static final String LIBRARY = """
+            @String{journal = {Journal of Something}}
+
+            @Article{first,
+              author = {First Author},
+              title  = {First Title},
+            }
+
+            @Book{second,
+              author    = {Second Author},
+              publisher = {Some Publisher},
+            }
+
+            @Misc{third,
+              note = {  some   note },
+            }
+            """;
+
+    private final FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final BibFileLayout fileLayout = new BibFileLayout();
+    private final SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+    private BibDatabaseContext context;
+
+    @BeforeEach
+    void setUp() throws JabRefException {
+        file = tempDir.resolve("library.bib");
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        context = BibDatabaseContext.of(LIBRARY, importFormatPreferences);
+    }
+
+    private String writeIncrementally(SelfContainedSaveConfiguration configuration) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            new IncrementalBibDatabaseWriter(fileWriter, "\n", fileLayout, configuration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                    .writeDatabase(context);
+        }
+        fileLayout.confirm();
+        return Files.readString(file);
+    }
+
+    private String writeCompletely() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibDatabaseWriter(new BibWriter(stringWriter, "\n"), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .writeDatabase(context);
+        return stringWriter.toString();
+    }
+
+    private BibEntry getEntry(String citationKey) {
+        return context.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+    }
+
+    @Test
+    void firstWriteEqualsCompleteWrite() throws IOException {
+        assertEquals(writeCompletely(), writeIncrementally(saveConfiguration));
+    }
+
+    @Test
+    void writeAfterChangesEqualsCompleteWrite() throws IOException {
+        writeIncrementally(saveConfiguration);
+
+        getEntry("second").setField(StandardField.YEAR, "2020");
+        context.getDatabase().removeEntry(getEntry("first"));
+        context.getDatabase().insertEntry(new BibEntry().withCitationKey("fourth").withField(StandardField.TITLE, "Fourth Title").withChanged(true));
+        String written = writeIncrementally(saveConfiguration);
+        assertEquals(writeCompletely(), written);
+
+        getEntry("third").setField(StandardField.NOTE, "other note");
+        assertEquals(writeCompletely(), writeIncrementally(saveConfiguration));
+    }
+
+    @Test
+    void unchangedEntriesAreCopiedFromPreviousFile() throws IOException {
+        writeIncrementally(saveConfiguration);
+        // Change the file without changing its size or modification time, so that the copied bytes can be told apart
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, Files.readString(file).replace("First Author", "First Editor"));
+        Files.setLastModifiedTime(file, lastModified);
+
+        getEntry("second").setField(StandardField.YEAR, "2020");
+
+        assertEquals(writeCompletely().replace("First Author", "First Editor"), writeIncrementally(saveConfiguration));
+    }
+
+    @Test
+    void largeLibraryIsFormattedInParallelAndCopied() throws IOException {
+        for (int i = 0; i < 2000; i++) {
+            context.getDatabase().insertEntry(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "Title " + i).withChanged(true));
+        }
+        assertEquals(writeCompletely(), writeIncrementally(saveConfiguration));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, Files.readString(file).replace("First Author", "First Editor"));
+        Files.setLastModifiedTime(file, lastModified);
+
+        getEntry("key10").setField(StandardField.YEAR, "2020");
+
+        assertEquals(writeCompletely().replace("First Author", "First Editor"), writeIncrementally(saveConfiguration));
+    }
+
+    @Test
+    void fileChangedByAnotherProgramIsWrittenCompletely() throws IOException {
+        writeIncrementally(saveConfiguration);
+        Files.writeString(file, "@Misc{other}\n");
+
+        getEntry("second").setField(StandardField.YEAR, "2020");
+
+        assertEquals(writeCompletely(), writeIncrementally(saveConfiguration));
+    }
+
+    @Test
+    void reformattingWritesAllEntries() throws IOException {
+        writeIncrementally(saveConfiguration);
+        SelfContainedSaveConfiguration reformatConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, true);
+
+        String written = writeIncrementally(reformatConfiguration);
+
+        StringWriter stringWriter = new StringWriter();
+        new BibDatabaseWriter(new BibWriter(stringWriter, "\n"), reformatConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .writeDatabase(context);
+        assertEquals(stringWriter.toString(), written);
+    }
+}
@@ -56,6 +56,7 @@ import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.groups.WordKeywordGroup;
+import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.UserHostInfo;
 
@@ -339,6 +340,59 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseListenerReceivesPartsInOrderOfFile() throws IOException {
+        List<String> events = new ArrayList<>();
+        BibtexParser.ParseListener listener = new BibtexParser.ParseListener() {
+            @Override
+            public void entryParsed(BibEntry entry) {
+                events.add("entry " + entry.getCitationKey().orElseThrow());
+            }
+
+            @Override
+            public void stringParsed(BibtexString string) {
+                events.add("string " + string.getName());
+            }
+
+            @Override
+            public void metaDataParsed(MetaData metaData) {
+                events.add("metadata " + metaData.getMode().orElseThrow());
+            }
+        };
+
+        ParserResult result = parser.parse(Reader.of("""
+                @article{first, author = {Author}}
+                @string{jabref = {JabRef}}
+                @book{second, publisher = jabref}
+                @comment{jabref-meta: databaseType:biblatex;}
+                """), listener);
+
+        assertEquals(List.of("entry first", "string jabref", "entry second", "metadata BIBLATEX"), events);
+        assertEquals(2, result.getDatabase().getEntryCount());
+    }
+
+    @Test
+    void parseEntriesSpanningSeveralInputBuffers() throws IOException {
+        StringBuilder bibtex = new StringBuilder();
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String entry = "@article{key" + i + "," + OS.NEWLINE
+                    + "  author = {Author " + i + "}," + OS.NEWLINE
+                    + "  title = {A title with {nested} braces and \\} backslashes}," + OS.NEWLINE
+                    + "}" + OS.NEWLINE;
+            entries.add(entry);
+            bibtex.append(entry);
+        }
+
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(bibtex)).getDatabase().getEntries();
+
+        assertEquals(entries.size(), parsedEntries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("key" + i), parsedEntries.get(i).getCitationKey());
+            assertEquals(entries.get(i), parsedEntries.get(i).getParsedSerialization());
+        }
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
@@ -0,0 +1,92 @@
+package org.jabref.logic.journals;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalNameFuzzyIndexTest {
+
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @CsvSource({
+            "kitten, sitting, 3",
+            "journal of physics, journal of physics, 0",
+            "journal of physics, jounral of physic, 3",
+            "a, abcdefgh, 7",
+            "'', abc, 3"
+    })
+    void boundedEditDistanceMatchesLevenshtein(String first, String second, int expected) {
+        assertEquals(expected, JournalNameFuzzyIndex.boundedEditDistance(first, second, 10));
+        assertEquals(Math.min(expected, 3), JournalNameFuzzyIndex.boundedEditDistance(first, second, 2));
+    }
+
+    @Test
+    void findsMisspelledName() {
+        Abbreviation physics = new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.");
+        Abbreviation chemistry = new Abbreviation("Journal of Physical Chemistry", "J. Phys. Chem.");
+        JournalNameFuzzyIndex index = new JournalNameFuzzyIndex(List.of(physics, chemistry));
+
+        assertEquals(List.of(new JournalNameFuzzyIndex.Match(physics, 2)), index.findWithinDistance("physical reveiw letters", 4));
+    }
+
+    @Test
+    void findsSameCandidatesAsExhaustiveComparison() {
+        Random random = new Random(7);
+        List<Abbreviation> abbreviations = IntStream.range(0, 500)
+                                                    .mapToObj(_ -> randomName(random))
+                                                    .distinct()
+                                                    .map(name -> new Abbreviation(name, name.substring(0, 3)))
+                                                    .toList();
+        JournalNameFuzzyIndex index = new JournalNameFuzzyIndex(abbreviations);
+
+        for (int i = 0; i < 200; i++) {
+            String query = mutate(random, abbreviations.get(random.nextInt(abbreviations.size())).getName());
+            List<Abbreviation> expected = abbreviations.stream()
+                                                       .filter(abbreviation -> similarity.isSimilar(query, abbreviation.getName()))
+                                                       .toList();
+            List<Abbreviation> actual = index.findWithinDistance(query, 4).stream()
+                                             .map(JournalNameFuzzyIndex.Match::abbreviation)
+                                             .toList();
+
+            assertEquals(expected.size(), actual.size(), "Query: " + query);
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual), "Query: " + query);
+        }
+    }
+
+    private static String randomName(Random random) {
+        String[] words = {"Journal", "of", "Applied", "Physics", "Chemistry", "Review", "Letters", "International", "Research", "Materials", "Science"};
+        int length = 2 + random.nextInt(4);
+        StringBuilder name = new StringBuilder(words[random.nextInt(words.length)]);
+        for (int i = 1; i < length; i++) {
+            name.append(' ').append(words[random.nextInt(words.length)]);
+        }
+        return name.toString();
+    }
+
+    private static String mutate(Random random, String name) {
+        StringBuilder mutated = new StringBuilder(name);
+        int edits = random.nextInt(7);
+        for (int i = 0; (i < edits) && (mutated.length() > 1); i++) {
+            int position = random.nextInt(mutated.length());
+            switch (random.nextInt(3)) {
+                case 0 ->
+                        mutated.deleteCharAt(position);
+                case 1 ->
+                        mutated.insert(position, (char) ('a' + random.nextInt(26)));
+                default ->
+                        mutated.setCharAt(position, Character.toUpperCase(mutated.charAt(position)));
+            }
+        }
+        return mutated.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfTextCacheTest {
+
+    private static final Path MINIMAL_PDF = Path.of("src/test/resources/pdfs/minimal.pdf");
+    private static final Path THESIS_PDF = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+
+    @TempDir Path tempDir;
+
+    @Test
+    void cachedTextIsReturnedWithoutReadingThePdf() throws Exception {
+        PdfTextCache cache = new PdfTextCache(tempDir.resolve("cache"), Long.MAX_VALUE);
+        List<PdfTextCache.Page> pages = cache.getPages(MINIMAL_PDF, () -> false).orElseThrow();
+
+        // Reading the PDF would stop immediately, thus a result can only come from the cache
+        assertEquals(Optional.of(pages), cache.getPages(MINIMAL_PDF, () -> true));
+        assertTrue(pages.getFirst().text().contains("Hello World"));
+    }
+
+    @Test
+    void copyOfFileUsesCachedText() throws Exception {
+        PdfTextCache cache = new PdfTextCache(tempDir.resolve("cache"), Long.MAX_VALUE);
+        List<PdfTextCache.Page> pages = cache.getPages(MINIMAL_PDF, () -> false).orElseThrow();
+        Path copy = Files.copy(MINIMAL_PDF, tempDir.resolve("copy.pdf"));
+
+        assertEquals(Optional.of(pages), cache.getPages(copy, () -> true));
+    }
+
+    @Test
+    void stoppedReadingIsNotCached() throws Exception {
+        Path cacheDirectory = tempDir.resolve("cache");
+        PdfTextCache cache = new PdfTextCache(cacheDirectory, Long.MAX_VALUE);
+
+        assertEquals(Optional.empty(), cache.getPages(THESIS_PDF, () -> true));
+        assertEquals(0, countFiles(cacheDirectory));
+    }
+
+    @Test
+    void leastRecentlyUsedTextIsEvicted() throws Exception {
+        Path cacheDirectory = tempDir.resolve("cache");
+        new PdfTextCache(cacheDirectory, Long.MAX_VALUE).getPages(MINIMAL_PDF, () -> false);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            Files.setLastModifiedTime(files.findFirst().orElseThrow(), FileTime.fromMillis(0));
+        }
+
+        PdfTextCache cache = new PdfTextCache(cacheDirectory, 1024);
+        cache.getPages(THESIS_PDF, () -> false);
+
+        assertEquals(Optional.empty(), cache.getPages(MINIMAL_PDF, () -> true));
+    }
+
+    private static long countFiles(Path directory) throws Exception {
+        if (!Files.exists(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
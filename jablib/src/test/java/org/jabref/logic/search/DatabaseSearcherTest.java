@@ -55,6 +55,9 @@ public class DatabaseSearcherTest {
 
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(false);
         when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(mock(BooleanProperty.class));
+        when(filePreferences.getFulltextIndexWorkers()).thenReturn(1);
+        when(filePreferences.getFulltextIndexTimeoutPerFile()).thenReturn(120);
+        when(filePreferences.getFulltextIndexMaxMainMemoryPerFile()).thenReturn(64);
         databaseContext = spy(new BibDatabaseContext());
         when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
 
@@ -109,6 +109,9 @@ class DatabaseSearcherWithBibFilesTest {
         when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(true));
+        when(filePreferences.getFulltextIndexWorkers()).thenReturn(1);
+        when(filePreferences.getFulltextIndexTimeoutPerFile()).thenReturn(120);
+        when(filePreferences.getFulltextIndexMaxMainMemoryPerFile()).thenReturn(64);
 
         when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
@@ -0,0 +1,68 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryDatabaseSearcherTest {
+
+    private final BibEntry first = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("first")
+            .withField(StandardField.AUTHOR, "Smith, John and Doe, Jane")
+            .withField(StandardField.TITLE, "Chocolate and Health")
+            .withField(StandardField.KEYWORDS, "cocoa, health");
+    private final BibEntry second = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("second")
+            .withField(StandardField.AUTHOR, "Miller, Anna")
+            .withField(StandardField.TITLE, "Coffee")
+            .withField(StandardField.YEAR, "2020");
+    private final BibEntry empty = new BibEntry();
+
+    private InMemoryDatabaseSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        searcher = new InMemoryDatabaseSearcher(new BibDatabase(List.of(first, second, empty)), bibEntryPreferences);
+    }
+
+    @Test
+    void searchAnyField() {
+        assertEquals(List.of(second), searcher.getMatches(new SearchQuery("coffee")));
+    }
+
+    @Test
+    void searchField() {
+        assertEquals(List.of(first), searcher.getMatches(new SearchQuery("author = Doe")));
+        assertEquals(List.of(second), searcher.getMatches(new SearchQuery("year = 2020")));
+    }
+
+    @Test
+    void searchKeyword() {
+        assertEquals(List.of(first), searcher.getMatches(new SearchQuery("keywords == cocoa")));
+    }
+
+    @Test
+    void searchCombination() {
+        assertEquals(List.of(first, second), searcher.getMatches(new SearchQuery("title = chocolate OR title = coffee")));
+        assertEquals(List.of(second), searcher.getMatches(new SearchQuery("NOT title = chocolate")));
+    }
+
+    @Test
+    void invalidQueryMatchesNothing() {
+        assertEquals(List.of(), searcher.getMatches(new SearchQuery("title = (")));
+    }
+}
@@ -2,8 +2,13 @@ package org.jabref.logic.search;
 
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.stream.IntStream;
 
 import javafx.beans.property.SimpleBooleanProperty;
 
@@ -17,6 +22,12 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.groups.SearchGroupMatchDelta;
+import org.jabref.model.search.SearchFlags;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +37,7 @@ import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -53,6 +65,9 @@ class IndexManagerTest {
         when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
         when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+        when(filePreferences.getFulltextIndexWorkers()).thenReturn(1);
+        when(filePreferences.getFulltextIndexTimeoutPerFile()).thenReturn(120);
+        when(filePreferences.getFulltextIndexMaxMainMemoryPerFile()).thenReturn(64);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
 
         databaseContext = spy(new BibDatabaseContext());
@@ -87,6 +102,57 @@ class IndexManagerTest {
         assertTrue(scheduledTaskAfterClose == null || scheduledTaskAfterClose.isCancelled());
     }
 
+    @Test
+    void addToIndexUpdatesAllSearchGroupsForManyEntries() {
+        SearchGroup smithGroup = new SearchGroup("smith", GroupHierarchyType.INDEPENDENT, "author = smith", EnumSet.noneOf(SearchFlags.class));
+        SearchGroup yearGroup = new SearchGroup("year", GroupHierarchyType.INDEPENDENT, "year = 2020", EnumSet.noneOf(SearchFlags.class));
+        SearchGroup invalidGroup = new SearchGroup("invalid", GroupHierarchyType.INDEPENDENT, "author = (", EnumSet.noneOf(SearchFlags.class));
+        setSearchGroups(smithGroup, yearGroup, invalidGroup);
+        IndexManager indexManager = new IndexManager(databaseContext, TASK_EXECUTOR, preferences, postgreServer);
+
+        // More entries than matched in memory
+        List<BibEntry> entries = IntStream.range(0, 100)
+                                          .mapToObj(i -> new BibEntry()
+                                                  .withField(StandardField.AUTHOR, i % 2 == 0 ? "Smith, John" : "Doe, Jane")
+                                                  .withField(StandardField.YEAR, i % 5 == 0 ? "2020" : "2021"))
+                                          .toList();
+        entries.forEach(databaseContext.getDatabase()::insertEntry);
+        indexManager.addToIndex(entries);
+
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i % 2 == 0, smithGroup.contains(entries.get(i)));
+            assertEquals(i % 5 == 0, yearGroup.contains(entries.get(i)));
+            assertFalse(invalidGroup.contains(entries.get(i)));
+        }
+        indexManager.closeAndWait();
+    }
+
+    @Test
+    void updateSearchGroupsReturnsDeltaOfChangedEntry() {
+        SearchGroup smithGroup = new SearchGroup("smith", GroupHierarchyType.INDEPENDENT, "author = smith", EnumSet.noneOf(SearchFlags.class));
+        SearchGroup doeGroup = new SearchGroup("doe", GroupHierarchyType.INDEPENDENT, "author = doe", EnumSet.noneOf(SearchFlags.class));
+        setSearchGroups(smithGroup, doeGroup);
+        BibEntry entry = new BibEntry().withField(StandardField.AUTHOR, "Smith, John");
+        databaseContext.getDatabase().insertEntry(entry);
+        IndexManager indexManager = new IndexManager(databaseContext, TASK_EXECUTOR, preferences, postgreServer);
+        indexManager.updateSearchGroups(List.of(entry));
+
+        entry.setField(StandardField.AUTHOR, "Doe, Jane");
+        Map<SearchGroup, SearchGroupMatchDelta> deltas = indexManager.updateSearchGroups(List.of(entry));
+
+        assertEquals(new SearchGroupMatchDelta(Set.of(), Set.of(entry.getId())), deltas.get(smithGroup));
+        assertEquals(new SearchGroupMatchDelta(Set.of(entry.getId()), Set.of()), deltas.get(doeGroup));
+        indexManager.closeAndWait();
+    }
+
+    private void setSearchGroups(SearchGroup... searchGroups) {
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        for (SearchGroup searchGroup : searchGroups) {
+            root.addSubgroup(searchGroup);
+        }
+        databaseContext.getMetaData().setGroups(root);
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T getPrivateField(Object object, String fieldName, Class<T> expectedType) throws Exception {
         Field field = object.getClass().getDeclaredField(fieldName);
@@ -0,0 +1,104 @@
+package org.jabref.logic.search.indexing;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class BibFieldsIndexCacheTest {
+
+    private static final BibFieldsIndexCache.CachedRows ROWS = new BibFieldsIndexCache.CachedRows(
+            List.of("title", "Some {Title}", "Some Title"),
+            List.of("author", "John Doe", "John Doe"));
+
+    @TempDir Path tempDir;
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("key")
+            .withField(StandardField.TITLE, "Some {Title}")
+            .withField(StandardField.AUTHOR, "Doe, John");
+    private final BibDatabase database = new BibDatabase(List.of(entry));
+
+    @Test
+    void rowsAreReusedAfterReopening() {
+        Path path = tempDir.resolve("cache.mv");
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            cache.put(cache.getFingerprint(entry), ROWS);
+        }
+
+        // The entry id is not part of the fingerprint, thus a freshly parsed copy is found
+        BibEntry reparsedEntry = new BibEntry(entry);
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            assertEquals(Optional.of(ROWS), cache.get(cache.getFingerprint(reparsedEntry)));
+        }
+    }
+
+    @Test
+    void fingerprintChangesWithFieldValue() {
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(tempDir.resolve("cache.mv"), database, ',').orElseThrow()) {
+            String fingerprint = cache.getFingerprint(entry);
+            entry.setField(StandardField.TITLE, "Other title");
+
+            assertNotEquals(fingerprint, cache.getFingerprint(entry));
+        }
+    }
+
+    @Test
+    void fingerprintChangesWithCrossReferencedEntry() {
+        BibEntry parent = new BibEntry(StandardEntryType.Proceedings)
+                .withCitationKey("parent")
+                .withField(StandardField.TITLE, "Proceedings");
+        database.insertEntry(parent);
+        entry.setField(StandardField.CROSSREF, "parent");
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(tempDir.resolve("cache.mv"), database, ',').orElseThrow()) {
+            String fingerprint = cache.getFingerprint(entry);
+            parent.setField(StandardField.TITLE, "Other proceedings");
+
+            assertNotEquals(fingerprint, cache.getFingerprint(entry));
+        }
+    }
+
+    @Test
+    void changedStringConstantsDiscardCache() {
+        Path path = tempDir.resolve("cache.mv");
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            cache.put(cache.getFingerprint(entry), ROWS);
+        }
+
+        database.addString(new BibtexString("jabref", "JabRef"));
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            assertEquals(Optional.empty(), cache.get(cache.getFingerprint(entry)));
+        }
+    }
+
+    @Test
+    void removeUnusedDropsRowsOfRemovedEntries() {
+        Path path = tempDir.resolve("cache.mv");
+        BibEntry removedEntry = new BibEntry(StandardEntryType.Book).withCitationKey("removed");
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            cache.put(cache.getFingerprint(entry), ROWS);
+            cache.put(cache.getFingerprint(removedEntry), ROWS);
+        }
+
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            cache.get(cache.getFingerprint(entry));
+            cache.removeUnused();
+        }
+
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(path, database, ',').orElseThrow()) {
+            assertEquals(Optional.of(ROWS), cache.get(cache.getFingerprint(entry)));
+            assertEquals(Optional.empty(), cache.get(cache.getFingerprint(removedEntry)));
+        }
+    }
+}
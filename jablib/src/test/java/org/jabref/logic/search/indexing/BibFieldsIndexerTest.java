@@ -1,22 +1,29 @@
 package org.jabref.logic.search.indexing;
 
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.search.PostgreConstants;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
@@ -33,6 +40,13 @@ public class BibFieldsIndexerTest {
 
     private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
 
+    private final BackgroundTask<?> dummyTask = new BackgroundTask<>() {
+        @Override
+        public Object call() {
+            return null;
+        }
+    };
+
     @BeforeEach
     void setUp() {
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
@@ -50,7 +64,7 @@ public class BibFieldsIndexerTest {
     void addToIndexIsIdempotentForSameEntry() throws Exception {
         BibDatabaseContext databaseContext = new BibDatabaseContext();
         Connection connection = postgreServer.getConnection();
-        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, connection);
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
 
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.withCitationKey("https://doi.org/10.48550/arxiv.2405.02318");
@@ -58,12 +72,6 @@ public class BibFieldsIndexerTest {
         entry.withField(StandardField.AUTHOR, "Doe, John");
         entry.withField(StandardField.GROUPS, "Imported entries, Other");
 
-        BackgroundTask<?> dummyTask = new BackgroundTask<>() {
-            @Override
-            public Object call() {
-                return null;
-            }
-        };
 
         // Index the same entry twice - this used to throw due to a duplicate key on (entryid, field_name)
         indexer.addToIndex(List.of(entry), dummyTask);
@@ -96,4 +104,136 @@ public class BibFieldsIndexerTest {
         // Cleanup resources gracefully
         indexer.closeAndWait();
     }
+
+    @Test
+    void bulkLoadStoresSameRowsAsInsertingEntriesOneByOne() throws Exception {
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("first")
+                        .withField(StandardField.TITLE, "Title with {\\LaTeX} and a\ttab")
+                        .withField(StandardField.AUTHOR, "Doe, John and M{\\\"u}ller, Hans")
+                        .withField(StandardField.KEYWORDS, "one, two")
+                        .withField(StandardField.YEAR, "2024"),
+                new BibEntry(StandardEntryType.Book)
+                        .withCitationKey("second")
+                        .withField(StandardField.ABSTRACT, "Line one\r\nLine two \\ backslash")
+                        .withField(StandardField.GROUPS, "Imported entries, Other")
+                        .withField(new UnknownField("custom"), ""));
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(entries));
+        Connection connection = postgreServer.getConnection();
+        BibFieldsIndexer bulkIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
+        BibFieldsIndexer singleIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
+
+        bulkIndexer.updateOnStart(dummyTask);
+        singleIndexer.addToIndex(entries, dummyTask);
+
+        assertEquals(readRows(connection, PostgreConstants.getMainTableSchemaReference(singleIndexer.getTable())),
+                readRows(connection, PostgreConstants.getMainTableSchemaReference(bulkIndexer.getTable())));
+        assertEquals(readRows(connection, PostgreConstants.getSplitTableSchemaReference(singleIndexer.getTable())),
+                readRows(connection, PostgreConstants.getSplitTableSchemaReference(bulkIndexer.getTable())));
+
+        bulkIndexer.closeAndWait();
+        singleIndexer.closeAndWait();
+    }
+
+    @Test
+    void cachedRowsAreReusedOnNextStart(@TempDir Path tempDir) throws Exception {
+        BibEntry unchanged = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("unchanged")
+                .withField(StandardField.TITLE, "Title");
+        BibEntry changed = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("changed")
+                .withField(StandardField.TITLE, "Old title");
+        BibDatabase database = new BibDatabase(List.of(unchanged, changed));
+        Path cachePath = tempDir.resolve("index.mv");
+        BibFieldsIndexer previousSession = new BibFieldsIndexer(bibEntryPreferences, new BibDatabaseContext(database), postgreServer, Optional.of(cachePath));
+        previousSession.updateOnStart(dummyTask);
+        previousSession.closeAndWait();
+
+        // Rows differing from the ones computed from the entry show whether the cached rows are used
+        try (BibFieldsIndexCache cache = BibFieldsIndexCache.open(cachePath, database, ',').orElseThrow()) {
+            String fingerprint = cache.getFingerprint(unchanged);
+            BibFieldsIndexCache.CachedRows rows = cache.get(fingerprint).orElseThrow();
+            List<String> mainTableRows = rows.mainTableRows().stream()
+                                             .map(value -> "Title".equals(value) ? "Cached title" : value)
+                                             .toList();
+            cache.put(fingerprint, new BibFieldsIndexCache.CachedRows(mainTableRows, rows.splitTableRows()));
+        }
+
+        changed.setField(StandardField.TITLE, "New title");
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, new BibDatabaseContext(database), postgreServer, Optional.of(cachePath));
+        indexer.updateOnStart(dummyTask);
+
+        Connection queryConnection = postgreServer.getConnection();
+        assertEquals(Optional.of("Cached title"), readValue(queryConnection, indexer.getTable(), unchanged, StandardField.TITLE));
+        assertEquals(Optional.of("New title"), readValue(queryConnection, indexer.getTable(), changed, StandardField.TITLE));
+
+        indexer.closeAndWait();
+        queryConnection.close();
+    }
+
+    @Test
+    void indexCreatedFromCacheEqualsIndexCreatedWithoutCache(@TempDir Path tempDir) throws Exception {
+        BibEntry unchanged = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("unchanged")
+                .withField(StandardField.TITLE, "Title with {\\LaTeX}")
+                .withField(StandardField.AUTHOR, "Doe, John");
+        BibEntry changed = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("changed")
+                .withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(unchanged, changed)));
+        Optional<Path> cachePath = Optional.of(tempDir.resolve("index.mv"));
+        BibFieldsIndexer previousSession = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer, cachePath);
+        previousSession.updateOnStart(dummyTask);
+        previousSession.closeAndWait();
+
+        changed.setField(StandardField.TITLE, "New title");
+        BibFieldsIndexer cachedIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer, cachePath);
+        BibFieldsIndexer uncachedIndexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer, Optional.empty());
+        cachedIndexer.updateOnStart(dummyTask);
+        uncachedIndexer.updateOnStart(dummyTask);
+
+        Connection queryConnection = postgreServer.getConnection();
+        assertEquals(readRows(queryConnection, PostgreConstants.getMainTableSchemaReference(uncachedIndexer.getTable())),
+                readRows(queryConnection, PostgreConstants.getMainTableSchemaReference(cachedIndexer.getTable())));
+        assertEquals(readRows(queryConnection, PostgreConstants.getSplitTableSchemaReference(uncachedIndexer.getTable())),
+                readRows(queryConnection, PostgreConstants.getSplitTableSchemaReference(cachedIndexer.getTable())));
+
+        cachedIndexer.closeAndWait();
+        uncachedIndexer.closeAndWait();
+        queryConnection.close();
+    }
+
+    @Test
+    void copyRowsEscapesSpecialCharacters() {
+        BibFieldsIndexer.CopyRows rows = new BibFieldsIndexer.CopyRows();
+
+        rows.add("id", StandardField.TITLE, "a\tb\\c", "d\re\nf");
+
+        assertEquals("id\ttitle\ta\\tb\\\\c\td\\re\\nf\n", rows.toString());
+    }
+
+    private static Optional<String> readValue(Connection connection, String table, BibEntry entry, Field field) throws Exception {
+        String sql = "SELECT \"" + PostgreConstants.FIELD_VALUE_LITERAL + "\" FROM " + PostgreConstants.getMainTableSchemaReference(table)
+                + " WHERE \"" + PostgreConstants.ENTRY_ID + "\" = ? AND \"" + PostgreConstants.FIELD_NAME + "\" = ?";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, entry.getId());
+            ps.setString(2, field.getName());
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Optional.of(rs.getString(1)) : Optional.empty();
+            }
+        }
+    }
+
+    private static List<String> readRows(Connection connection, String tableReference) throws Exception {
+        List<String> rows = new ArrayList<>();
+        String sql = "SELECT * FROM " + tableReference + " ORDER BY 1, 2, 3, 4";
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rows.add(List.of(rs.getString(1), rs.getString(2), String.valueOf(rs.getString(3)), String.valueOf(rs.getString(4))).toString());
+            }
+        }
+        return rows;
+    }
 }
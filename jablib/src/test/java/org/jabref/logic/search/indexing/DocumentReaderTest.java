@@ -1,13 +1,17 @@
 package org.jabref.logic.search.indexing;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.model.search.LinkedFilesConstants;
 
 import org.apache.lucene.document.Document;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -15,6 +19,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DocumentReaderTest {
 
@@ -35,8 +40,8 @@ public class DocumentReaderTest {
     }
 
     @Test
-    void scannedPdfHasNoExtractableContent() {
-        DocumentReader reader = new DocumentReader();
+    void scannedPdfHasNoExtractableContent(@TempDir Path tempDir) {
+        DocumentReader reader = new DocumentReader(new PdfTextCache(tempDir, Long.MAX_VALUE));
         List<Document> pages = reader.readPdfContents(
                 "scanned-image-only.pdf",
                 Path.of("src/test/resources/pdfs/scanned-image-only.pdf")
@@ -48,4 +53,15 @@ public class DocumentReaderTest {
             assertNull(page.getField(LinkedFilesConstants.CONTENT.toString()));
         }
     }
+
+    @Test
+    void readingStopsAfterTimeout(@TempDir Path tempDir) {
+        DocumentReader reader = new DocumentReader(new PdfTextCache(tempDir, Long.MAX_VALUE));
+        PdfExtractionSettings settings = new PdfExtractionSettings(1, Duration.ZERO, 1024 * 1024);
+
+        assertThrows(TimeoutException.class, () -> reader.readPdfContents(
+                "thesis-example.pdf",
+                Path.of("src/test/resources/pdfs/thesis-example.pdf"),
+                settings));
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.pdf.PdfTextCache;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
@@ -35,6 +36,9 @@ public class LinkedFilesIndexerTest {
     private final CliPreferences preferences = mock(CliPreferences.class);
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
+    @TempDir
+    private Path pdfTextCacheDir;
+
     private LuceneIndexer indexer;
 
     @BeforeEach
@@ -47,7 +51,7 @@ public class LinkedFilesIndexerTest {
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
 
-        this.indexer = new DefaultLinkedFilesIndexer(context, filePreferences);
+        this.indexer = new DefaultLinkedFilesIndexer(context, filePreferences, PdfExtractionSettings.DEFAULT, new DocumentReader(new PdfTextCache(pdfTextCacheDir, Long.MAX_VALUE)));
     }
 
     @AfterEach
@@ -166,6 +170,25 @@ public class LinkedFilesIndexerTest {
         }
     }
 
+    @Test
+    void severalFilesIndex() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName()),
+                        new LinkedFile("Minimal", "minimal.pdf", StandardFileType.PDF.getName())));
+
+        // when
+        indexer.addToIndex(List.of(exampleThesis, metadata), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(35, reader.numDocs());
+        }
+    }
+
     @Test
     public void flushIndex() throws IOException {
         // given
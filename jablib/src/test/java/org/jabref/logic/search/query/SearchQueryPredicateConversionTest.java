@@ -0,0 +1,144 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Checks that the predicates created by [SearchToPredicateVisitor] match the same entries as the SQL queries created by [SearchToSqlVisitor]
+@Execution(ExecutionMode.SAME_THREAD)
+@ResourceLock("embeddedPostgres")
+class SearchQueryPredicateConversionTest {
+
+    private static final List<BibEntry> ENTRIES = List.of(
+            new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Smith2020")
+                    .withField(StandardField.AUTHOR, "Smith, John and M{\\\"u}ller, Anna")
+                    .withField(StandardField.TITLE, "Search {Engines} in \\textit{Practice}")
+                    .withField(StandardField.KEYWORDS, "search, databases, Information Retrieval")
+                    .withField(StandardField.GROUPS, "Reading list, smith")
+                    .withField(StandardField.YEAR, "2020"),
+            new BibEntry(StandardEntryType.Book)
+                    .withCitationKey("Doe2019")
+                    .withField(StandardField.AUTHOR, "Jane Doe")
+                    .withField(StandardField.EDITOR, "Smith, Jack")
+                    .withField(StandardField.TITLE, "Databases")
+                    .withField(StandardField.DATE, "2019-05")
+                    .withField(new UnknownField("note_1"), "100% of_all"),
+            new BibEntry(StandardEntryType.InProceedings)
+                    .withCitationKey("Mueller")
+                    .withField(StandardField.AUTHOR, "Müller, Anna")
+                    .withField(StandardField.TITLE, "")
+                    .withField(StandardField.KEYWORDS, "search"),
+            new BibEntry(StandardEntryType.Misc)
+                    .withField(StandardField.TITLE, "Untitled {SEARCH}")
+    );
+
+    private static PostgreServer postgreServer;
+    private static BibFieldsIndexer indexer;
+    private static BibFieldsSearcher searcher;
+
+    @BeforeAll
+    static void setUp() {
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        ENTRIES.forEach(databaseContext.getDatabase()::insertEntry);
+
+        postgreServer = new PostgreServer();
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer);
+        indexer.addToIndex(ENTRIES, mock(BackgroundTask.class));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        postgreServer.close();
+    }
+
+    static Stream<SearchQuery> matchesSameEntriesAsSql() {
+        return Stream.of(
+                "smith",
+                "Smith",
+                "müller",
+                "\"search engines\"",
+                "smith databases",
+                "author = smith",
+                "author != smith",
+                "author == \"Smith, John\"",
+                "author == \"smith, john\"",
+                "author ==! \"Smith, John\"",
+                "author !== \"Smith, John\"",
+                "author =~ \"^Sm.*h\"",
+                "author =~ \"[\"",
+                "author !=~ \"^Sm.*h\"",
+                "author MATCHES \"Anna Müller\"",
+                "editor == \"Smith, Jack\"",
+                "title = \"\"",
+                "title != \"\"",
+                "title = engines",
+                "title =! Engines",
+                "title == Databases",
+                "keywords == search",
+                "anykeyword == \"information retrieval\"",
+                "keywords = retrieval",
+                "groups = smith",
+                "groups == \"Reading list\"",
+                "anyfield == search",
+                "anyfield == \"Reading list\"",
+                "any = 100%",
+                "note_1 = of_all",
+                "key = smith",
+                "key == mueller",
+                "year = 2020",
+                "year = 2019",
+                "entrytype = book",
+                "smith AND year = 2020",
+                "smith OR title = untitled",
+                "NOT smith",
+                "NOT (smith OR müller)",
+                "author = smith AND NOT (year = 2020)"
+        ).flatMap(expression -> Stream.of(
+                new SearchQuery(expression, EnumSet.noneOf(SearchFlags.class)),
+                new SearchQuery(expression, EnumSet.of(CASE_SENSITIVE)),
+                new SearchQuery(expression, EnumSet.of(REGULAR_EXPRESSION))));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void matchesSameEntriesAsSql(SearchQuery query) {
+        SearchResults sqlResults = searcher.search(query);
+
+        for (BibEntry entry : ENTRIES) {
+            assertEquals(sqlResults.isMatched(entry), searcher.isMatched(indexer.getSearchableEntry(entry), query),
+                    () -> "Entry " + entry.getCitationKey().orElse("without key") + ", query " + query + " " + query.getSearchFlags());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jabref.testutils.category.DatabaseTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DatabaseTest
+class DBMSConnectionPoolTest {
+
+    private DBMSConnectionPool connectionPool;
+
+    @BeforeEach
+    void setUp() {
+        connectionPool = new DBMSConnectionPool(ConnectorTest.getTestConnectionProperties(TestManager.getDBMSTypeTestParameter()), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.close();
+    }
+
+    @Test
+    void releasedConnectionIsReused() throws SQLException {
+        Connection connection = connectionPool.acquire();
+        connectionPool.release(connection);
+
+        assertSame(connection, connectionPool.acquire());
+    }
+
+    @Test
+    void releasedConnectionIsResetToAutoCommit() throws SQLException {
+        Connection connection = connectionPool.acquire();
+        connection.setAutoCommit(false);
+        connectionPool.release(connection);
+
+        assertTrue(connectionPool.acquire().getAutoCommit());
+    }
+
+    @Test
+    void closedConnectionIsReplaced() throws SQLException {
+        Connection connection = connectionPool.acquire();
+        connection.close();
+        connectionPool.release(connection);
+
+        assertTrue(connectionPool.acquire().isValid(1));
+    }
+
+    @Test
+    void acquireFailsAfterClose() {
+        connectionPool.close();
+
+        assertThrows(SQLException.class, connectionPool::acquire);
+    }
+
+    @Test
+    void connectionReleasedAfterCloseIsClosed() throws SQLException {
+        Connection connection = connectionPool.acquire();
+        connectionPool.close();
+        connectionPool.release(connection);
+
+        assertTrue(connection.isClosed());
+    }
+}
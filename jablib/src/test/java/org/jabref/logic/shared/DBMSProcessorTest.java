@@ -1,13 +1,16 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
@@ -303,6 +306,120 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void insertAndUpdateEntriesInSeveralBatches() throws SQLException {
+        dbmsProcessor.setBatchSize(2);
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(getBibEntryExample().withField(StandardField.ISSUE, Integer.toString(i)));
+        }
+        dbmsProcessor.insertEntries(entries);
+
+        entries.forEach(entry -> entry.setField(StandardField.NOTE, "updated"));
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(entries);
+
+        assertEquals(List.of(), refusedUpdates);
+        assertEquals(entries, dbmsProcessor.getSharedEntries());
+        assertEquals(Set.of(2), Set.copyOf(dbmsProcessor.getSharedIDVersionMapping().values()));
+    }
+
+    @Test
+    void updateEntriesReturnsRefusedUpdatesAndUpdatesOthers() throws SQLException {
+        BibEntry outdatedEntry = getBibEntryExample();
+        BibEntry currentEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(List.of(outdatedEntry, currentEntry));
+
+        // simulate older version
+        outdatedEntry.getSharedBibEntryData().setVersion(0);
+        outdatedEntry.setField(StandardField.YEAR, "1993");
+        currentEntry.setField(StandardField.YEAR, "1995");
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(List.of(outdatedEntry, currentEntry));
+
+        assertEquals(List.of(outdatedEntry), refusedUpdates.stream().map(OfflineLockException::getLocalBibEntry).toList());
+        assertEquals(Optional.of(currentEntry), dbmsProcessor.getSharedEntry(currentEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void writesUseConnectionPool() throws SQLException {
+        try (DBMSConnectionPool connectionPool = new DBMSConnectionPool(ConnectorTest.getTestConnectionProperties(dbmsType), 1)) {
+            dbmsProcessor.setConnectionPool(connectionPool);
+            BibEntry entry = getBibEntryExample();
+
+            dbmsProcessor.insertEntry(entry);
+            entry.setField(StandardField.YEAR, "1995");
+            dbmsProcessor.updateEntries(List.of(entry));
+
+            assertEquals(Optional.of(entry), dbmsProcessor.getSharedEntry(entry.getSharedBibEntryData().getSharedID()));
+        }
+    }
+
+    @Test
+    void getSharedIDVersionMappingOfGivenIDs() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+
+        Map<Integer, Integer> actualIDVersionMap = dbmsProcessor.getSharedIDVersionMapping(List.of(secondEntry.getSharedBibEntryData().getSharedID(), 42));
+
+        assertEquals(Map.of(secondEntry.getSharedBibEntryData().getSharedID(), 2), actualIDVersionMap);
+    }
+
+    @Test
+    void getEntryChangesSinceLatestChange() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry thirdEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        long latestChange = dbmsProcessor.getLatestEntryChange().orElseThrow();
+
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.insertEntry(thirdEntry);
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+
+        SharedEntryChanges changes = dbmsProcessor.getEntryChangesSince(latestChange).orElseThrow();
+
+        assertEquals(dbmsProcessor.getLatestEntryChange().orElseThrow(), changes.latestChange());
+        assertTrue(changes.sharedIDs().containsAll(Set.of(
+                firstEntry.getSharedBibEntryData().getSharedID(),
+                secondEntry.getSharedBibEntryData().getSharedID(),
+                thirdEntry.getSharedBibEntryData().getSharedID())));
+        assertEquals(Optional.of(new SharedEntryChanges(changes.latestChange(), Set.of())), dbmsProcessor.getEntryChangesSince(changes.latestChange()));
+    }
+
+    @Test
+    void getEntryChangesSinceIncludesChangesCommittedLate() throws SQLException {
+        BibEntry lateEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(lateEntry);
+        long latestChange = dbmsProcessor.getLatestEntryChange().orElseThrow();
+
+        // Another client changes the entry, but commits only after many later changes were read
+        Connection otherConnection = dbmsConnection.getConnection();
+        otherConnection.setAutoCommit(false);
+        try (Statement statement = otherConnection.createStatement()) {
+            statement.executeUpdate("UPDATE " + escape_Table("ENTRY", dbmsProcessor) + " SET " + escape("VERSION", dbmsProcessor) + " = " + escape("VERSION", dbmsProcessor) + " + 1" +
+                    " WHERE " + escape("SHARED_ID", dbmsProcessor) + " = " + lateEntry.getSharedBibEntryData().getSharedID());
+        }
+        for (int i = 0; i < 150; i++) {
+            dbmsProcessor.insertEntry(getBibEntryExample());
+        }
+        SharedEntryChanges changesBeforeCommit = dbmsProcessor.getEntryChangesSince(latestChange).orElseThrow();
+        otherConnection.commit();
+        otherConnection.setAutoCommit(true);
+
+        SharedEntryChanges changesAfterCommit = dbmsProcessor.getEntryChangesSince(changesBeforeCommit.latestChange()).orElseThrow();
+
+        assertFalse(changesBeforeCommit.sharedIDs().contains(lateEntry.getSharedBibEntryData().getSharedID()));
+        assertTrue(changesAfterCommit.sharedIDs().contains(lateEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void getEntryChangesSinceUnknownChangeIsEmpty() {
+        assertEquals(Optional.empty(), dbmsProcessor.getEntryChangesSince(-1));
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
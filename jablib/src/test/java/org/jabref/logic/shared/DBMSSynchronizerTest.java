@@ -210,6 +210,24 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseAppliesChangesSinceLastSynchronization() throws SQLException, OfflineLockException {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+        assertEquals(List.of(firstEntry, secondEntry), bibDatabase.getEntries());
+
+        BibEntry modifiedEntry = createExampleBibEntry(2).withField(StandardField.YEAR, "2024");
+        dbmsProcessor.updateEntry(modifiedEntry);
+        BibEntry thirdEntry = createExampleBibEntry(3);
+        dbmsProcessor.insertEntry(thirdEntry);
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedEntry, thirdEntry), bibDatabase.getEntries());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,31 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LiveUpdateNotificationTest {
+
+    @Test
+    void payloadContainsProcessorAndSharedIDs() {
+        LiveUpdateNotification notification = LiveUpdateNotification.of("processor", List.of(1, 42));
+
+        assertEquals(notification, LiveUpdateNotification.fromPayload(notification.toPayload()));
+    }
+
+    @Test
+    void payloadOfOlderVersionsContainsProcessorOnly() {
+        assertEquals(new LiveUpdateNotification("processor", Set.of()), LiveUpdateNotification.fromPayload("processor"));
+    }
+
+    @Test
+    void tooManySharedIDsAreLeftOut() {
+        LiveUpdateNotification notification = LiveUpdateNotification.of("processor", IntStream.range(0, 10_000).boxed().toList());
+
+        assertEquals(new LiveUpdateNotification("processor", Set.of()), LiveUpdateNotification.fromPayload(notification.toPayload()));
+    }
+}
@@ -313,6 +313,36 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void changingEntryContainedInTwoDatabasesPostsChangeEntryEventInBoth() {
+        BibEntry entry = new BibEntry();
+        BibDatabase otherDatabase = new BibDatabase();
+        database.insertEntry(entry);
+        otherDatabase.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        EventListenerTest otherTel = new EventListenerTest();
+        database.registerListener(tel);
+        otherDatabase.registerListener(otherTel);
+
+        entry.setField(new UnknownField("test"), "some value");
+
+        assertEquals(entry, tel.getChangedEntry());
+        assertEquals(entry, otherTel.getChangedEntry());
+    }
+
+    @Test
+    void changingRemovedEntryPostsNoChangeEntryEvent() {
+        BibEntry entry = new BibEntry();
+        EventListenerTest tel = new EventListenerTest();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        database.registerListener(tel);
+
+        entry.setField(new UnknownField("test"), "some value");
+
+        assertNull(tel.getChangedEntry());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -344,6 +374,53 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void getEntryByCitationKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        BibEntry third = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second, third);
+
+        second.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second, third), database.getEntriesByCitationKey("AAA"));
+        assertEquals(List.of(), database.getEntriesByCitationKey("BBB"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotChangeKeyCount() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void clearingKeyRemovesEntryFromKeyCount() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.clearCiteKey();
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertFalse(database.isDuplicateCitationKeyExisting("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
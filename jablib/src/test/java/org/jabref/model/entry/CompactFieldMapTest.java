@@ -0,0 +1,96 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private CompactFieldMap fields;
+
+    @BeforeEach
+    void setUp() {
+        fields = new CompactFieldMap();
+        fields.put(StandardField.TITLE, "Title");
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(new UnknownField("custom"), "Custom");
+    }
+
+    @Test
+    void getReturnsStoredValues() {
+        assertEquals("Title", fields.get(StandardField.TITLE));
+        assertEquals("Custom", fields.get(new UnknownField("custom")));
+        assertNull(fields.get(StandardField.YEAR));
+        assertEquals(3, fields.size());
+    }
+
+    @Test
+    void putReplacesValueAndKeepsOrder() {
+        assertEquals("Title", fields.put(StandardField.TITLE, "Other Title"));
+
+        assertEquals(List.of(StandardField.TITLE, StandardField.AUTHOR, new UnknownField("custom")), List.copyOf(fields.keySet()));
+        assertEquals("Other Title", fields.get(StandardField.TITLE));
+    }
+
+    @Test
+    void removeKeepsOrderOfRemainingFields() {
+        assertEquals("Author", fields.remove(StandardField.AUTHOR));
+
+        assertEquals(List.of(StandardField.TITLE, new UnknownField("custom")), List.copyOf(fields.keySet()));
+        assertNull(fields.remove(StandardField.AUTHOR));
+    }
+
+    @Test
+    void iteratorRemovesFromMap() {
+        Iterator<Field> iterator = fields.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(List.of(StandardField.AUTHOR, new UnknownField("custom")), List.copyOf(fields.keySet()));
+    }
+
+    @Test
+    void iteratorIsNotAffectedByChanges() {
+        Iterator<Field> iterator = fields.keySet().iterator();
+        fields.clear();
+
+        assertEquals(StandardField.TITLE, iterator.next());
+    }
+
+    @Test
+    void entrySetValueChangesMap() {
+        fields.entrySet().iterator().next().setValue("Other Title");
+
+        assertEquals("Other Title", fields.get(StandardField.TITLE));
+    }
+
+    @Test
+    void equalsAndHashCodeMatchOtherMaps() {
+        Map<Field, String> expected = new HashMap<>();
+        expected.put(StandardField.AUTHOR, "Author");
+        expected.put(new UnknownField("custom"), "Custom");
+        expected.put(StandardField.TITLE, "Title");
+
+        assertEquals(expected, fields);
+        assertEquals(fields, expected);
+        assertEquals(expected.hashCode(), fields.hashCode());
+        assertEquals(expected, new CompactFieldMap(expected));
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> fields.put(StandardField.YEAR, null));
+    }
+}
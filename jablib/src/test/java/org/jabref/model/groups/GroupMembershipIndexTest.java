@@ -0,0 +1,153 @@
+package org.jabref.model.groups;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntry mathEntry = new BibEntry().withField(StandardField.KEYWORDS, "math");
+    private final BibEntry physicsEntry = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+    private final BibEntry mathAndPhysicsEntry = new BibEntry().withField(StandardField.KEYWORDS, "math, physics");
+    private final BibEntry otherEntry = new BibEntry().withField(StandardField.KEYWORDS, "biology");
+
+    private GroupTreeNode root;
+
+    @BeforeEach
+    void setUp() {
+        database.insertEntries(List.of(mathEntry, physicsEntry, mathAndPhysicsEntry, otherEntry));
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+    }
+
+    private static KeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+
+    private void assertMatchesLikeSearchMatcher(GroupMembershipIndex index) {
+        root.iterateOverTree().forEach(node -> {
+            assertEquals(node.findMatches(database), index.getEntries(index.getMatches(node)), node.getName());
+            assertEquals(node.findMatches(database).size(), index.getMatchCount(node), node.getName());
+            for (BibEntry entry : database.getEntries()) {
+                assertEquals(node.matches(entry), index.isMatched(node, entry), node.getName());
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(GroupHierarchyType.class)
+    void matchesLikeSearchMatcherOfHierarchy(GroupHierarchyType context) {
+        GroupTreeNode math = root.addSubgroup(keywordGroup("math", context));
+        GroupTreeNode physics = math.addSubgroup(keywordGroup("physics", context));
+        physics.addSubgroup(keywordGroup("biology", context));
+        root.addSubgroup(keywordGroup("physics", GroupHierarchyType.REFINING))
+            .addSubgroup(keywordGroup("math", GroupHierarchyType.INCLUDING));
+
+        assertMatchesLikeSearchMatcher(new GroupMembershipIndex(database));
+    }
+
+    @Test
+    void updatesMatchesWhenEntriesChange() {
+        GroupTreeNode math = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INCLUDING));
+        math.addSubgroup(keywordGroup("biology", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertMatchesLikeSearchMatcher(index);
+
+        otherEntry.setField(StandardField.KEYWORDS, "physics");
+        mathEntry.setField(StandardField.KEYWORDS, "biology");
+        database.removeEntry(mathAndPhysicsEntry);
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "math");
+        database.insertEntry(newEntry);
+
+        assertMatchesLikeSearchMatcher(index);
+        assertEquals(List.of(mathEntry, newEntry), index.getEntries(index.getMatches(math)));
+    }
+
+    @Test
+    void matchesStayCorrectWhenOrdinalsOfRemovedEntriesAreFreed() {
+        GroupTreeNode math = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INCLUDING));
+        math.addSubgroup(keywordGroup("biology", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertMatchesLikeSearchMatcher(index);
+
+        database.removeEntries(List.of(mathEntry, physicsEntry, otherEntry));
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "math");
+        database.insertEntry(newEntry);
+
+        assertMatchesLikeSearchMatcher(index);
+        assertEquals(List.of(mathAndPhysicsEntry, newEntry), index.getEntries(index.getMatches(math)));
+    }
+
+    @Test
+    void updatedGroupIsEvaluatedAgainForGivenEntries() {
+        SearchGroup group = new SearchGroup("search", GroupHierarchyType.INDEPENDENT, "physics", EnumSet.noneOf(SearchFlags.class));
+        GroupTreeNode node = root.addSubgroup(group);
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertEquals(0, index.getMatchCount(node));
+
+        group.updateMatches(physicsEntry, true);
+        index.update(group, List.of(physicsEntry));
+
+        assertEquals(List.of(physicsEntry), index.getEntries(index.getMatches(node)));
+    }
+
+    @Test
+    void replacedGroupIsEvaluatedAgain() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertEquals(2, index.getMatchCount(node));
+
+        node.setGroup(keywordGroup("biology", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(List.of(otherEntry), index.getEntries(index.getMatches(node)));
+    }
+
+    @Test
+    void updatesExplicitGroupWhenEntryIsAssigned() {
+        ExplicitGroup group = new ExplicitGroup("explicit", GroupHierarchyType.INDEPENDENT, ',');
+        GroupTreeNode node = root.addSubgroup(group);
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertFalse(index.isMatched(node, physicsEntry));
+
+        group.add(physicsEntry);
+
+        assertTrue(index.isMatched(node, physicsEntry));
+    }
+
+    @Test
+    void invalidatedGroupIsEvaluatedAgain() {
+        SearchGroup group = new SearchGroup("search", GroupHierarchyType.INDEPENDENT, "physics", EnumSet.noneOf(SearchFlags.class));
+        GroupTreeNode node = root.addSubgroup(group);
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+        assertEquals(0, index.getMatchCount(node));
+
+        group.setMatchedEntries(Stream.of(physicsEntry, mathAndPhysicsEntry).map(BibEntry::getId).toList());
+        index.invalidate(group);
+
+        assertEquals(List.of(physicsEntry, mathAndPhysicsEntry), index.getEntries(index.getMatches(node)));
+    }
+
+    @Test
+    void matcherRequiresAllOrAnyGroup() {
+        GroupTreeNode math = root.addSubgroup(keywordGroup("math", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode physics = root.addSubgroup(keywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        GroupMembershipIndex index = new GroupMembershipIndex(database);
+
+        assertEquals(List.of(mathAndPhysicsEntry), database.getEntries().stream().filter(index.createMatcher(List.of(math, physics), true)::isMatch).toList());
+        assertEquals(List.of(mathEntry, physicsEntry, mathAndPhysicsEntry), database.getEntries().stream().filter(index.createMatcher(List.of(math, physics), false)::isMatch).toList());
+    }
+}
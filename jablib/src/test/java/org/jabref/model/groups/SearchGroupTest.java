@@ -0,0 +1,50 @@
+package org.jabref.model.groups;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchFlags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchGroupTest {
+
+    private final SearchGroup group = new SearchGroup("group", GroupHierarchyType.INDEPENDENT, "author = smith", EnumSet.noneOf(SearchFlags.class));
+
+    @Test
+    void updateMatchesReturnsOnlyChangedEntries() {
+        BibEntry stillMatched = new BibEntry();
+        BibEntry noLongerMatched = new BibEntry();
+        BibEntry newlyMatched = new BibEntry();
+        BibEntry neverMatched = new BibEntry();
+        group.setMatchedEntries(List.of(stillMatched.getId(), noLongerMatched.getId()));
+
+        SearchGroupMatchDelta delta = group.updateMatches(
+                List.of(stillMatched.getId(), noLongerMatched.getId(), newlyMatched.getId(), neverMatched.getId()),
+                Set.of(stillMatched.getId(), newlyMatched.getId()));
+
+        assertEquals(new SearchGroupMatchDelta(Set.of(newlyMatched.getId()), Set.of(noLongerMatched.getId())), delta);
+        assertTrue(group.contains(stillMatched));
+        assertTrue(group.contains(newlyMatched));
+        assertFalse(group.contains(noLongerMatched));
+        assertFalse(group.contains(neverMatched));
+    }
+
+    @Test
+    void updateMatchesKeepsMatchesOfOtherEntries() {
+        BibEntry otherEntry = new BibEntry();
+        BibEntry checkedEntry = new BibEntry();
+        group.setMatchedEntries(List.of(otherEntry.getId()));
+
+        SearchGroupMatchDelta delta = group.updateMatches(List.of(checkedEntry.getId()), Set.of());
+
+        assertTrue(delta.isEmpty());
+        assertTrue(group.contains(otherEntry));
+    }
+}
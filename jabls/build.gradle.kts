@@ -3,6 +3,8 @@ import org.gradle.api.tasks.testing.logging.TestExceptionFormat
 plugins {
     id("org.jabref.gradle.module")
     id("java-library")
+
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 testModuleInfo {
@@ -21,3 +23,9 @@ tasks.test {
     }
     maxParallelForks = 1
 }
+
+jmh {
+    warmupIterations = 5
+    iterations = 10
+    fork = 2
+}
@@ -0,0 +1,98 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.languageserver.util.LspCitationKeyIndex;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/// Lookups of the language server in the citation key index of many open libraries and citing documents
+@State(Scope.Benchmark)
+public class CitationKeyIndexBenchmarks {
+
+    private static final int LIBRARIES = 20;
+    private static final int ENTRIES_PER_LIBRARY = 5_000;
+    private static final int CITING_DOCUMENTS = 50;
+    private static final int CITATIONS_PER_DOCUMENT = 200;
+
+    private final LspCitationKeyIndex index = new LspCitationKeyIndex();
+    private String citationKey;
+    private String libraryUri;
+    private Position positionInLibrary;
+
+    @Setup
+    public void init() {
+        for (int library = 0; library < LIBRARIES; library++) {
+            BibDatabase database = new BibDatabase();
+            ParserResult parserResult = new ParserResult(database);
+            for (int i = 0; i < ENTRIES_PER_LIBRARY; i++) {
+                BibEntry entry = new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("Key" + library + "_" + i)
+                        .withField(StandardField.TITLE, "Title " + i);
+                database.insertEntry(entry);
+                // Each entry takes four lines
+                parserResult.getArticleRanges().put(entry, new ParserResult.Range(4 * i + 1, 1, 4 * i + 3, 2));
+            }
+            index.updateDefinitions(libraryUri(library), parserResult);
+        }
+
+        for (int document = 0; document < CITING_DOCUMENTS; document++) {
+            Map<String, List<Range>> rangesByKey = new HashMap<>();
+            for (int i = 0; i < CITATIONS_PER_DOCUMENT; i++) {
+                String citedKey = "Key" + (i % LIBRARIES) + "_" + ((document * CITATIONS_PER_DOCUMENT + i) % ENTRIES_PER_LIBRARY);
+                rangesByKey.computeIfAbsent(citedKey, _ -> new ArrayList<>()).add(new Range(new Position(i, 10), new Position(i, 10 + citedKey.length())));
+            }
+            index.updateReferences("file:///tmp/paper" + document + ".tex", rangesByKey);
+        }
+
+        citationKey = "Key" + (LIBRARIES / 2) + "_" + (ENTRIES_PER_LIBRARY / 2);
+        libraryUri = libraryUri(LIBRARIES / 2);
+        positionInLibrary = new Position(4 * (ENTRIES_PER_LIBRARY / 2) + 1, 3);
+    }
+
+    private static String libraryUri(int library) {
+        return "file:///tmp/library" + library + ".bib";
+    }
+
+    @Benchmark
+    public List<Location> getDefinitions() {
+        return index.getDefinitions(citationKey);
+    }
+
+    @Benchmark
+    public List<Location> getReferences() {
+        return index.getReferences(citationKey);
+    }
+
+    @Benchmark
+    public Optional<String> getDefinedKeyAt() {
+        return index.getDefinedKeyAt(libraryUri, positionInLibrary);
+    }
+
+    @Benchmark
+    public List<WorkspaceSymbol> findSymbols() {
+        return index.findSymbols("key1_25", 100);
+    }
+
+    static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.languageserver.util.LspDiagnosticHandler;
 import org.jabref.languageserver.util.LspLinkHandler;
+import org.jabref.languageserver.util.LspRangeUtil;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
 
 import com.google.gson.JsonArray;
@@ -22,7 +23,7 @@ import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.DocumentLinkParams;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
-import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
@@ -64,7 +65,9 @@ public class BibtexTextDocumentService implements TextDocumentService {
         fileUriToLanguageId.putIfAbsent(textDocument.getUri(), textDocument.getLanguageId());
 
         if ("bibtex".equals(textDocument.getLanguageId())) {
-            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), textDocument.getText(), textDocument.getVersion());
+            diagnosticHandler.scheduleDiagnosticsNow(client, textDocument.getUri(), textDocument.getText(), textDocument.getVersion());
+        } else {
+            linkHandler.updateCitations(textDocument.getLanguageId(), textDocument.getUri(), textDocument.getText());
         }
         contentCache.put(textDocument.getUri(), textDocument.getText());
     }
@@ -72,20 +75,25 @@ public class BibtexTextDocumentService implements TextDocumentService {
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
         VersionedTextDocumentIdentifier textDocument = params.getTextDocument();
-        TextDocumentContentChangeEvent contentChange = params.getContentChanges().getFirst();
         LOGGER.debug("didChange {}", textDocument.getUri());
         String languageId = fileUriToLanguageId.get(textDocument.getUri());
 
+        // The client sends only the changed ranges (see LspClientHandler#initialize)
+        String content = LspRangeUtil.applyContentChanges(contentCache.getOrDefault(textDocument.getUri(), ""), params.getContentChanges());
+        contentCache.put(textDocument.getUri(), content);
+
         if ("bibtex".equalsIgnoreCase(languageId)) {
-            diagnosticHandler.computeAndPublishDiagnostics(client, textDocument.getUri(), contentChange.getText(), textDocument.getVersion());
+            diagnosticHandler.scheduleDiagnostics(client, textDocument.getUri(), content, textDocument.getVersion());
+        } else if (languageId != null) {
+            linkHandler.updateCitations(languageId, textDocument.getUri(), content);
         }
-        contentCache.put(textDocument.getUri(), contentChange.getText());
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
         fileUriToLanguageId.remove(params.getTextDocument().getUri());
         contentCache.remove(params.getTextDocument().getUri());
+        diagnosticHandler.close(params.getTextDocument().getUri());
     }
 
     @Override
@@ -96,11 +104,30 @@ public class BibtexTextDocumentService implements TextDocumentService {
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> definition(DefinitionParams params) {
         if (fileUriToLanguageId.containsKey(params.getTextDocument().getUri())) {
             String fileUri = params.getTextDocument().getUri();
+            parseIfChanged(fileUri);
             return linkHandler.provideDefinition(fileUriToLanguageId.get(fileUri), fileUri, contentCache.get(fileUri), params.getPosition());
         }
         return CompletableFuture.completedFuture(Either.forLeft(List.of()));
     }
 
+    @Override
+    public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
+        String fileUri = params.getTextDocument().getUri();
+        if (fileUriToLanguageId.containsKey(fileUri)) {
+            parseIfChanged(fileUri);
+            return linkHandler.provideReferences(fileUriToLanguageId.get(fileUri), fileUri, contentCache.get(fileUri), params.getPosition(), params.getContext().isIncludeDeclaration());
+        }
+        return CompletableFuture.completedFuture(List.of());
+    }
+
+    /// The diagnostics of a changed BibTeX document are computed with a delay. Until then, the parsed document is outdated.
+    private void parseIfChanged(String fileUri) {
+        String content = contentCache.get(fileUri);
+        if ("bibtex".equalsIgnoreCase(fileUriToLanguageId.get(fileUri)) && (content != null)) {
+            diagnosticHandler.parseIfChanged(fileUri, content);
+        }
+    }
+
     @Override
     public CompletableFuture<List<DocumentLink>> documentLink(DocumentLinkParams params) {
         String fileUri = params.getTextDocument().getUri();
@@ -1,10 +1,18 @@
 package org.jabref.languageserver;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jabref.languageserver.util.LspCitationKeyIndex;
 import org.jabref.languageserver.util.LspDiagnosticHandler;
 
 import com.google.gson.JsonObject;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.slf4j.Logger;
@@ -14,14 +22,19 @@ public class BibtexWorkspaceService implements WorkspaceService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexWorkspaceService.class);
 
+    // Large workspaces define far more citation keys than a client can present
+    private static final int MAX_SYMBOLS = 1000;
+
     private final LspClientHandler clientHandler;
     private final LspDiagnosticHandler diagnosticHandler;
+    private final LspCitationKeyIndex citationKeyIndex;
 
     private LanguageClient client;
 
-    public BibtexWorkspaceService(LspClientHandler clientHandler, LspDiagnosticHandler diagnosticHandler) {
+    public BibtexWorkspaceService(LspClientHandler clientHandler, LspDiagnosticHandler diagnosticHandler, LspCitationKeyIndex citationKeyIndex) {
         this.clientHandler = clientHandler;
         this.diagnosticHandler = diagnosticHandler;
+        this.citationKeyIndex = citationKeyIndex;
     }
 
     @Override
@@ -42,6 +55,12 @@ public class BibtexWorkspaceService implements WorkspaceService {
         LOGGER.debug("DidChangeWatchedFilesParams: {}}", didChangeWatchedFilesParams);
     }
 
+    /// Finds the citation keys of all known libraries starting with the query
+    @Override
+    public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(WorkspaceSymbolParams params) {
+        return CompletableFuture.completedFuture(Either.forRight(citationKeyIndex.findSymbols(params.getQuery(), MAX_SYMBOLS)));
+    }
+
     public void setClient(LanguageClient client) {
         this.client = client;
     }
@@ -47,7 +47,7 @@ public class LspClientHandler implements LanguageServer, LanguageClientAware {
         this.parserHandler = new LspParserHandler();
         this.diagnosticHandler = new LspDiagnosticHandler(this, parserHandler, cliPreferences, abbreviationRepository, bibEntryTypesManager);
         this.linkHandler = new LspLinkHandler(this, parserHandler, cliPreferences.getFilePreferences());
-        this.workspaceService = new BibtexWorkspaceService(this, diagnosticHandler);
+        this.workspaceService = new BibtexWorkspaceService(this, diagnosticHandler, parserHandler.getCitationKeyIndex());
         this.textDocumentService = new BibtexTextDocumentService(messageHandler, this, diagnosticHandler, linkHandler);
         this.messageHandler = messageHandler;
     }
@@ -58,12 +58,14 @@ public class LspClientHandler implements LanguageServer, LanguageClientAware {
 
         TextDocumentSyncOptions syncOptions = new TextDocumentSyncOptions();
         syncOptions.setSave(true);
-        syncOptions.setChange(TextDocumentSyncKind.Full);
+        syncOptions.setChange(TextDocumentSyncKind.Incremental);
         syncOptions.setOpenClose(true);
 
         capabilities.setTextDocumentSync(syncOptions);
         capabilities.setWorkspace(new WorkspaceServerCapabilities());
         capabilities.setDefinitionProvider(true);
+        capabilities.setReferencesProvider(true);
+        capabilities.setWorkspaceSymbolProvider(true);
 
         DocumentLinkOptions linkOptions = new DocumentLinkOptions();
         linkOptions.setResolveProvider(true);
@@ -74,6 +76,7 @@ public class LspClientHandler implements LanguageServer, LanguageClientAware {
 
     @Override
     public CompletableFuture<Object> shutdown() {
+        diagnosticHandler.shutdown();
         return CompletableFuture.completedFuture(null);
     }
 
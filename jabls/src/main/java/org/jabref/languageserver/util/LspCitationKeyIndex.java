@@ -0,0 +1,165 @@
+package org.jabref.languageserver.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.jabref.logic.importer.ParserResult;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/// Index of the citation keys of all documents known to the language server.
+///
+/// For each citation key, the index stores where entries with this key are defined (in .bib files) and where the key is cited (e.g., in .tex or .md files).
+/// The index of a document is updated whenever the document is parsed, and removed when the document is closed.
+/// Thus, lookups do not need to go through the entries of all libraries.
+///
+/// Updates are serialized, lookups can happen concurrently.
+public class LspCitationKeyIndex {
+
+    // Maps citation keys to the URIs of the documents containing them and the ranges in these documents
+    private final Map<String, Map<String, List<Range>>> definitions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<Range>>> references = new ConcurrentHashMap<>();
+
+    // Maps the URIs of the documents to the citation keys in the document and their ranges
+    private final Map<String, Map<String, List<Range>>> definitionsByUri = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<Range>>> referencesByUri = new ConcurrentHashMap<>();
+
+    // Maps lower case citation keys to the defined keys. Sorted to find all keys starting with a query.
+    private final NavigableMap<String, Set<String>> definedKeysByLowerCase = new ConcurrentSkipListMap<>();
+
+    /// Replaces the definitions of the document by the entries of the parser result
+    public synchronized void updateDefinitions(String uri, ParserResult parserResult) {
+        Map<String, List<Range>> rangesByKey = new HashMap<>();
+        parserResult.getDatabase().getEntries().forEach(entry -> entry.getCitationKey().ifPresent(key -> {
+            ParserResult.Range range = parserResult.getArticleRanges().get(entry);
+            if (range != null) {
+                rangesByKey.computeIfAbsent(key, _ -> new ArrayList<>()).add(LspRangeUtil.convertToLspRange(range));
+            }
+        }));
+
+        replaceDefinitions(uri, rangesByKey);
+    }
+
+    /// Replaces the citations of the document
+    ///
+    /// @param rangesByKey the ranges of the citations in the document by the cited key
+    public synchronized void updateReferences(String uri, Map<String, List<Range>> rangesByKey) {
+        update(references, referencesByUri, uri, rangesByKey);
+    }
+
+    /// Removes the definitions and citations of the document
+    public synchronized void remove(String uri) {
+        replaceDefinitions(uri, Map.of());
+        update(references, referencesByUri, uri, Map.of());
+        definitionsByUri.remove(uri);
+        referencesByUri.remove(uri);
+    }
+
+    public List<Location> getDefinitions(String citationKey) {
+        return toLocations(definitions.getOrDefault(citationKey, Map.of()));
+    }
+
+    public List<Location> getReferences(String citationKey) {
+        return toLocations(references.getOrDefault(citationKey, Map.of()));
+    }
+
+    /// @return the citation key of the entry defined at the given position of the document
+    public Optional<String> getDefinedKeyAt(String uri, Position position) {
+        return definitionsByUri.getOrDefault(uri, Map.of()).entrySet().stream()
+                               .filter(keyAndRanges -> keyAndRanges.getValue().stream().anyMatch(range -> LspRangeUtil.isPositionInRange(position, range)))
+                               .map(Map.Entry::getKey)
+                               .findFirst();
+    }
+
+    /// Finds the defined citation keys starting with the query, ignoring the case
+    ///
+    /// @param limit the maximum number of symbols to return
+    public List<WorkspaceSymbol> findSymbols(String query, int limit) {
+        String prefix = query.toLowerCase(Locale.ROOT);
+        NavigableMap<String, Set<String>> matches = prefix.isEmpty()
+                                                    ? definedKeysByLowerCase
+                                                    : definedKeysByLowerCase.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        return matches.values().stream()
+                      .flatMap(Set::stream)
+                      .flatMap(key -> getDefinitions(key).stream()
+                                                         .map(location -> new WorkspaceSymbol(key, SymbolKind.Key, Either.forLeft(location))))
+                      .limit(limit)
+                      .toList();
+    }
+
+    private void replaceDefinitions(String uri, Map<String, List<Range>> rangesByKey) {
+        Set<String> previousKeys = update(definitions, definitionsByUri, uri, rangesByKey);
+        previousKeys.stream()
+                    .filter(key -> !definitions.containsKey(key))
+                    .forEach(key -> definedKeysByLowerCase.computeIfPresent(key.toLowerCase(Locale.ROOT), (_, keys) -> withoutKey(keys, key)));
+        rangesByKey.keySet().stream()
+                   .filter(key -> !previousKeys.contains(key))
+                   .forEach(key -> definedKeysByLowerCase.compute(key.toLowerCase(Locale.ROOT), (_, keys) -> withKey(keys, key)));
+    }
+
+    /// @return the keys of the document before the update
+    private static Set<String> update(Map<String, Map<String, List<Range>>> index, Map<String, Map<String, List<Range>>> indexByUri, String uri, Map<String, List<Range>> rangesByKey) {
+        Map<String, List<Range>> previous = indexByUri.getOrDefault(uri, Map.of());
+        for (String key : previous.keySet()) {
+            if (!rangesByKey.containsKey(key)) {
+                index.computeIfPresent(key, (_, rangesByUri) -> without(rangesByUri, uri));
+            }
+        }
+        Map<String, List<Range>> current = new HashMap<>();
+        rangesByKey.forEach((key, ranges) -> {
+            List<Range> immutableRanges = List.copyOf(ranges);
+            current.put(key, immutableRanges);
+            if (!immutableRanges.equals(previous.get(key))) {
+                index.compute(key, (_, rangesByUri) -> with(rangesByUri, uri, immutableRanges));
+            }
+        });
+        indexByUri.put(uri, Map.copyOf(current));
+        return previous.keySet();
+    }
+
+    private static List<Location> toLocations(Map<String, List<Range>> rangesByUri) {
+        return rangesByUri.entrySet().stream()
+                          .flatMap(uriAndRanges -> uriAndRanges.getValue().stream().map(range -> new Location(uriAndRanges.getKey(), range)))
+                          .toList();
+    }
+
+    // The values of the index are replaced instead of changed. Thus, concurrent lookups never see a value being changed.
+
+    private static Map<String, List<Range>> with(Map<String, List<Range>> rangesByUri, String uri, List<Range> ranges) {
+        Map<String, List<Range>> result = rangesByUri == null ? new HashMap<>() : new HashMap<>(rangesByUri);
+        result.put(uri, ranges);
+        return Map.copyOf(result);
+    }
+
+    private static Map<String, List<Range>> without(Map<String, List<Range>> rangesByUri, String uri) {
+        Map<String, List<Range>> result = new HashMap<>(rangesByUri);
+        result.remove(uri);
+        return result.isEmpty() ? null : Map.copyOf(result);
+    }
+
+    private static Set<String> withKey(Set<String> keys, String key) {
+        Set<String> result = keys == null ? new HashSet<>() : new HashSet<>(keys);
+        result.add(key);
+        return Set.copyOf(result);
+    }
+
+    private static Set<String> withoutKey(Set<String> keys, String key) {
+        Set<String> result = new HashSet<>(keys);
+        result.remove(key);
+        return result.isEmpty() ? null : Set.copyOf(result);
+    }
+}
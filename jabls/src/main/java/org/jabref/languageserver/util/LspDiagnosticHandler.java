@@ -1,12 +1,17 @@
 package org.jabref.languageserver.util;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.jabref.languageserver.ExtensionSettings;
@@ -30,6 +35,10 @@ public class LspDiagnosticHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(LspDiagnosticHandler.class);
     private static final int NO_VERSION = -1;
 
+    /// Time without further changes of a document before its diagnostics are computed.
+    /// Thus, while typing, the document is not parsed and checked for every keystroke.
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(300);
+
     private final LspIntegrityCheck lspIntegrityCheck;
     private final LspConsistencyCheck lspConsistencyCheck;
     private final LspClientHandler clientHandler;
@@ -38,6 +47,11 @@ public class LspDiagnosticHandler {
     private final BibEntryTypesManager bibEntryTypesManager;
     private final Map<String, List<Diagnostic>> integrityDiagnosticsCache; // Maps file URIs to the corresponding list of integrity diagnostics
     private final Map<String, List<Diagnostic>> consistencyDiagnosticsCache; // Maps file URIs to the corresponding list of consistency diagnostics
+    private final Map<String, LspEntryDiagnosticsCache> entryDiagnosticsCaches; // Maps file URIs to the integrity diagnostics of their entries
+    private final Map<String, Future<?>> pendingComputations; // Maps file URIs to the scheduled computation of their diagnostics
+
+    // Computes the diagnostics one after another. Thus, an outdated computation can never publish its result after a newer one.
+    private final ScheduledExecutorService diagnosticsExecutor;
 
     public LspDiagnosticHandler(LspClientHandler clientHandler, LspParserHandler parserHandler, CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository, BibEntryTypesManager bibEntryTypesManager) {
         this.clientHandler = clientHandler;
@@ -48,6 +62,13 @@ public class LspDiagnosticHandler {
         this.lspConsistencyCheck = new LspConsistencyCheck(clientHandler.getSettings());
         this.integrityDiagnosticsCache = new ConcurrentHashMap<>();
         this.consistencyDiagnosticsCache = new ConcurrentHashMap<>();
+        this.entryDiagnosticsCaches = new ConcurrentHashMap<>();
+        this.pendingComputations = new ConcurrentHashMap<>();
+        this.diagnosticsExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LSP-Diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public void computeAndPublishDiagnostics(LanguageClient client, String uri, String content, Integer version) {
@@ -55,6 +76,59 @@ public class LspDiagnosticHandler {
         publishDiagnostics(client, uri, version, diagnostics);
     }
 
+    /// Computes and publishes the diagnostics of the given content after [#DEBOUNCE_DELAY].
+    /// A computation scheduled before for the same document, but not yet started, is cancelled.
+    public void scheduleDiagnostics(LanguageClient client, String uri, String content, Integer version) {
+        schedule(client, uri, content, version, DEBOUNCE_DELAY);
+    }
+
+    /// Like [#scheduleDiagnostics(LanguageClient, String, String, Integer)], but starts the computation without delay
+    public void scheduleDiagnosticsNow(LanguageClient client, String uri, String content, Integer version) {
+        schedule(client, uri, content, version, Duration.ZERO);
+    }
+
+    private void schedule(LanguageClient client, String uri, String content, Integer version, Duration delay) {
+        pendingComputations.compute(uri, (_, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return diagnosticsExecutor.schedule(() -> {
+                try {
+                    computeAndPublishDiagnostics(client, uri, content, version);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Could not compute diagnostics for {}", uri, e);
+                }
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /// Cancels the pending computation for the document and drops the cached diagnostics of its entries, its parser result, and its citation keys
+    public void close(String uri) {
+        Future<?> pending = pendingComputations.remove(uri);
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        // A computation already running would add the cache and the citation keys again. Thus, they are dropped after the running computation.
+        diagnosticsExecutor.execute(() -> {
+            entryDiagnosticsCaches.remove(uri);
+            parserHandler.close(uri);
+        });
+    }
+
+    /// Parses the document now if it was not parsed with the given content yet.
+    /// Without, requests using the parsed document (e.g., to go to a definition) would see a version up to [#DEBOUNCE_DELAY] old.
+    public void parseIfChanged(String uri, String content) {
+        try {
+            parserHandler.parseIfChanged(uri, content, cliPreferences.getImportFormatPreferences());
+        } catch (JabRefException | IOException e) {
+            LOGGER.debug("Could not parse {}", uri, e);
+        }
+    }
+
+    public void shutdown() {
+        diagnosticsExecutor.shutdownNow();
+    }
+
     public void publishDiagnostics(LanguageClient client, String uri, Integer version, List<Diagnostic> diagnostics) {
         PublishDiagnosticsParams params = new PublishDiagnosticsParams();
         params.setUri(uri);
@@ -72,7 +146,8 @@ public class LspDiagnosticHandler {
         ParserResult parserResult;
 
         try {
-            parserResult = parserHandler.parserResultFromString(uri, content, cliPreferences.getImportFormatPreferences());
+            // A request may have parsed the content already, see parseIfChanged
+            parserResult = parserHandler.parseIfChanged(uri, content, cliPreferences.getImportFormatPreferences());
         } catch (JabRefException | IOException e) {
             Diagnostic parseDiagnostic = LspDiagnosticBuilder.create(Localization.lang(
                     "Failed to parse entries.\nThe following error was encountered:\n%0",
@@ -86,7 +161,8 @@ public class LspDiagnosticHandler {
         });
 
         if (clientHandler.getSettings().isIntegrityCheck()) {
-            integrityDiagnosticsCache.put(uri, lspIntegrityCheck.check(parserResult));
+            LspEntryDiagnosticsCache entryDiagnosticsCache = entryDiagnosticsCaches.computeIfAbsent(uri, _ -> new LspEntryDiagnosticsCache());
+            integrityDiagnosticsCache.put(uri, lspIntegrityCheck.check(parserResult, entryDiagnosticsCache));
             LOGGER.debug("Cached integrity diagnostics for {}", uri);
         }
 
@@ -0,0 +1,125 @@
+package org.jabref.languageserver.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/// Caches the diagnostics of the entries of one document, so that only changed entries are checked again.
+///
+/// The diagnostics of an entry are stored by the text of the entry and relative to the line the entry starts at.
+/// Thus, they are reused for an unchanged entry, even if lines were inserted or removed above it.
+///
+/// Some checks also depend on the citation keys of the other entries (e.g., duplicate keys).
+/// Therefore, the diagnostics of an entry are dropped if the number of entries having its citation key changed.
+/// Other checks depend on the metadata of the library (e.g., the mode) or on the @String constants (e.g., the generated citation key).
+/// Therefore, all cached diagnostics are dropped if one of these changes.
+/// Entries inheriting fields using a crossref depend on other entries as a whole. Thus, they are checked every time.
+public class LspEntryDiagnosticsCache {
+
+    /// The diagnostics of an entry starting at the given line
+    private record EntryDiagnostics(int startLine, List<Diagnostic> diagnostics) {
+
+        List<Diagnostic> movedTo(int line) {
+            if (line == startLine) {
+                return diagnostics;
+            }
+            int delta = line - startLine;
+            return diagnostics.stream().map(diagnostic -> move(diagnostic, delta)).toList();
+        }
+
+        private static Diagnostic move(Diagnostic diagnostic, int delta) {
+            Range range = diagnostic.getRange();
+            Diagnostic moved = new Diagnostic();
+            moved.setRange(new Range(
+                    new Position(range.getStart().getLine() + delta, range.getStart().getCharacter()),
+                    new Position(range.getEnd().getLine() + delta, range.getEnd().getCharacter())));
+            moved.setMessage(diagnostic.getMessage());
+            moved.setSeverity(diagnostic.getSeverity());
+            moved.setSource(diagnostic.getSource());
+            moved.setCode(diagnostic.getCode());
+            return moved;
+        }
+    }
+
+    /// The state of the library the diagnostics of all entries depend on besides the entries themselves
+    private record LibraryState(MetaData metaData, Map<String, String> strings) {
+
+        static LibraryState of(BibDatabaseContext databaseContext) {
+            Map<String, String> strings = new HashMap<>();
+            databaseContext.getDatabase().getStringValues().forEach(string -> strings.put(string.getName(), string.getContent()));
+            return new LibraryState(databaseContext.getMetaData(), strings);
+        }
+    }
+
+    private Map<String, EntryDiagnostics> diagnosticsByEntryText = Map.of();
+    private LibraryState libraryState;
+    // Maps each citation key to the number of entries having it
+    private Map<String, Integer> citationKeyCounts = Map.of();
+
+    /// Returns the diagnostics of all entries of the parser result.
+    /// Only the entries whose text was not checked before are passed to `checkEntry`.
+    /// Diagnostics of entries no longer in the document are dropped.
+    ///
+    /// @param checkEntry computes the diagnostics of an entry. The ranges of the diagnostics have to be within the entry.
+    public synchronized List<Diagnostic> getDiagnostics(ParserResult parserResult, Function<BibEntry, List<Diagnostic>> checkEntry) {
+        LibraryState currentState = LibraryState.of(parserResult.getDatabaseContext());
+        Map<String, EntryDiagnostics> previous = currentState.equals(libraryState) ? diagnosticsByEntryText : Map.of();
+        Map<String, Integer> currentCitationKeyCounts = new HashMap<>();
+        for (BibEntry entry : parserResult.getDatabase().getEntries()) {
+            currentCitationKeyCounts.merge(getCitationKey(entry), 1, Integer::sum);
+        }
+        Map<String, EntryDiagnostics> current = new HashMap<>();
+        List<Diagnostic> diagnostics = new ArrayList<>();
+
+        for (BibEntry entry : parserResult.getDatabase().getEntries()) {
+            String text = entry.getParsedSerialization();
+            ParserResult.Range range = parserResult.getArticleRanges().get(entry);
+            if (text == null || text.isEmpty() || range == null || entry.hasField(StandardField.CROSSREF)) {
+                diagnostics.addAll(checkEntry.apply(entry));
+                continue;
+            }
+            EntryDiagnostics entryDiagnostics = current.get(text);
+            if ((entryDiagnostics == null) && !hasChangedCount(getCitationKey(entry), currentCitationKeyCounts)) {
+                entryDiagnostics = previous.get(text);
+            }
+            if (entryDiagnostics == null) {
+                entryDiagnostics = new EntryDiagnostics(range.startLine(), checkEntry.apply(entry));
+            }
+            current.put(text, entryDiagnostics);
+            diagnostics.addAll(entryDiagnostics.movedTo(range.startLine()));
+        }
+
+        diagnosticsByEntryText = current;
+        libraryState = currentState;
+        citationKeyCounts = currentCitationKeyCounts;
+        return diagnostics;
+    }
+
+    private static String getCitationKey(BibEntry entry) {
+        return entry.getCitationKey().orElse("");
+    }
+
+    /// Tells whether an entry was added or removed having the given citation key
+    private boolean hasChangedCount(String citationKey, Map<String, Integer> currentCitationKeyCounts) {
+        return !Objects.equals(citationKeyCounts.get(citationKey), currentCitationKeyCounts.get(citationKey));
+    }
+
+    public synchronized void clear() {
+        diagnosticsByEntryText = Map.of();
+        libraryState = null;
+        citationKeyCounts = Map.of();
+    }
+}
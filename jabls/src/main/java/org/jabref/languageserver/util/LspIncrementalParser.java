@@ -0,0 +1,187 @@
+package org.jabref.languageserver.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/// Parses a changed document by parsing only the entries containing the change again.
+/// All other entries are taken over from the parser result of the previous content, moved by the number of added or removed lines.
+///
+/// As for [BibtexParser], the text between two entries belongs to the following entry.
+/// Only changes within the text of the entries are handled. The changed entries have to parse without warnings.
+/// Changes before the first entry, after the last entry, or of @String, @Preamble, and @Comment blocks (e.g., the metadata) need a complete parse.
+public class LspIncrementalParser {
+
+    /// Returns the parser result of the given content, if the change compared to the previous content can be handled by parsing some entries only
+    ///
+    /// @param previous        the parser result of `previousContent`. It is not modified.
+    /// @param previousContent the content the previous parser result was created from
+    public Optional<ParserResult> reparse(ParserResult previous, String previousContent, String content, ImportFormatPreferences importFormatPreferences) throws IOException {
+        List<BibEntry> entries = previous.getDatabase().getEntries();
+        if (entries.isEmpty() || content.contains("BibDesk")) {
+            // Entries of BibDesk groups get their groups field from the comments at the end of the file
+            return Optional.empty();
+        }
+
+        int[] lineStarts = getLineStarts(previousContent);
+        int[] entryEnds = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ParserResult.Range range = previous.getArticleRanges().get(entries.get(i));
+            if (range == null) {
+                return Optional.empty();
+            }
+            entryEnds[i] = getOffset(lineStarts, range.endLine(), range.endColumn());
+            if ((entryEnds[i] < 0) || ((i > 0) && (entryEnds[i] <= entryEnds[i - 1]))) {
+                return Optional.empty();
+            }
+        }
+
+        int commonPrefix = 0;
+        int maxCommon = Math.min(previousContent.length(), content.length());
+        while ((commonPrefix < maxCommon) && (previousContent.charAt(commonPrefix) == content.charAt(commonPrefix))) {
+            commonPrefix++;
+        }
+        int commonSuffix = 0;
+        while ((commonSuffix < (maxCommon - commonPrefix))
+                && (previousContent.charAt(previousContent.length() - 1 - commonSuffix) == content.charAt(content.length() - 1 - commonSuffix))) {
+            commonSuffix++;
+        }
+        int changeEnd = previousContent.length() - commonSuffix;
+        int lengthDelta = content.length() - previousContent.length();
+
+        // The entries owning the changed text: entry i owns the text after the end of entry i - 1 up to its own end
+        int first = 0;
+        while ((first < entryEnds.length) && (entryEnds[first] <= commonPrefix)) {
+            first++;
+        }
+        int last = first;
+        while ((last < entryEnds.length) && (entryEnds[last] < changeEnd)) {
+            last++;
+        }
+        if ((first == 0) || (last == entryEnds.length)) {
+            return Optional.empty();
+        }
+
+        // Only whole lines are parsed again. Thus, the columns of the other entries stay the same.
+        int sliceStart = entryEnds[first - 1];
+        int sliceEnd = entryEnds[last];
+        if ((previousContent.charAt(sliceStart - 1) != '\n') || (previousContent.charAt(sliceEnd - 1) != '\n')) {
+            return Optional.empty();
+        }
+        String slice = content.substring(sliceStart, sliceEnd + lengthDelta);
+        String lowerCaseSlice = slice.toLowerCase(Locale.ROOT);
+        if (lowerCaseSlice.contains("@string") || lowerCaseSlice.contains("@preamble") || lowerCaseSlice.contains("@comment")) {
+            return Optional.empty();
+        }
+
+        ParserResult sliceResult = new BibtexParser(importFormatPreferences).parse(Reader.of(slice));
+        BibDatabase sliceDatabase = sliceResult.getDatabase();
+        if (sliceResult.hasWarnings() || sliceDatabase.getEntries().isEmpty() || !sliceDatabase.hasNoStrings()
+                || sliceDatabase.getPreamble().isPresent() || !sliceDatabase.getEpilog().isBlank()) {
+            return Optional.empty();
+        }
+
+        int sliceStartLine = getLine(lineStarts, sliceStart);
+        int lineDelta = countLines(content, commonPrefix, changeEnd + lengthDelta) - countLines(previousContent, commonPrefix, changeEnd);
+
+        BibDatabase previousDatabase = previous.getDatabase();
+        BibDatabase database = new BibDatabase();
+        database.setNewLineSeparator(previousDatabase.getNewLineSeparator());
+        previousDatabase.getPreamble().ifPresent(database::setPreamble);
+        database.setEpilog(previousDatabase.getEpilog());
+        previousDatabase.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+        database.setStrings(List.copyOf(previousDatabase.getStringValues()));
+
+        // The entries are copied, because the entries of the previous parser result may still be in use
+        ParserResult parserResult = new ParserResult(database, previous.getMetaData(), previous.getEntryTypes());
+        List<BibEntry> newEntries = new ArrayList<>(entries.size() + sliceDatabase.getEntries().size());
+        copyEntries(entries.subList(0, first), previous, 0, parserResult, newEntries);
+        copyEntries(sliceDatabase.getEntries(), sliceResult, sliceStartLine - 1, parserResult, newEntries);
+        copyEntries(entries.subList(last + 1, entries.size()), previous, lineDelta, parserResult, newEntries);
+        database.insertEntries(newEntries);
+
+        // The slice parsed without warnings. Thus, the warnings within the slice are fixed.
+        previous.getWarningsMap().forEach((range, message) -> {
+            if (getOffset(lineStarts, range.startLine(), range.startColumn()) >= sliceEnd) {
+                parserResult.addWarning(moveRange(range, lineDelta), message);
+            } else if (getOffset(lineStarts, range.endLine(), range.endColumn()) <= sliceStart) {
+                parserResult.addWarning(range, message);
+            }
+        });
+        return Optional.of(parserResult);
+    }
+
+    /// Adds copies of the given entries to `newEntries` and their ranges, moved by the given number of lines, to `parserResult`
+    private static void copyEntries(List<BibEntry> entries, ParserResult entriesResult, int lineShift, ParserResult parserResult, List<BibEntry> newEntries) {
+        for (BibEntry entry : entries) {
+            BibEntry copy = new BibEntry(entry);
+            newEntries.add(copy);
+            ParserResult.Range articleRange = entriesResult.getArticleRanges().get(entry);
+            if (articleRange != null) {
+                parserResult.getArticleRanges().put(copy, moveRange(articleRange, lineShift));
+            }
+            Map<Field, ParserResult.Range> fieldRanges = entriesResult.getFieldRanges().get(entry);
+            if (fieldRanges != null) {
+                Map<Field, ParserResult.Range> movedFieldRanges = new HashMap<>();
+                fieldRanges.forEach((field, range) -> movedFieldRanges.put(field, moveRange(range, lineShift)));
+                parserResult.getFieldRanges().put(copy, movedFieldRanges);
+            }
+        }
+    }
+
+    private static ParserResult.Range moveRange(ParserResult.Range range, int lineShift) {
+        if (lineShift == 0) {
+            return range;
+        }
+        return new ParserResult.Range(range.startLine() + lineShift, range.startColumn(), range.endLine() + lineShift, range.endColumn());
+    }
+
+    /// Returns the offsets at which the lines of the content start
+    private static int[] getLineStarts(String content) {
+        List<Integer> lineStarts = new ArrayList<>();
+        lineStarts.add(0);
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+        return lineStarts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /// Converts a position of [BibtexParser] (lines and columns starting at 1) to an offset, or returns -1 if it is not within the content
+    private static int getOffset(int[] lineStarts, int line, int column) {
+        if ((line < 1) || (line > lineStarts.length) || (column < 1)) {
+            return -1;
+        }
+        return lineStarts[line - 1] + column - 1;
+    }
+
+    /// Returns the line (starting at 1) containing the given offset
+    private static int getLine(int[] lineStarts, int offset) {
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static int countLines(String content, int start, int end) {
+        int lines = 0;
+        for (int i = start; i < end; i++) {
+            if (content.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -1,12 +1,12 @@
 package org.jabref.languageserver.util;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.entry.BibEntry;
 
 import org.eclipse.lsp4j.Diagnostic;
 import org.slf4j.Logger;
@@ -26,27 +26,40 @@ public class LspIntegrityCheck {
     }
 
     public List<Diagnostic> check(ParserResult parserResult) {
-        IntegrityCheck integrityCheck = new IntegrityCheck(
+        IntegrityCheck integrityCheck = createIntegrityCheck(parserResult);
+        return parserResult.getDatabaseContext().getEntries().stream()
+                           .flatMap(entry -> checkEntry(integrityCheck, parserResult, entry).stream())
+                           .toList();
+    }
+
+    /// Like [#check(ParserResult)], but checks only the entries changed since the last check using the same cache
+    public List<Diagnostic> check(ParserResult parserResult, LspEntryDiagnosticsCache cache) {
+        IntegrityCheck integrityCheck = createIntegrityCheck(parserResult);
+        return cache.getDiagnostics(parserResult, entry -> checkEntry(integrityCheck, parserResult, entry));
+    }
+
+    private IntegrityCheck createIntegrityCheck(ParserResult parserResult) {
+        return new IntegrityCheck(
                 parserResult.getDatabaseContext(),
                 cliPreferences.getFilePreferences(),
                 cliPreferences.getCitationKeyPatternPreferences(),
                 abbreviationRepository,
                 ALLOW_INTEGER_EDITION
         );
+    }
 
-        return parserResult.getDatabaseContext().getEntries().stream().flatMap(entry -> {
-            try {
-                return integrityCheck.checkEntry(entry).stream().map(message -> {
-                    if (entry.getFieldOrAlias(message.field()).isPresent()) {
-                        return LspDiagnosticBuilder.create(parserResult, message.message()).setField(message.field()).setEntry(entry).build();
-                    } else {
-                        return LspDiagnosticBuilder.create(parserResult, message.message()).setEntry(entry).build();
-                    }
-                });
-            } catch (NullPointerException nullPointerException) {
-                LOGGER.debug("Error while performing integrity check.", nullPointerException);
-            }
-            return Stream.of();
-        }).toList();
+    private List<Diagnostic> checkEntry(IntegrityCheck integrityCheck, ParserResult parserResult, BibEntry entry) {
+        try {
+            return integrityCheck.checkEntry(entry).stream().map(message -> {
+                if (entry.getFieldOrAlias(message.field()).isPresent()) {
+                    return LspDiagnosticBuilder.create(parserResult, message.message()).setField(message.field()).setEntry(entry).build();
+                } else {
+                    return LspDiagnosticBuilder.create(parserResult, message.message()).setEntry(entry).build();
+                }
+            }).toList();
+        } catch (NullPointerException nullPointerException) {
+            LOGGER.debug("Error while performing integrity check.", nullPointerException);
+        }
+        return List.of();
     }
 }
@@ -1,6 +1,9 @@
 package org.jabref.languageserver.util;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -13,6 +16,7 @@ import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +49,35 @@ public class LspLinkHandler {
         return CompletableFuture.completedFuture(toReturn);
     }
 
+    /// Finds the other documents citing the citation key at the position
+    ///
+    /// @param includeDeclaration whether the entries with the citation key are included
+    public CompletableFuture<List<? extends Location>> provideReferences(String languageId, String uri, String content, Position position, boolean includeDeclaration) {
+        Optional<String> citationKey = DefinitionProviderFactory.getDefinitionProvider(preferences, parserHandler, languageId)
+                                                                .flatMap(provider -> provider.getCitationKeyAtPosition(uri, content, position));
+        if (citationKey.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        LspCitationKeyIndex index = parserHandler.getCitationKeyIndex();
+        List<Location> locations = new ArrayList<>(index.getReferences(citationKey.get()));
+        if (includeDeclaration) {
+            locations.addAll(index.getDefinitions(citationKey.get()));
+        }
+        return CompletableFuture.completedFuture(locations);
+    }
+
+    /// Updates the citations of the document in the citation key index
+    public void updateCitations(String languageId, String uri, String content) {
+        Optional<DefinitionProvider> provider = DefinitionProviderFactory.getDefinitionProvider(preferences, parserHandler, languageId);
+        if (provider.isEmpty() || content == null) {
+            return;
+        }
+        Map<String, List<Range>> rangesByKey = new HashMap<>();
+        provider.get().findCitedKeys(content).forEach(citedKey ->
+                rangesByKey.computeIfAbsent(citedKey.key(), _ -> new ArrayList<>()).add(citedKey.range()));
+        parserHandler.getCitationKeyIndex().updateReferences(uri, rangesByKey);
+    }
+
     public CompletableFuture<List<DocumentLink>> provideDocumentLinks(String fileUri, String languageId, String content) {
         if (clientHandler.isStandalone()) {
             return CompletableFuture.completedFuture(List.of());
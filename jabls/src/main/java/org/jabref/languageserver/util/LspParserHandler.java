@@ -5,7 +5,6 @@ import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,21 +13,39 @@ import org.jabref.logic.JabRefException;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
-import org.jabref.model.entry.BibEntry;
 
 public class LspParserHandler {
 
-    private final Map<String, ParserResult> parserResults;
+    /// A parser result and the content it was created from
+    private record ParsedDocument(String content, ParserResult parserResult) {
+    }
+
+    private final Map<String, ParsedDocument> parsedDocuments; // Maps file URIs to their last parsed content
+    private final LspCitationKeyIndex citationKeyIndex;
+    private final LspIncrementalParser incrementalParser;
 
     public LspParserHandler() {
-        this.parserResults = new ConcurrentHashMap<>();
+        this.parsedDocuments = new ConcurrentHashMap<>();
+        this.citationKeyIndex = new LspCitationKeyIndex();
+        this.incrementalParser = new LspIncrementalParser();
     }
 
+    /// Parses the given content of the document.
+    /// If only some entries changed since the document was parsed last, only these entries are parsed again, see [LspIncrementalParser].
     public ParserResult parserResultFromString(String fileUri, String content, ImportFormatPreferences importFormatPreferences) throws JabRefException, IOException {
-        // We use BibtexParser directly, because we do not want to add an extra DummyFileMonitor
-        // Otherwise, we could use `OpenDatabase.loadDatabase(path, importFormatPreferences, new DummyFileUpdateMonitor())`
-        BibtexParser parser = new BibtexParser(importFormatPreferences);
-        ParserResult parserResult = parser.parse(Reader.of(content));
+        ParsedDocument previous = parsedDocuments.get(fileUri);
+        Optional<ParserResult> reparsed = previous == null
+                                          ? Optional.empty()
+                                          : incrementalParser.reparse(previous.parserResult(), previous.content(), content, importFormatPreferences);
+        ParserResult parserResult;
+        if (reparsed.isPresent()) {
+            parserResult = reparsed.get();
+        } else {
+            // We use BibtexParser directly, because we do not want to add an extra DummyFileMonitor
+            // Otherwise, we could use `OpenDatabase.loadDatabase(path, importFormatPreferences, new DummyFileUpdateMonitor())`
+            BibtexParser parser = new BibtexParser(importFormatPreferences);
+            parserResult = parser.parse(Reader.of(content));
+        }
         URI uri;
         try {
             uri = new URI(fileUri);
@@ -37,22 +54,31 @@ public class LspParserHandler {
         }
         Path path = Path.of(uri);
         parserResult.getDatabaseContext().setDatabasePath(path);
-        parserResults.put(fileUri, parserResult);
+        parsedDocuments.put(fileUri, new ParsedDocument(content, parserResult));
+        citationKeyIndex.updateDefinitions(fileUri, parserResult);
         return parserResult;
     }
 
+    /// Returns the parser result of the given content, parsing it only if the document was last parsed with a different content
+    public ParserResult parseIfChanged(String fileUri, String content, ImportFormatPreferences importFormatPreferences) throws JabRefException, IOException {
+        ParsedDocument parsedDocument = parsedDocuments.get(fileUri);
+        if ((parsedDocument != null) && content.equals(parsedDocument.content())) {
+            return parsedDocument.parserResult();
+        }
+        return parserResultFromString(fileUri, content, importFormatPreferences);
+    }
+
     public Optional<ParserResult> getParserResultForUri(String fileUri) {
-        return Optional.ofNullable(parserResults.get(fileUri));
+        return Optional.ofNullable(parsedDocuments.get(fileUri)).map(ParsedDocument::parserResult);
+    }
+
+    /// Drops the parser result of the closed document and removes it from the citation key index
+    public void close(String fileUri) {
+        parsedDocuments.remove(fileUri);
+        citationKeyIndex.remove(fileUri);
     }
 
-    public Map<String, List<BibEntry>> searchForEntryByCitationKey(String citationKey) {
-        Map<String, List<BibEntry>> result = new ConcurrentHashMap<>();
-        parserResults.forEach((fileUri, parserResult) -> {
-            List<BibEntry> entries = parserResult.getDatabase().getEntriesByCitationKey(citationKey);
-            if (!entries.isEmpty()) {
-                result.put(fileUri, entries);
-            }
-        });
-        return result;
+    public LspCitationKeyIndex getCitationKeyIndex() {
+        return citationKeyIndex;
     }
 }
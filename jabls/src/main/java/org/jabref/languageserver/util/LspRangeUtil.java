@@ -1,9 +1,12 @@
 package org.jabref.languageserver.util;
 
+import java.util.List;
+
 import org.jabref.logic.importer.ParserResult;
 
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 /// Because only postions are supported by the lsp https://github.com/microsoft/language-server-protocol/issues/96 we need to convert back and forth
 public class LspRangeUtil {
@@ -37,6 +40,25 @@ public class LspRangeUtil {
         return Math.max(0, Math.min(content.length(), offset));
     }
 
+    /// Applies the changes sent by the client in the given order.
+    /// A change without range replaces the complete content, as done by clients using full synchronization.
+    ///
+    /// @return the content after all changes
+    public static String applyContentChanges(String content, List<TextDocumentContentChangeEvent> changes) {
+        String result = content;
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                result = change.getText();
+                continue;
+            }
+            int start = toOffset(result, range.getStart());
+            int end = Math.max(start, toOffset(result, range.getEnd()));
+            result = result.substring(0, start) + change.getText() + result.substring(end);
+        }
+        return result;
+    }
+
     public static Range convertToLspRange(ParserResult.Range range) {
         return new Range(
                 new Position(Math.max(range.startLine() - 1, 0), Math.max(range.startColumn() - 1, 0)),
@@ -85,6 +85,12 @@ public class BibDefinitionProvider extends DefinitionProvider {
         return List.of();
     }
 
+    /// @return the citation key of the entry at the position
+    @Override
+    public Optional<String> getCitationKeyAtPosition(String uri, String content, Position position) {
+        return parserHandler.getCitationKeyIndex().getDefinedKeyAt(uri, position);
+    }
+
     // Not needed when trying to resolve links to pdfs
     @Override
     public List<DocumentLink> provideDocumentLinks(String fileUri, String content) {
@@ -2,15 +2,12 @@ package org.jabref.languageserver.util.definition;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.languageserver.util.LspParserHandler;
 import org.jabref.languageserver.util.LspRangeUtil;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.model.entry.BibEntry;
 
 import com.google.gson.JsonArray;
 import org.eclipse.lsp4j.DocumentLink;
@@ -30,33 +27,30 @@ public abstract class DefinitionProvider {
     }
 
     public List<Location> provideDefinition(String uri, String content, Position position) {
-        Optional<String> citationKey = getCitationKeyAtPosition(content, position);
-        if (citationKey.isPresent()) {
-            Map<String, List<BibEntry>> entriesMap = parserHandler.searchForEntryByCitationKey(citationKey.get());
-            if (!entriesMap.isEmpty()) {
-                return entriesMap.entrySet().stream()
-                                 .flatMap(listEntry -> listEntry.getValue().stream()
-                                                                .map(entry -> createLocation(getRangeFromEntry(listEntry.getKey(), entry), listEntry.getKey())))
-                                 .toList();
-            }
-        }
-        return List.of();
+        return getCitationKeyAtPosition(uri, content, position)
+                .map(citationKey -> parserHandler.getCitationKeyIndex().getDefinitions(citationKey))
+                .orElse(List.of());
     }
 
     public List<DocumentLink> provideDocumentLinks(String fileUri, String content) {
         if (content == null || content.isEmpty()) {
             return List.of();
         }
-        if (citationCommandPattern == null || citationKeyInsidePattern == null) {
-            return List.of();
-        }
+        return findCitedKeys(content).stream()
+                                     .map(citedKey -> createDocumentLink(citedKey.range(), citedKey.key()))
+                                     .toList();
+    }
 
-        List<DocumentLink> links = new ArrayList<>();
+    /// @return the citation keys cited in the content and the ranges of the keys in the content
+    public List<CitedKey> findCitedKeys(String content) {
+        List<CitedKey> result = new ArrayList<>();
+        PositionCursor cursor = new PositionCursor(content);
         for (KeyBounds kb : findCitationKeys(content)) {
-            Range range = LspRangeUtil.convertToLspRange(content, kb.start(), kb.end());
-            links.add(createDocumentLink(range, kb.key()));
+            Position start = cursor.moveTo(kb.start());
+            Position end = cursor.moveTo(kb.end());
+            result.add(new CitedKey(kb.key(), new Range(start, end)));
         }
-        return links;
+        return result;
     }
 
     protected DocumentLink createDocumentLink(Range range, String key) {
@@ -69,16 +63,8 @@ public abstract class DefinitionProvider {
         return link;
     }
 
-    protected Location createLocation(Range range, String uri) {
-        return new Location(uri, range);
-    }
-
-    Range getRangeFromEntry(String fileUri, BibEntry entry) {
-        ParserResult parserResult = parserHandler.getParserResultForUri(fileUri).get(); // always present if we have an entry from provideDefinition
-        return LspRangeUtil.convertToLspRange(parserResult.getArticleRanges().get(entry));
-    }
-
-    Optional<String> getCitationKeyAtPosition(String content, Position position) {
+    /// @return the citation key at the position of the content, if any
+    public Optional<String> getCitationKeyAtPosition(String uri, String content, Position position) {
         if (content == null || position == null) {
             return Optional.empty();
         }
@@ -136,4 +122,33 @@ public abstract class DefinitionProvider {
 
     private record KeyBounds(String key, int start, int end) {
     }
+
+    public record CitedKey(String key, Range range) {
+    }
+
+    /// Converts offsets in the content to positions, going through the content only once.
+    /// The offsets have to be passed in ascending order.
+    private static class PositionCursor {
+        private final String content;
+        private int offset;
+        private int line;
+        private int column;
+
+        PositionCursor(String content) {
+            this.content = content;
+        }
+
+        Position moveTo(int targetOffset) {
+            int target = Math.min(content.length(), targetOffset);
+            for (; offset < target; offset++) {
+                if (content.charAt(offset) == '\n') {
+                    line++;
+                    column = 0;
+                } else {
+                    column++;
+                }
+            }
+            return new Position(line, column);
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package org.jabref.languageserver.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.JabRefException;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.entry.BibEntryPreferences;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LspCitationKeyIndexTest {
+
+    private static final String FIRST_URI = "file:///tmp/first.bib";
+    private static final String SECOND_URI = "file:///tmp/second.bib";
+    private static final String MARKDOWN_URI = "file:///tmp/paper.md";
+
+    private final LspParserHandler parserHandler = new LspParserHandler();
+    private final LspCitationKeyIndex index = parserHandler.getCitationKeyIndex();
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp() throws JabRefException, IOException {
+        importFormatPreferences = mock(ImportFormatPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(mock(BibEntryPreferences.class));
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.filePreferences()).thenReturn(mock(FilePreferences.class));
+
+        parse(FIRST_URI, """
+                @Article{Cooper_2007,
+                  title = {Cocoa and health},
+                }
+
+                @Article{Corti_2009,
+                  title = {Cocoa and cardiovascular health},
+                }
+                """);
+        parse(SECOND_URI, """
+                @Article{cooper_2008,
+                  title = {Other},
+                }
+                """);
+    }
+
+    private void parse(String uri, String content) throws JabRefException, IOException {
+        parserHandler.parserResultFromString(uri, content, importFormatPreferences);
+    }
+
+    private static Range range(int startLine, int startCharacter, int endLine, int endCharacter) {
+        return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+    }
+
+    @Test
+    void definitionsAreFoundByCitationKey() {
+        List<Location> definitions = index.getDefinitions("Corti_2009");
+
+        assertEquals(1, definitions.size());
+        assertEquals(FIRST_URI, definitions.getFirst().getUri());
+        assertEquals(4, definitions.getFirst().getRange().getStart().getLine());
+        assertEquals(List.of(), index.getDefinitions("Unknown"));
+    }
+
+    @Test
+    void parsingAgainReplacesDefinitionsOfDocument() throws JabRefException, IOException {
+        parse(FIRST_URI, """
+                @Article{Corti_2009,
+                  title = {Cocoa and cardiovascular health},
+                }
+                """);
+
+        assertEquals(List.of(), index.getDefinitions("Cooper_2007"));
+        assertEquals(0, index.getDefinitions("Corti_2009").getFirst().getRange().getStart().getLine());
+        assertEquals(List.of("cooper_2008", "Corti_2009"), index.findSymbols("co", 10).stream().map(WorkspaceSymbol::getName).toList());
+    }
+
+    @Test
+    void findSymbolsMatchesPrefixIgnoringCase() {
+        assertEquals(List.of("Cooper_2007", "cooper_2008"), index.findSymbols("COOP", 10).stream().map(WorkspaceSymbol::getName).sorted().toList());
+        assertEquals(1, index.findSymbols("", 1).size());
+        assertEquals(List.of(), index.findSymbols("x", 10));
+    }
+
+    @Test
+    void getDefinedKeyAtReturnsKeyOfEntryAtPosition() {
+        assertEquals(Optional.of("Corti_2009"), index.getDefinedKeyAt(FIRST_URI, new Position(5, 4)));
+        assertEquals(Optional.empty(), index.getDefinedKeyAt(SECOND_URI, new Position(5, 4)));
+    }
+
+    @Test
+    void referencesAreReplacedPerDocument() {
+        index.updateReferences(MARKDOWN_URI, Map.of("Cooper_2007", List.of(range(0, 1, 0, 12), range(3, 1, 3, 12))));
+        assertEquals(2, index.getReferences("Cooper_2007").size());
+
+        index.updateReferences(MARKDOWN_URI, Map.of("Corti_2009", List.of(range(0, 1, 0, 11))));
+
+        assertEquals(List.of(), index.getReferences("Cooper_2007"));
+        assertEquals(List.of(new Location(MARKDOWN_URI, range(0, 1, 0, 11))), index.getReferences("Corti_2009"));
+    }
+
+    @Test
+    void removeDropsDefinitionsAndReferencesOfDocument() {
+        index.updateReferences(MARKDOWN_URI, Map.of("Cooper_2007", List.of(range(0, 1, 0, 12))));
+
+        index.remove(FIRST_URI);
+        index.remove(MARKDOWN_URI);
+
+        assertEquals(List.of(), index.getDefinitions("Cooper_2007"));
+        assertEquals(List.of(), index.getReferences("Cooper_2007"));
+        assertEquals(Optional.empty(), index.getDefinedKeyAt(FIRST_URI, new Position(5, 4)));
+        assertEquals(List.of("cooper_2008"), index.findSymbols("co", 10).stream().map(WorkspaceSymbol::getName).toList());
+    }
+}
@@ -0,0 +1,135 @@
+package org.jabref.languageserver.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.JabRefException;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LspEntryDiagnosticsCacheTest {
+
+    private static final String URI = "file:///tmp/some-uri.bib";
+    private static final String FIRST_ENTRY = """
+            @Article{first,
+              title = {First},
+            }
+            """;
+    private static final String SECOND_ENTRY = """
+
+            @Article{second,
+              title = {Second},
+            }
+            """;
+
+    private final LspParserHandler parserHandler = new LspParserHandler();
+    private final LspEntryDiagnosticsCache cache = new LspEntryDiagnosticsCache();
+    private final List<String> checkedEntries = new ArrayList<>();
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(mock(BibEntryPreferences.class));
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.filePreferences()).thenReturn(mock(FilePreferences.class));
+    }
+
+    private List<Diagnostic> getDiagnostics(String content) throws JabRefException, IOException {
+        ParserResult parserResult = parserHandler.parserResultFromString(URI, content, importFormatPreferences);
+        return cache.getDiagnostics(parserResult, entry -> {
+            checkedEntries.add(entry.getCitationKey().orElseThrow());
+            return List.of(LspDiagnosticBuilder.create(parserResult, "message").setEntry(entry).setField(StandardField.TITLE).build());
+        });
+    }
+
+    private static List<Integer> lines(List<Diagnostic> diagnostics) {
+        return diagnostics.stream().map(diagnostic -> diagnostic.getRange().getStart().getLine()).toList();
+    }
+
+    @Test
+    void unchangedEntriesAreNotCheckedAgain() throws JabRefException, IOException {
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY);
+        checkedEntries.clear();
+
+        getDiagnostics(FIRST_ENTRY.replace("First", "Changed") + SECOND_ENTRY);
+
+        assertEquals(List.of("first"), checkedEntries);
+    }
+
+    @Test
+    void diagnosticsMoveWithEntry() throws JabRefException, IOException {
+        List<Diagnostic> before = getDiagnostics(FIRST_ENTRY + SECOND_ENTRY);
+        checkedEntries.clear();
+
+        List<Diagnostic> after = getDiagnostics(FIRST_ENTRY.replace("title", "year = {2000},\n  title") + SECOND_ENTRY);
+
+        assertEquals(List.of("first"), checkedEntries);
+        assertEquals(List.of(1, 5), lines(before));
+        assertEquals(List.of(2, 6), lines(after));
+    }
+
+    @Test
+    void entriesSharingAChangedCitationKeyAreCheckedAgain() throws JabRefException, IOException {
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY);
+        checkedEntries.clear();
+
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY.replace("second", "first"));
+
+        assertEquals(List.of("first", "first"), checkedEntries);
+    }
+
+    @Test
+    void changedCitationKeyDoesNotCheckOtherEntriesAgain() throws JabRefException, IOException {
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY);
+        checkedEntries.clear();
+
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY.replace("second", "other"));
+
+        assertEquals(List.of("other"), checkedEntries);
+    }
+
+    @Test
+    void entryIsCheckedAgainWhenItsCitationKeyIsNoLongerDuplicated() throws JabRefException, IOException {
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY.replace("second", "first"));
+        checkedEntries.clear();
+
+        getDiagnostics(FIRST_ENTRY + SECOND_ENTRY);
+
+        assertEquals(List.of("first", "second"), checkedEntries);
+    }
+
+    @Test
+    void changedStringsCheckAllEntriesAgain() throws JabRefException, IOException {
+        getDiagnostics("@String{name = {Name}}\n" + FIRST_ENTRY + SECOND_ENTRY);
+        checkedEntries.clear();
+
+        getDiagnostics("@String{name = {Other name}}\n" + FIRST_ENTRY + SECOND_ENTRY);
+
+        assertEquals(List.of("first", "second"), checkedEntries);
+    }
+
+    @Test
+    void entriesWithCrossrefAreCheckedEveryTime() throws JabRefException, IOException {
+        String content = FIRST_ENTRY + SECOND_ENTRY.replace("title", "crossref = {first},\n  title");
+        getDiagnostics(content);
+        checkedEntries.clear();
+
+        getDiagnostics(content);
+
+        assertEquals(List.of("second"), checkedEntries);
+    }
+}
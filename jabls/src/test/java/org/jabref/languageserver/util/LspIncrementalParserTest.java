@@ -0,0 +1,126 @@
+package org.jabref.languageserver.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LspIncrementalParserTest {
+
+    private static final String CONTENT = """
+            @Article{first,
+              title = {First},
+            }
+
+            @Article{second,
+              title = {Second},
+            }
+
+            @Article{third,
+              title = {Third},
+            }
+            """;
+
+    private final LspIncrementalParser incrementalParser = new LspIncrementalParser();
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(mock(BibEntryPreferences.class));
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.filePreferences()).thenReturn(mock(FilePreferences.class));
+    }
+
+    private ParserResult parse(String content) throws IOException {
+        return new BibtexParser(importFormatPreferences).parse(Reader.of(content));
+    }
+
+    private Optional<ParserResult> reparse(String previousContent, String content) throws IOException {
+        return incrementalParser.reparse(parse(previousContent), previousContent, content, importFormatPreferences);
+    }
+
+    /// Asserts that the result has the same entries at the same ranges as a complete parse of the content
+    private void assertSameAsCompleteParse(String content, ParserResult reparsed) throws IOException {
+        ParserResult expected = parse(content);
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> actualEntries = reparsed.getDatabase().getEntries();
+        assertEquals(expectedEntries, actualEntries);
+        for (int i = 0; i < expectedEntries.size(); i++) {
+            BibEntry expectedEntry = expectedEntries.get(i);
+            BibEntry actualEntry = actualEntries.get(i);
+            assertEquals(expectedEntry.getParsedSerialization(), actualEntry.getParsedSerialization());
+            assertEquals(expected.getArticleRanges().get(expectedEntry), reparsed.getArticleRanges().get(actualEntry));
+            assertEquals(expected.getFieldRanges().get(expectedEntry), reparsed.getFieldRanges().get(actualEntry));
+        }
+        assertEquals(expected.getWarningsMap(), reparsed.getWarningsMap());
+    }
+
+    @Test
+    void changedFieldIsReparsed() throws IOException {
+        String content = CONTENT.replace("{Second}", "{Changed second}");
+
+        ParserResult reparsed = reparse(CONTENT, content).orElseThrow();
+
+        assertSameAsCompleteParse(content, reparsed);
+        assertEquals(Optional.of("Changed second"), reparsed.getDatabase().getEntries().get(1).getField(StandardField.TITLE));
+    }
+
+    @Test
+    void entriesAfterAddedLinesAreMoved() throws IOException {
+        String content = CONTENT.replace("{Second},", "{Second},\n  year = {2000},\n  note = {Note},");
+
+        assertSameAsCompleteParse(content, reparse(CONTENT, content).orElseThrow());
+    }
+
+    @Test
+    void entryAddedBetweenEntriesIsParsed() throws IOException {
+        String content = CONTENT.replace("@Article{third", "@Book{inserted,\n  title = {Inserted},\n}\n\n@Article{third");
+
+        ParserResult reparsed = reparse(CONTENT, content).orElseThrow();
+
+        assertSameAsCompleteParse(content, reparsed);
+        assertEquals(4, reparsed.getDatabase().getEntries().size());
+    }
+
+    @Test
+    void warningsAfterTheChangeAreMoved() throws IOException {
+        String previousContent = CONTENT + "\n@Article{broken,\n  title = {Broken\n";
+        String content = previousContent.replace("{Second},", "{Second},\n  year = {2000},");
+
+        assertSameAsCompleteParse(content, reparse(previousContent, content).orElseThrow());
+    }
+
+    @Test
+    void changeOfFirstEntryNeedsCompleteParse() throws IOException {
+        assertTrue(reparse(CONTENT, CONTENT.replace("{First}", "{Changed first}")).isEmpty());
+    }
+
+    @Test
+    void changeOfStringNeedsCompleteParse() throws IOException {
+        String previousContent = CONTENT.replace("@Article{second", "@String{name = {Name}}\n\n@Article{second");
+
+        assertTrue(reparse(previousContent, previousContent.replace("{Name}", "{Other name}")).isEmpty());
+    }
+
+    @Test
+    void unbalancedBracesNeedCompleteParse() throws IOException {
+        assertTrue(reparse(CONTENT, CONTENT.replace("{Second}", "{Second")).isEmpty());
+    }
+}
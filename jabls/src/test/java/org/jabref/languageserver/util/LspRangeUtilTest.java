@@ -0,0 +1,48 @@
+package org.jabref.languageserver.util;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LspRangeUtilTest {
+
+    private static final String CONTENT = """
+            @Article{key,
+              title = {Title},
+            }
+            """;
+
+    @Test
+    void applyContentChangesReplacesRange() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(new Position(1, 11), new Position(1, 16)), "Other");
+
+        assertEquals("""
+                @Article{key,
+                  title = {Other},
+                }
+                """, LspRangeUtil.applyContentChanges(CONTENT, List.of(change)));
+    }
+
+    @Test
+    void applyContentChangesAppliesChangesInOrder() {
+        TextDocumentContentChangeEvent insertLine = new TextDocumentContentChangeEvent(new Range(new Position(1, 0), new Position(1, 0)), "  year = {2024},\n");
+        // refers to the content after inserting the line
+        TextDocumentContentChangeEvent removeTitle = new TextDocumentContentChangeEvent(new Range(new Position(2, 0), new Position(3, 0)), "");
+
+        assertEquals("""
+                @Article{key,
+                  year = {2024},
+                }
+                """, LspRangeUtil.applyContentChanges(CONTENT, List.of(insertLine, removeTitle)));
+    }
+
+    @Test
+    void applyContentChangesWithoutRangeReplacesContent() {
+        assertEquals("@Misc{other}", LspRangeUtil.applyContentChanges(CONTENT, List.of(new TextDocumentContentChangeEvent("@Misc{other}"))));
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.jabref.architecture.AllowedToUseStandardStreams;
+import org.jabref.http.server.ExecutionMode;
 import org.jabref.http.server.Server;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 
@@ -32,6 +33,12 @@ public class ServerCli implements Callable<Void> {
     @CommandLine.Option(names = {"-p", "--port"}, description = "the port")
     private Integer port = 23119;
 
+    @CommandLine.Option(names = {"--execution-mode"}, description = "the threads processing the requests: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})")
+    private ExecutionMode executionMode = ExecutionMode.WORKER_THREADS;
+
+    @CommandLine.Option(names = {"--max-requests-per-library"}, description = "the maximum number of requests processed at the same time for a library when using virtual threads (default: ${DEFAULT-VALUE})")
+    private int maxRequestsPerLibrary = Server.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY;
+
     /// Starts an http server serving the last files opened in JabRef<br>
     /// More files can be provided as args.
     ///
@@ -76,7 +83,7 @@ public class ServerCli implements Callable<Void> {
             return null;
         }
 
-        Server server = new Server(JabRefCliPreferences.getInstance());
+        Server server = new Server(JabRefCliPreferences.getInstance(), executionMode, maxRequestsPerLibrary);
         HttpServer httpServer = server.run(filesToServe, uri);
 
         // Keep the http server running until user kills the process (e.g., presses Ctrl+C)
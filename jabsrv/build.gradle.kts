@@ -10,6 +10,7 @@ testModuleInfo {
     requires("org.mockito")
     requires("org.glassfish.jersey.tests.framework.core")
     requires("jul.to.slf4j")
+    requires("java.net.http")
     runtimeOnly("org.glassfish.jersey.tests.framework.provider.grizzly")
     runtimeOnly("org.tinylog.api")
     runtimeOnly("org.tinylog.impl")
@@ -17,6 +18,9 @@ testModuleInfo {
 }
 
 tasks.test {
+    useJUnitPlatform {
+        excludeTags("LoadTest")
+    }
     testLogging {
         // set options for log level LIFECYCLE
         events("FAILED")
@@ -24,3 +28,21 @@ tasks.test {
     }
     maxParallelForks = 1
 }
+
+val testSourceSet = sourceSets.test.get()
+
+tasks.register<Test>("loadTest") {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "Measures throughput and latency of the HTTP server under concurrent load"
+    testClassesDirs = testSourceSet.output.classesDirs
+    classpath = testSourceSet.runtimeClasspath
+    useJUnitPlatform {
+        includeTags("LoadTest")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    // Measurements should not be skipped because nothing changed
+    outputs.upToDateWhen { false }
+    maxParallelForks = 1
+}
@@ -2,6 +2,9 @@ package org.jabref.http.dto;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -11,6 +14,8 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
 
 import com.google.common.base.MoreObjects;
 import org.slf4j.Logger;
@@ -30,16 +35,42 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
         this(bibEntry.getSharedBibEntryData(),
                 bibEntry.getUserComments(),
                 bibEntry.getCitationKey().orElse(""),
-                convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
+                convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager, false)
         );
     }
 
-    private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+    /// Creates a DTO whose BibTeX string contains the citation key and the given fields only
+    public static BibEntryDTO withFields(BibEntry bibEntry, Collection<Field> fields, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+        Map<Field, String> selectedFields = new LinkedHashMap<>();
+        bibEntry.getCitationKey().ifPresent(citationKey -> selectedFields.put(InternalField.KEY_FIELD, citationKey));
+        for (Field field : fields) {
+            bibEntry.getField(field).ifPresent(value -> selectedFields.put(field, value));
+        }
+        BibEntry selection = new BibEntry(bibEntry.getType()).withFields(selectedFields);
+        return new BibEntryDTO(bibEntry.getSharedBibEntryData(),
+                bibEntry.getUserComments(),
+                bibEntry.getCitationKey().orElse(""),
+                // The selection has no serialization of its own, thus it is always formatted
+                convertToString(selection, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager, true)
+        );
+    }
+
+    /// Returns a copy of this DTO having the given shared id. The entry the DTO was created from is not changed.
+    ///
+    /// Used to identify entries of libraries without a shared database, which are shared between requests and must not be changed.
+    public BibEntryDTO withSharedID(int sharedID) {
+        SharedBibEntryData sharedBibEntryData = new SharedBibEntryData();
+        sharedBibEntryData.setSharedID(sharedID);
+        sharedBibEntryData.setVersion(sharingMetadata.getVersion());
+        return new BibEntryDTO(sharedBibEntryData, userComments, citationKey, bibtex);
+    }
+
+    private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager, boolean reformat) {
         StringWriter rawEntry = new StringWriter();
         BibWriter bibWriter = new BibWriter(rawEntry, "\n");
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldWriterPreferences), bibEntryTypesManager);
         try {
-            bibtexEntryWriter.write(entry, bibWriter, bibDatabaseMode);
+            bibtexEntryWriter.write(entry, bibWriter, bibDatabaseMode, reformat);
         } catch (IOException e) {
             LOGGER.warn("Problem creating BibTeX entry.", e);
             return "error";
@@ -0,0 +1,13 @@
+package org.jabref.http.server;
+
+/// Determines the threads processing the requests of the HTTP server
+public enum ExecutionMode {
+    /// Requests are processed by the worker thread pool of Grizzly.
+    /// Requests blocking on file reads or parsing occupy a worker thread, so that only a few of them are processed at the same time.
+    WORKER_THREADS,
+
+    /// Each request is processed by its own virtual thread.
+    /// Blocked requests do not occupy a platform thread. Thus, many concurrent requests, e.g., from citation plugins, do not wait for each other.
+    /// The number of requests processed at the same time for a single library is bounded (see [LibraryConcurrencyFilter]).
+    VIRTUAL_THREADS
+}
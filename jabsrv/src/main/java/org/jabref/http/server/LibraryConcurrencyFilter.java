@@ -0,0 +1,85 @@
+package org.jabref.http.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.ext.Provider;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/// Bounds the number of requests processed at the same time for each library.
+///
+/// With [ExecutionMode#VIRTUAL_THREADS], no worker pool limits the number of concurrent requests.
+/// Without a bound, many concurrent requests would, e.g., convert the same large library at the same time and exhaust the memory.
+/// Requests exceeding the bound wait until a request for the same library finished. Waiting blocks a virtual thread only.
+///
+/// The library is determined by the path parameter `id`, as used by the resources below `libraries/{id}`.
+/// Only served libraries are limited. Requests to other ids are not limited, because they are answered with "not found" right away.
+/// Thus, the permits do not grow with the ids sent by clients.
+///
+/// A request counts until its response was written completely, because large responses are converted while they are written (see [jakarta.ws.rs.core.StreamingOutput]).
+/// Thus, the permit is released on the [RequestEvent.Type#FINISHED] event, and not by a response filter, which runs before the response is written.
+@Provider
+public class LibraryConcurrencyFilter implements ContainerRequestFilter, ApplicationEventListener {
+
+    private static final String PERMIT_PROPERTY = LibraryConcurrencyFilter.class.getName() + ".permit";
+
+    private final int maxConcurrentRequests;
+    private final Predicate<String> isServedLibrary;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /// @param isServedLibrary tells whether there is a library with the given id
+    public LibraryConcurrencyFilter(int maxConcurrentRequests, Predicate<String> isServedLibrary) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("The number of concurrent requests must be positive");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.isServedLibrary = isServedLibrary;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String libraryId = requestContext.getUriInfo().getPathParameters().getFirst("id");
+        if (libraryId == null) {
+            return;
+        }
+        Semaphore semaphore = permits.get(libraryId);
+        if (semaphore == null) {
+            if (!isServedLibrary.test(libraryId)) {
+                return;
+            }
+            semaphore = permits.computeIfAbsent(libraryId, _ -> new Semaphore(maxConcurrentRequests, true));
+        }
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for other requests to library " + libraryId);
+        }
+        requestContext.setProperty(PERMIT_PROPERTY, semaphore);
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // nothing to do
+    }
+
+    /// Finished is also reported if the request failed or the response could not be written, e.g., because the client disconnected
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return event -> {
+            if (event.getType() == RequestEvent.Type.FINISHED
+                    && event.getContainerRequest().getProperty(PERMIT_PROPERTY) instanceof Semaphore semaphore) {
+                event.getContainerRequest().removeProperty(PERMIT_PROPERTY);
+                semaphore.release();
+            }
+        };
+    }
+}
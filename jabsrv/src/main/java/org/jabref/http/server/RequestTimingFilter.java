@@ -0,0 +1,42 @@
+package org.jabref.http.server;
+
+import java.util.Locale;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Measures the time from receiving a request until its response is created.
+///
+/// The duration is logged and sent in the `Server-Timing` header, so that it is shown by the developer tools of browsers and can be evaluated by clients.
+/// Writing a streamed response body happens afterwards and is not included.
+@Provider
+@PreMatching
+public class RequestTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestTimingFilter.class);
+
+    private static final String START_PROPERTY = RequestTimingFilter.class.getName() + ".start";
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!(requestContext.getProperty(START_PROPERTY) instanceof Long start)) {
+            return;
+        }
+        double milliseconds = (System.nanoTime() - start) / 1_000_000.0;
+        responseContext.getHeaders().add(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "app;dur=%.1f", milliseconds));
+        LOGGER.debug("{} {} took {} ms", requestContext.getMethod(), requestContext.getUriInfo().getPath(), milliseconds);
+    }
+}
@@ -4,6 +4,8 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.SSLContext;
 
@@ -21,12 +23,17 @@ import org.jabref.http.server.resources.LibraryResource;
 import org.jabref.http.server.resources.MapResource;
 import org.jabref.http.server.resources.RootResource;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.ServerUtils;
 import org.jabref.logic.UiMessageHandler;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 
 import net.harawata.appdirs.AppDirsFactory;
+import org.glassfish.grizzly.Transport;
+import org.glassfish.grizzly.TransportProbe;
 import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
@@ -40,11 +47,22 @@ import org.slf4j.LoggerFactory;
 
 @NullMarked
 public class Server {
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY = Runtime.getRuntime().availableProcessors();
+
     private static final Logger LOGGER = LoggerFactory.getLogger(Server.class);
     private final CliPreferences preferences;
+    private final ExecutionMode executionMode;
+    private final int maxConcurrentRequestsPerLibrary;
 
     public Server(CliPreferences preferences) {
+        this(preferences, ExecutionMode.WORKER_THREADS, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY);
+    }
+
+    /// @param maxConcurrentRequestsPerLibrary bounds the requests processed at the same time for a library. Used with [ExecutionMode#VIRTUAL_THREADS] only.
+    public Server(CliPreferences preferences, ExecutionMode executionMode, int maxConcurrentRequestsPerLibrary) {
         this.preferences = preferences;
+        this.executionMode = executionMode;
+        this.maxConcurrentRequestsPerLibrary = maxConcurrentRequestsPerLibrary;
     }
 
     /// Entry point for the CLI
@@ -71,7 +89,7 @@ public class Server {
         ServiceLocator serviceLocator = ServiceLocatorUtilities.createAndPopulateServiceLocator();
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
         ServiceLocatorUtilities.addOneConstant(serviceLocator, srvStateManager, "statemanager", SrvStateManager.class);
-        HttpServer httpServer = startServer(serviceLocator, uri);
+        HttpServer httpServer = startServer(serviceLocator, filesToServe, srvStateManager, uri);
 
         // Required for CLI only
         // GUI uses HttpServerManager
@@ -104,10 +122,10 @@ public class Server {
             ServiceLocatorUtilities.addOneConstant(serviceLocator, uiMessageHandler, "uimessagehandler", UiMessageHandler.class);
         }
 
-        return startServer(serviceLocator, uri);
+        return startServer(serviceLocator, filesToServe, srvStateManager, uri);
     }
 
-    private HttpServer startServer(ServiceLocator serviceLocator, URI uri) {
+    private HttpServer startServer(ServiceLocator serviceLocator, FilesToServe filesToServe, SrvStateManager srvStateManager, URI uri) {
         ServiceLocatorUtilities.addOneConstant(serviceLocator, new FormatterService());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, preferences, "preferences", CliPreferences.class);
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
@@ -132,11 +150,42 @@ public class Server {
         // Supporting classes
         resourceConfig.register(CORSFilter.class);
         resourceConfig.register(GlobalExceptionMapper.class);
+        resourceConfig.register(RequestTimingFilter.class);
+        if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+            resourceConfig.register(new LibraryConcurrencyFilter(maxConcurrentRequestsPerLibrary, id -> ServerUtils.isServedLibrary(id, filesToServe, srvStateManager)));
+        }
 
         LOGGER.debug("Starting HTTP server...");
 
-        return GrizzlyHttpServerFactory
+        HttpServer httpServer = GrizzlyHttpServerFactory
                 .createHttpServer(uri, resourceConfig, serviceLocator);
+        if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+            useVirtualThreads(httpServer);
+        }
+        return httpServer;
+    }
+
+    /// Replaces the worker thread pools of the server by an executor starting a virtual thread for each request.
+    ///
+    /// The factory starts the server right away. This is no problem, because the transport looks up its worker pool for each request.
+    /// The transport does not shut down a worker pool set from outside. Thus, the executor is shut down when the transport is stopped, i.e., when the server is shut down.
+    private static void useVirtualThreads(HttpServer httpServer) {
+        ExecutorService virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jabsrv-request-", 0).factory());
+        for (NetworkListener listener : httpServer.getListeners()) {
+            TCPNIOTransport transport = listener.getTransport();
+            ExecutorService workerThreadPool = transport.getWorkerThreadPool();
+            transport.setWorkerThreadPool(virtualThreadExecutor);
+            transport.getMonitoringConfig().addProbes(new TransportProbe.Adapter() {
+                @Override
+                public void onStopEvent(Transport stoppedTransport) {
+                    virtualThreadExecutor.shutdown();
+                }
+            });
+            if (workerThreadPool != null) {
+                workerThreadPool.shutdown();
+            }
+        }
+        LOGGER.debug("Processing requests on virtual threads");
     }
 
     private boolean sslCertExists() {
@@ -6,23 +6,40 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.http.SrvStateManager;
+import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.dto.LinkedPdfFileDTO;
+import org.jabref.http.server.services.BibEntryDTOStreamingOutput;
 import org.jabref.http.server.services.FilesToServe;
 import org.jabref.http.server.services.ServerUtils;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.UiMessageHandler;
 import org.jabref.logic.importer.util.MediaTypes;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.InMemoryDatabaseSearcher;
+import org.jabref.logic.util.strings.StringUtil;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.query.SearchQuery;
 
+import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.NotFoundException;
@@ -30,7 +47,12 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.jspecify.annotations.Nullable;
 
 @Path("libraries/{id}/entries")
 public class EntriesResource {
@@ -50,6 +72,96 @@ public class EntriesResource {
     @Inject
     UiMessageHandler uiMessageHandler;
 
+    /// At http://localhost:23119/libraries/{id}/entries
+    ///
+    /// Lists the entries of the library in JSON format, in the order of the library.
+    /// The list is sent while it is created, so that large libraries can be listed without creating the whole response first.
+    ///
+    /// @param query  lists only the entries matching this search expression (same syntax as the search bar). All entries if absent.
+    /// @param fields comma-separated fields to include in the BibTeX of each entry, e.g., `title,author`. All fields if absent.
+    /// @param cursor where to continue listing. Taken from the `next` link of the previous page. If the library changed such that listing cannot continue, the response is 410 (Gone).
+    /// @param limit  the maximum number of entries to list. If more entries match, the response has a `next` link to the following page.
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("query") @Nullable String query,
+                               @QueryParam("fields") @Nullable String fields,
+                               @QueryParam("cursor") @Nullable String cursor,
+                               @QueryParam("limit") @Nullable Integer limit,
+                               @Context UriInfo uriInfo) throws IOException {
+        if ((limit != null) && (limit <= 0)) {
+            throw new BadRequestException("The limit must be positive.");
+        }
+
+        BibDatabaseContext databaseContext = ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, preferences.getImportFormatPreferences());
+        List<BibEntry> libraryEntries = databaseContext.getEntries();
+        int start = cursor == null ? 0 : getPositionAfter(databaseContext.getDatabase(), libraryEntries, cursor);
+        Stream<BibEntry> entries = libraryEntries.subList(start, libraryEntries.size()).stream();
+        if ((query != null) && !query.isBlank()) {
+            SearchQuery searchQuery = new SearchQuery(query);
+            if (!searchQuery.isValid()) {
+                throw new BadRequestException("Invalid search expression: " + query);
+            }
+            InMemoryDatabaseSearcher searcher = new InMemoryDatabaseSearcher(databaseContext.getDatabase(), preferences.getImportFormatPreferences().bibEntryPreferences());
+            entries = entries.filter(searcher.getMatcher(searchQuery));
+        }
+
+        // The entries are collected, because the response is written after returning
+        List<BibEntry> page;
+        Response.ResponseBuilder response = Response.ok();
+        if (limit == null) {
+            page = entries.toList();
+        } else {
+            // One more entry than requested tells whether there is a next page
+            page = entries.limit(limit + 1L).toList();
+            if (page.size() > limit) {
+                page = page.subList(0, limit);
+                response.link(uriInfo.getRequestUriBuilder().replaceQueryParam("cursor", page.getLast().getId()).build(), "next");
+            }
+        }
+
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        Function<BibEntry, BibEntryDTO> toDTO;
+        if ((fields != null) && !fields.isBlank()) {
+            Set<Field> selectedFields = Arrays.stream(fields.split(","))
+                                              .filter(StringUtil::isNotBlank)
+                                              .map(fieldName -> FieldFactory.parseField(fieldName.trim()))
+                                              .collect(Collectors.toSet());
+            toDTO = entry -> BibEntryDTO.withFields(entry, selectedFields, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager);
+        } else {
+            toDTO = entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager);
+        }
+        // Same sharing data as returned by LibraryResource#getJson
+        Function<BibEntry, BibEntryDTO> toDTOWithSharedId = entry -> toDTO.apply(entry).withSharedID(Objects.hash(entry));
+        return response.entity(new BibEntryDTOStreamingOutput(page, toDTOWithSharedId, gson)).build();
+    }
+
+    /// The cursor is the id of the last entry listed. Thus, no entries before the cursor have to be skipped,
+    /// and listing continues at the right entry even if entries were added or removed before it in the meantime.
+    ///
+    /// Ids are never reused, not even if a library is parsed again after a change of its file.
+    /// Thus, the cursor is not found if its entry was removed or the library was parsed again.
+    ///
+    /// The entries are not ordered by id, so the position of the cursor is looked up by a linear scan.
+    ///
+    /// @return the position of the first entry after the cursor
+    private static int getPositionAfter(BibDatabase database, List<BibEntry> libraryEntries, String cursor) {
+        BibEntry lastListedEntry = database.getEntryById(cursor);
+        int position = -1;
+        if (lastListedEntry != null) {
+            for (int i = 0; i < libraryEntries.size(); i++) {
+                if (libraryEntries.get(i) == lastListedEntry) {
+                    position = i;
+                    break;
+                }
+            }
+        }
+        if (position < 0) {
+            throw new ClientErrorException("The library changed. List the entries from the beginning again.", Response.Status.GONE);
+        }
+        return position + 1;
+    }
+
     @POST
     @Consumes(MediaTypes.APPLICATION_BIBTEX)
     public void addBibtex(@PathParam("id") String id, String bibtex) {
@@ -29,7 +29,10 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,7 +59,7 @@ public class EntryResource {
     /// @return a basic entry preview as plain text
     @GET
     @Produces(MediaType.TEXT_PLAIN + ";charset=UTF-8")
-    public String getPlainRepresentation(@PathParam("id") String id, @PathParam("entryId") String entryId) throws IOException {
+    public Response getPlainRepresentation(@PathParam("id") String id, @PathParam("entryId") String entryId, @Context Request request) throws IOException {
         BibDatabaseContext databaseContext = getDatabaseContext(id);
         List<BibEntry> entriesByCitationKey = databaseContext.getDatabase().getEntriesByCitationKey(entryId);
         if (entriesByCitationKey.isEmpty()) {
@@ -88,7 +91,7 @@ public class EntryResource {
                         + "\nPages: " + pages
                         + "\nReleased on: " + releaseDate;
 
-        return preview;
+        return toResponse(preview, request);
     }
 
     /// At http://localhost:23119/libraries/{id}/entries/{entryId} <br><br>
@@ -102,7 +105,7 @@ public class EntryResource {
     @GET
     @Path("entries/{entryId}")
     @Produces(MediaType.TEXT_HTML + ";charset=UTF-8")
-    public String getHTMLRepresentation(@PathParam("id") String id, @PathParam("entryId") String entryId) throws IOException {
+    public Response getHTMLRepresentation(@PathParam("id") String id, @PathParam("entryId") String entryId, @Context Request request) throws IOException {
         List<BibEntry> entriesByCitationKey = getDatabaseContext(id).getDatabase().getEntriesByCitationKey(entryId);
         if (entriesByCitationKey.isEmpty()) {
             throw new NotFoundException("Entry with citation key '" + entryId + "' not found in library " + id);
@@ -133,7 +136,7 @@ public class EntryResource {
                         "<strong>Pages:</strong> " + pages + "<br>" +
                         "<strong>Released on:</strong> " + releaseDate;
 
-        return preview;
+        return toResponse(preview, request);
     }
 
     @POST
@@ -174,6 +177,7 @@ public class EntryResource {
 
         // 6. Add to entry
         entry.addFile(linkedFile);
+        ServerUtils.libraryChanged(id, filesToServe, srvStateManager);
 
         if (renameSuccessful) {
             return Response.noContent().build();
@@ -182,6 +186,16 @@ public class EntryResource {
         }
     }
 
+    /// The preview is tagged by its content. Thus, a client already having the current preview gets no body.
+    private Response toResponse(String preview, Request request) {
+        EntityTag entityTag = ServerUtils.getEntityTag(preview);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(preview).tag(entityTag).build();
+    }
+
     /// @param id - also "demo" for the Chocolate.bib file
     private BibDatabaseContext getDatabaseContext(String id) throws IOException {
         return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, preferences.getImportFormatPreferences());
@@ -5,16 +5,19 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.SrvStateManager;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.server.services.BibEntryDTOStreamingOutput;
 import org.jabref.http.server.services.FilesToServe;
 import org.jabref.http.server.services.ServerUtils;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
 import com.airhacks.afterburner.injection.Injector;
@@ -25,7 +28,10 @@ import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.jspecify.annotations.Nullable;
@@ -55,28 +61,41 @@ public class LibraryResource {
     /// @throws IOException
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) throws IOException {
+    public Response getJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        Optional<EntityTag> entityTag = ServerUtils.getEntityTagOfLibraryFile(id, "json", filesToServe, srvStateManager);
+        Optional<Response> notModified = entityTag.map(request::evaluatePreconditions).map(Response.ResponseBuilder::build);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         BibDatabaseContext databaseContext = getDatabaseContext(id);
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = databaseContext.getDatabase().getEntries().stream()
-                                                .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                                .map(entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                                .toList();
-        return gson.toJson(list);
+        // The entries are copied, because the response is written after returning
+        List<BibEntry> entries = List.copyOf(databaseContext.getDatabase().getEntries());
+        BibEntryDTOStreamingOutput output = new BibEntryDTOStreamingOutput(entries, bibEntry ->
+                new BibEntryDTO(bibEntry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager)
+                        .withSharedID(Objects.hash(bibEntry)), gson);
+        return Response.ok(output).tag(entityTag.orElse(null)).build();
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) throws IOException {
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        Optional<EntityTag> entityTag = ServerUtils.getEntityTagOfLibraryFile(id, "csl", filesToServe, srvStateManager);
+        Optional<Response> notModified = entityTag.map(request::evaluatePreconditions).map(Response.ResponseBuilder::build);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         BibDatabaseContext databaseContext = getDatabaseContext(id);
         JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
         jabRefItemDataProvider.setData(databaseContext, new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+        return Response.ok(jabRefItemDataProvider.toJson()).tag(entityTag.orElse(null)).build();
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         if ("demo".equals(id)) {
             StreamingOutput stream = output -> {
                 try (InputStream in = getChocolateBibAsStream()) {
@@ -91,16 +110,24 @@ public class LibraryResource {
         }
 
         java.nio.file.Path library = ServerUtils.getLibraryPath(id, filesToServe, srvStateManager);
-        String libraryAsString;
+        EntityTag entityTag;
         try {
-            libraryAsString = Files.readString(library);
+            // Determined before reading, so that a change in between leads to a different tag on the next request
+            entityTag = ServerUtils.getEntityTag(library, "bibtex");
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return Response.ok()
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        // The file is sent as it is read instead of reading it into memory first
+        StreamingOutput stream = output -> Files.copy(library, output);
+        return Response.ok(stream)
                        .header("Content-Disposition", "attachment; filename=\"" + library.getFileName() + "\"")
-                       .entity(libraryAsString)
+                       .tag(entityTag)
                        .build();
     }
 
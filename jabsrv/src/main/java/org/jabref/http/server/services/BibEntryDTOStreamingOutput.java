@@ -0,0 +1,46 @@
+package org.jabref.http.server.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/// Writes entries as JSON array of [BibEntryDTO]s.
+///
+/// Each DTO is serialized as soon as it is created instead of collecting all of them in one string first.
+/// Thus, the DTOs of a large library are not kept in memory at once, and the client receives the first entries while later ones are converted.
+public class BibEntryDTOStreamingOutput implements StreamingOutput {
+
+    private final List<BibEntry> entries;
+    private final Function<BibEntry, BibEntryDTO> toDTO;
+    private final Gson gson;
+
+    /// @param entries the entries to write. As the response is written after the resource method returned, the list must not change anymore.
+    public BibEntryDTOStreamingOutput(List<BibEntry> entries, Function<BibEntry, BibEntryDTO> toDTO, Gson gson) {
+        this.entries = entries;
+        this.toDTO = toDTO;
+        this.gson = gson;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        // The stream is closed by Jersey
+        JsonWriter jsonWriter = gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        jsonWriter.beginArray();
+        for (BibEntry entry : entries) {
+            gson.toJson(toDTO.apply(entry), BibEntryDTO.class, jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+}
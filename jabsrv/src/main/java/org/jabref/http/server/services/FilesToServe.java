@@ -9,8 +9,11 @@ import jakarta.inject.Singleton;
 public class FilesToServe {
     private List<Path> filesToServe;
 
+    private final LibraryCache libraryCache = new LibraryCache();
+
     public void setFilesToServe(List<Path> filesToServe) {
         this.filesToServe = filesToServe;
+        libraryCache.clear();
     }
 
     public List<Path> getFilesToServe() {
@@ -20,4 +23,9 @@ public class FilesToServe {
     public boolean isEmpty() {
         return filesToServe == null || filesToServe.isEmpty();
     }
+
+    /// @return the parsed versions of the files to serve
+    public LibraryCache getLibraryCache() {
+        return libraryCache;
+    }
 }
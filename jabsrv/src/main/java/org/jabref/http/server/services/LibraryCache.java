@@ -0,0 +1,87 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+/// Keeps the libraries served in standalone mode parsed, so that a library is not parsed again for each request.
+///
+/// On each access, the size and the modification time of the file are compared to the ones of the parsed version.
+/// If the file was changed in the meantime, it is parsed again.
+/// A library is parsed only once, even if several requests ask for it at the same time.
+///
+/// The returned contexts are shared by all requests. Thus, requests must not change them.
+/// A request changing a library anyway has to [invalidate][#invalidate(Path)] it afterwards.
+public class LibraryCache {
+
+    /// @param databaseContext completed when the library is parsed
+    private record ParsedLibrary(CompletableFuture<BibDatabaseContext> databaseContext, FileVersion version) {
+    }
+
+    private final Map<Path, ParsedLibrary> libraries = new ConcurrentHashMap<>();
+
+    /// The library is parsed outside of the map, so that requests for other libraries are not blocked in the meantime.
+    /// Requests for the same library wait for the parsing request to complete.
+    ///
+    /// @return the parsed library, which must not be changed
+    public BibDatabaseContext get(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        FileVersion version = FileVersion.of(library);
+        ParsedLibrary newLibrary = new ParsedLibrary(new CompletableFuture<>(), version);
+        ParsedLibrary parsedLibrary = libraries.compute(library, (_, currentLibrary) ->
+                ((currentLibrary != null) && currentLibrary.version().equals(version)) ? currentLibrary : newLibrary);
+        if (parsedLibrary == newLibrary) {
+            BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+            try {
+                newLibrary.databaseContext().complete(bibtexImporter.importDatabase(library).getDatabaseContext());
+            } catch (IOException | RuntimeException e) {
+                // Waiting requests fail as well, later requests try again
+                libraries.remove(library, newLibrary);
+                newLibrary.databaseContext().completeExceptionally(e);
+            }
+        }
+        try {
+            return parsedLibrary.databaseContext().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /// Drops the parsed version of the given library, so that it is parsed again on the next access
+    public void invalidate(Path library) {
+        libraries.remove(library);
+    }
+
+    public void clear() {
+        libraries.clear();
+    }
+
+    /// Identifies a version of a file by its size and its modification time
+    public record FileVersion(long size, long lastModified) {
+
+        public static FileVersion of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileVersion(attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+
+        /// @return a value usable as HTTP entity tag of the given representation of the file
+        public String toEntityTagValue(String representation) {
+            return Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "-" + representation;
+        }
+    }
+}
@@ -6,6 +6,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
 
 import org.jabref.http.JabRefSrvStateManager;
 import org.jabref.http.SrvStateManager;
@@ -18,6 +22,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.EntityTag;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,11 +57,34 @@ public class ServerUtils {
         }
     }
 
+    /// @return true if [#getBibDatabaseContext(String, FilesToServe, SrvStateManager, ImportFormatPreferences)] finds a library for the given id
+    public static boolean isServedLibrary(String id, FilesToServe filesToServe, SrvStateManager srvStateManager) {
+        if ("demo".equals(id)) {
+            return true;
+        }
+
+        if (!(srvStateManager instanceof JabRefSrvStateManager)) {
+            // GUI mode
+            return "current".equals(id)
+                    || srvStateManager.getOpenDatabases().stream()
+                                      .filter(context -> context.getDatabasePath().isPresent())
+                                      .map(context -> context.getDatabasePath().get())
+                                      .anyMatch(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id));
+        }
+
+        return !filesToServe.isEmpty()
+                && filesToServe.getFilesToServe().stream()
+                               .anyMatch(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id));
+    }
+
+    /// In standalone mode, the returned library is shared by all requests reading the same library file.
+    /// A request changing it has to call [#libraryChanged(String, FilesToServe, SrvStateManager)] afterwards.
+    ///
     /// @param id - also "demo" for the demo library
     /// @throws NotFoundException if no file with the given id is found in either filesToServe or contextsToServe
     public static @NonNull BibDatabaseContext getBibDatabaseContext(String id, FilesToServe filesToServe, SrvStateManager srvStateManager, ImportFormatPreferences importFormatPreferences) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
         if ("demo".equals(id)) {
+            BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
             try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream("/Chocolate.bib")) {
                 BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
                 return bibtexImporter.importDatabase(reader).getDatabaseContext();
@@ -82,10 +110,46 @@ public class ServerUtils {
 
         Path library = getLibraryPath(id, filesToServe);
         try {
-            return bibtexImporter.importDatabase(library).getDatabaseContext();
+            return filesToServe.getLibraryCache().get(library, importFormatPreferences);
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
     }
+
+    /// Has to be called after a request changed the library returned by [#getBibDatabaseContext(String, FilesToServe, SrvStateManager, ImportFormatPreferences)].
+    /// In standalone mode, the library is shared by the requests. Thus, the next request gets a freshly parsed library again.
+    public static void libraryChanged(String id, FilesToServe filesToServe, SrvStateManager srvStateManager) {
+        if (!"demo".equals(id) && (srvStateManager instanceof JabRefSrvStateManager)) {
+            filesToServe.getLibraryCache().invalidate(getLibraryPath(id, filesToServe));
+        }
+    }
+
+    /// @param representation distinguishes the representations of the same library, such as "json" or "bibtex"
+    /// @return an entity tag changing whenever the library file is changed
+    public static EntityTag getEntityTag(Path library, String representation) throws IOException {
+        return new EntityTag(LibraryCache.FileVersion.of(library).toEntityTagValue(representation));
+    }
+
+    /// In GUI mode, the open library may contain changes not yet saved to the file. Thus, it cannot be tagged by the file.
+    ///
+    /// @return an entity tag of the library returned by [#getBibDatabaseContext(String, FilesToServe, SrvStateManager, ImportFormatPreferences)], if the library is read from a file
+    public static Optional<EntityTag> getEntityTagOfLibraryFile(String id, String representation, FilesToServe filesToServe, SrvStateManager srvStateManager) throws IOException {
+        if ("demo".equals(id) || !(srvStateManager instanceof JabRefSrvStateManager)) {
+            return Optional.empty();
+        }
+        return Optional.of(getEntityTag(getLibraryPath(id, filesToServe), representation));
+    }
+
+    /// @return an entity tag derived from the given response body
+    public static EntityTag getEntityTag(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return new EntityTag(HexFormat.of().formatHex(digest, 0, 16));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package org.jabref.http.server;
+
+import java.util.List;
+
+import org.jabref.http.server.resources.EntriesResource;
+import org.jabref.logic.UiMessageHandler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Link;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class EntriesResourceTest extends ServerTest {
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(EntriesResource.class);
+        addFilesToServeToResourceConfig(resourceConfig);
+        addGuiBridgeToResourceConfig(resourceConfig);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(mock(UiMessageHandler.class)).to(UiMessageHandler.class);
+            }
+        });
+        return resourceConfig.getApplication();
+    }
+
+    private static JsonArray parse(Response response) {
+        return JsonParser.parseString(response.readEntity(String.class)).getAsJsonArray();
+    }
+
+    private static List<String> getCitationKeys(JsonArray entries) {
+        return entries.asList().stream()
+                      .map(JsonElement::getAsJsonObject)
+                      .map(entry -> entry.get("citationKey").getAsString())
+                      .toList();
+    }
+
+    @Test
+    void getEntries() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(List.of("Author2023test"), getCitationKeys(parse(response)));
+        assertNull(response.getLink("next"));
+    }
+
+    @Test
+    void getEntriesPageByPage() {
+        Response firstPage = target("/libraries/demo/entries").queryParam("limit", 2).request(MediaType.APPLICATION_JSON).get();
+        assertEquals(List.of("Corti_2009", "Cooper_2007"), getCitationKeys(parse(firstPage)));
+
+        Link next = firstPage.getLink("next");
+        assertNotNull(next);
+        Response secondPage = client().target(next).request(MediaType.APPLICATION_JSON).get();
+        assertEquals(List.of("Ding_2006", "Keen_2001"), getCitationKeys(parse(secondPage)));
+    }
+
+    @Test
+    void unknownCursorIsGone() {
+        Response response = target("/libraries/demo/entries").queryParam("limit", 2).queryParam("cursor", "unknown").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.GONE.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getEntriesMatchingQuery() {
+        Response response = target("/libraries/demo/entries").queryParam("query", "author = Corti").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(List.of("Corti_2009"), getCitationKeys(parse(response)));
+    }
+
+    @Test
+    void getEntriesWithSelectedFields() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").queryParam("fields", "title,year").request(MediaType.APPLICATION_JSON).get();
+
+        String bibtex = parse(response).get(0).getAsJsonObject().get("bibtex").getAsString();
+        assertTrue(bibtex.contains("Author2023test"));
+        assertTrue(bibtex.contains("Demo Title"));
+        assertTrue(bibtex.contains("2023"));
+        assertFalse(bibtex.contains("Demo Author"));
+    }
+
+    @Test
+    void invalidQueryIsRejected() {
+        Response response = target("/libraries/demo/entries").queryParam("query", "title = (").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void invalidLimitIsRejected() {
+        Response response = target("/libraries/demo/entries").queryParam("limit", 0).request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+}
@@ -0,0 +1,99 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LibraryConcurrencyFilterTest extends ServerTest {
+
+    // Assigned in configure(), which is called by the constructor of the super class. Thus, no initializer.
+    private StreamingResource resource;
+
+    @Override
+    protected Application configure() {
+        resource = new StreamingResource();
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig.register(resource);
+        resourceConfig.register(new LibraryConcurrencyFilter(1, Set.of("library", "otherLibrary")::contains));
+        return resourceConfig.getApplication();
+    }
+
+    /// Streams the response of the first request until it is allowed to finish
+    @Path("libraries/{id}/stream")
+    public static class StreamingResource {
+
+        private final AtomicInteger requests = new AtomicInteger();
+        private final CountDownLatch firstIsWriting = new CountDownLatch(1);
+        private final CountDownLatch firstMayFinish = new CountDownLatch(1);
+        private final CountDownLatch secondIsProcessed = new CountDownLatch(1);
+
+        @GET
+        public StreamingOutput get() {
+            if (requests.incrementAndGet() > 1) {
+                secondIsProcessed.countDown();
+                return output -> output.write("second".getBytes(StandardCharsets.UTF_8));
+            }
+            return output -> {
+                output.write("first".getBytes(StandardCharsets.UTF_8));
+                output.flush();
+                firstIsWriting.countDown();
+                try {
+                    firstMayFinish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            };
+        }
+    }
+
+    @Test
+    void requestWaitsWhileResponseOfOtherRequestIsWritten() throws Exception {
+        Future<String> first = target("libraries/library/stream").request().async().get(String.class);
+        assertTrue(resource.firstIsWriting.await(10, TimeUnit.SECONDS));
+
+        Future<String> second = target("libraries/library/stream").request().async().get(String.class);
+        assertFalse(resource.secondIsProcessed.await(500, TimeUnit.MILLISECONDS));
+
+        resource.firstMayFinish.countDown();
+        assertEquals("first", first.get(10, TimeUnit.SECONDS));
+        assertEquals("second", second.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void requestsToOtherLibrariesDoNotWait() throws Exception {
+        Future<String> first = target("libraries/library/stream").request().async().get(String.class);
+        assertTrue(resource.firstIsWriting.await(10, TimeUnit.SECONDS));
+
+        assertEquals("second", target("libraries/otherLibrary/stream").request().get(String.class));
+
+        resource.firstMayFinish.countDown();
+        assertEquals("first", first.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void requestsToUnservedLibrariesAreNotLimited() throws Exception {
+        Future<String> first = target("libraries/unserved/stream").request().async().get(String.class);
+        assertTrue(resource.firstIsWriting.await(10, TimeUnit.SECONDS));
+
+        assertEquals("second", target("libraries/unserved/stream").request().get(String.class));
+
+        resource.firstMayFinish.countDown();
+        assertEquals("first", first.get(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,221 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.http.JabrefMediaType;
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.LastFilesOpenedPreferences;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.entry.BibEntryPreferences;
+
+import jakarta.ws.rs.core.MediaType;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Measures throughput and latency of the main endpoints under concurrent load.
+///
+/// The server is started locally and requested via the loopback interface only.
+/// The served library is generated, and the requests are chosen by a fixed seed. Thus, runs are comparable to each other.
+/// The results are logged per endpoint and execution mode.
+///
+/// Not run with the other tests. Run it using `./gradlew :jabsrv:loadTest`.
+@Tag("LoadTest")
+class ServerLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServerLoadTest.class);
+
+    private static final int NUMBER_OF_ENTRIES = 5_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int CONCURRENT_CLIENTS = 64;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int MEASURED_REQUESTS = 2_000;
+    private static final long SEED = 42;
+
+    @TempDir
+    private static Path tempDir;
+
+    private static Path library;
+    private static String libraryId;
+    private static CliPreferences preferences;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        library = tempDir.resolve("load-test.bib");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            content.append("""
+                    @Article{key%1$d,
+                      author  = {Author%2$d, First and Other%3$d, Second},
+                      title   = {Title number %1$d about topic%2$d},
+                      journal = {Journal %3$d},
+                      year    = {%4$d},
+                    }
+
+                    """.formatted(i, i % 100, i % 37, 1950 + (i % 75)));
+        }
+        Files.writeString(library, content);
+        libraryId = library.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(library);
+        preferences = createPreferences();
+    }
+
+    private static CliPreferences createPreferences() {
+        CliPreferences preferences = mock(CliPreferences.class);
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class);
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        FieldPreferences fieldPreferences = new FieldPreferences(false, List.of(), List.of());
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        when(preferences.getFieldPreferences()).thenReturn(fieldPreferences);
+        LastFilesOpenedPreferences lastFilesOpenedPreferences = mock(LastFilesOpenedPreferences.class);
+        when(preferences.getLastFilesOpenedPreferences()).thenReturn(lastFilesOpenedPreferences);
+        when(lastFilesOpenedPreferences.getLastFilesOpened()).thenReturn(FXCollections.emptyObservableList());
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(importFormatPreferences.filePreferences()).thenReturn(filePreferences);
+        return preferences;
+    }
+
+    /// An endpoint to measure
+    ///
+    /// @param request creates the i-th request to the endpoint
+    private record Endpoint(String name, IntFunction<HttpRequest> request) {
+    }
+
+    /// @param pageUris the URIs of all pages of the entries, each having [#PAGE_SIZE] entries
+    private static List<Endpoint> getEndpoints(URI baseUri, List<URI> pageUris) {
+        Random random = new Random(SEED);
+        int[] keys = random.ints(MEASURED_REQUESTS + WARMUP_REQUESTS, 0, NUMBER_OF_ENTRIES).toArray();
+        URI libraryUri = getLibraryUri(baseUri);
+        return List.of(
+                new Endpoint("libraries", _ -> get(baseUri.resolve("libraries"), MediaType.APPLICATION_JSON)),
+                new Endpoint("library as JSON", _ -> get(libraryUri, MediaType.APPLICATION_JSON)),
+                new Endpoint("library as BibTeX", _ -> get(libraryUri, JabrefMediaType.BIBTEX)),
+                new Endpoint("entries page", i -> get(pageUris.get(keys[i] / PAGE_SIZE), MediaType.APPLICATION_JSON)),
+                new Endpoint("entries search", i -> get(URI.create(libraryUri + "/entries?limit=50&query=author%3DAuthor" + (keys[i] % 100)), MediaType.APPLICATION_JSON)),
+                new Endpoint("entry", i -> get(URI.create(libraryUri + "/entries/key" + keys[i]), MediaType.TEXT_PLAIN)));
+    }
+
+    private static URI getLibraryUri(URI baseUri) {
+        return baseUri.resolve("libraries/" + libraryId);
+    }
+
+    /// The pages are reached by following the `next` links only, because the cursors are determined by the server
+    private static List<URI> getPageUris(HttpClient httpClient, URI baseUri) throws IOException, InterruptedException {
+        List<URI> pageUris = new ArrayList<>();
+        Optional<URI> pageUri = Optional.of(URI.create(getLibraryUri(baseUri) + "/entries?limit=" + PAGE_SIZE));
+        while (pageUri.isPresent()) {
+            pageUris.add(pageUri.get());
+            HttpResponse<Void> response = httpClient.send(get(pageUri.get(), MediaType.APPLICATION_JSON), HttpResponse.BodyHandlers.discarding());
+            // Format: <uri>; rel="next"
+            pageUri = response.headers().firstValue("Link").map(link -> URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>'))));
+        }
+        return pageUris;
+    }
+
+    private static HttpRequest get(URI uri, String mediaType) {
+        return HttpRequest.newBuilder(uri).header("Accept", mediaType).GET().build();
+    }
+
+    @Test
+    void measureEndpoints() throws Exception {
+        for (ExecutionMode executionMode : ExecutionMode.values()) {
+            measureEndpoints(executionMode);
+        }
+    }
+
+    private static void measureEndpoints(ExecutionMode executionMode) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        URI baseUri = URI.create("http://localhost:" + port + "/");
+        HttpServer httpServer = new Server(preferences, executionMode, Server.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_LIBRARY)
+                .run(List.of(library), baseUri);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            for (Endpoint endpoint : getEndpoints(baseUri, getPageUris(httpClient, baseUri))) {
+                run(httpClient, clients, endpoint, 0, WARMUP_REQUESTS);
+                long start = System.nanoTime();
+                long[] latencies = run(httpClient, clients, endpoint, WARMUP_REQUESTS, MEASURED_REQUESTS);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                report(executionMode, endpoint, latencies, seconds);
+            }
+        } finally {
+            httpServer.shutdownNow();
+        }
+    }
+
+    /// Sends the requests by [#CONCURRENT_CLIENTS] clients at the same time
+    ///
+    /// @return the latency of each request in nanoseconds
+    private static long[] run(HttpClient httpClient, ExecutorService clients, Endpoint endpoint, int firstRequest, int numberOfRequests) throws Exception {
+        long[] latencies = new long[numberOfRequests];
+        AtomicInteger nextRequest = new AtomicInteger();
+        List<Future<?>> runningClients = new ArrayList<>();
+        for (int client = 0; client < CONCURRENT_CLIENTS; client++) {
+            runningClients.add(clients.submit(() -> {
+                for (int i = nextRequest.getAndIncrement(); i < numberOfRequests; i = nextRequest.getAndIncrement()) {
+                    long start = System.nanoTime();
+                    HttpResponse<byte[]> response = httpClient.send(endpoint.request().apply(firstRequest + i), HttpResponse.BodyHandlers.ofByteArray());
+                    latencies[i] = System.nanoTime() - start;
+                    assertEquals(200, response.statusCode(), () -> endpoint.name() + ": " + new String(response.body()));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> runningClient : runningClients) {
+            runningClient.get();
+        }
+        return latencies;
+    }
+
+    private static void report(ExecutionMode executionMode, Endpoint endpoint, long[] latencies, double seconds) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        LOGGER.info(String.format(Locale.ROOT, "%-15s %-18s %8.1f requests/s   p50 %8.2f ms   p99 %8.2f ms",
+                executionMode,
+                endpoint.name(),
+                latencies.length / seconds,
+                percentile(sorted, 0.50) / 1_000_000.0,
+                percentile(sorted, 0.99) / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
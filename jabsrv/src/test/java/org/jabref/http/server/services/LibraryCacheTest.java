@@ -0,0 +1,67 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class LibraryCacheTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final LibraryCache libraryCache = new LibraryCache();
+
+    @TempDir
+    private Path tempDir;
+
+    private Path library;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first, title = {First}}\n");
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws IOException {
+        BibDatabaseContext databaseContext = libraryCache.get(library, importFormatPreferences);
+
+        assertSame(databaseContext, libraryCache.get(library, importFormatPreferences));
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(library);
+        BibDatabaseContext databaseContext = libraryCache.get(library, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{other, title = {Other}}\n");
+        // Same size and modification time are not detected, thus a later modification time is set explicitly
+        Files.setLastModifiedTime(library, FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+        BibDatabaseContext changedContext = libraryCache.get(library, importFormatPreferences);
+        assertNotSame(databaseContext, changedContext);
+        assertEquals(Optional.of("other"), changedContext.getEntries().getFirst().getCitationKey());
+    }
+
+    @Test
+    void invalidatedLibraryIsParsedAgain() throws IOException {
+        BibDatabaseContext databaseContext = libraryCache.get(library, importFormatPreferences);
+
+        libraryCache.invalidate(library);
+
+        assertNotSame(databaseContext, libraryCache.get(library, importFormatPreferences));
+    }
+}